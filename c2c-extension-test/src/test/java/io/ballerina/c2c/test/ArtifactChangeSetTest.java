@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.ArtifactChangeSet;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for the resources changed since the previous build.
+ */
+public class ArtifactChangeSetTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "change-set");
+    private Path projectDir;
+    private Path changesPath;
+    private String configHash;
+
+    @BeforeClass
+    public void copySources() throws IOException {
+        // The builds edit Cloud.toml and Config.toml, so they run on a copy of the project.
+        projectDir = Files.createTempDirectory("c2c-change-set-");
+        FileUtils.copyDirectory(SOURCE_DIR_PATH.toFile(), projectDir.toFile(),
+                file -> !file.getName().equals("target") && !file.getName().equals("Dependencies.toml"));
+        changesPath = getKubernetesTargetPath().resolve(ArtifactChangeSet.CHANGES);
+    }
+
+    @Test
+    public void testFirstBuild() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectDir), 0);
+        String changed = readFile(changesPath.resolve(ArtifactChangeSet.CHANGED_FILE));
+        Assert.assertTrue(changed.contains("hello-deployment"));
+        Assert.assertTrue(changed.contains("hello-svc"));
+        Assert.assertTrue(changed.contains("config-config-map"));
+        Assert.assertTrue(changed.contains("hello-hpa"));
+        Assert.assertEquals(readFile(changesPath.resolve(ArtifactChangeSet.PRUNED_FILE)), "");
+
+        configHash = getConfigHash();
+        Assert.assertNotNull(configHash);
+    }
+
+    @Test(dependsOnMethods = "testFirstBuild")
+    public void testUnchangedBuild() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectDir), 0);
+        Assert.assertEquals(readFile(changesPath.resolve(ArtifactChangeSet.CHANGED_FILE)), "");
+        Assert.assertEquals(readFile(changesPath.resolve(ArtifactChangeSet.PRUNED_FILE)), "");
+        Assert.assertEquals(getConfigHash(), configHash);
+    }
+
+    @Test(dependsOnMethods = "testUnchangedBuild")
+    public void testConfigChange() throws IOException, InterruptedException {
+        writeFile(projectDir.resolve("Config.toml"), "[hello]\ngreeting = \"Hi\"\n");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectDir), 0);
+
+        // Config map and the deployment that rolls out its pods have changed, nothing else.
+        String changed = readFile(changesPath.resolve(ArtifactChangeSet.CHANGED_FILE));
+        Assert.assertTrue(changed.contains("config-config-map"));
+        Assert.assertTrue(changed.contains("hello-deployment"));
+        Assert.assertFalse(changed.contains("hello-svc"));
+        Assert.assertFalse(changed.contains("hello-hpa"));
+        Assert.assertNotEquals(getConfigHash(), configHash);
+    }
+
+    @Test(dependsOnMethods = "testConfigChange")
+    public void testPrunedResource() throws IOException, InterruptedException {
+        writeFile(projectDir.resolve("Cloud.toml"), readFile(SOURCE_DIR_PATH.resolve("Cloud.toml")) +
+                "\n[cloud.deployment.autoscaling]\nenable = false\n");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectDir), 0);
+        Assert.assertEquals(readFile(changesPath.resolve(ArtifactChangeSet.PRUNED_FILE)),
+                "HorizontalPodAutoscaler/hello-hpa\n");
+    }
+
+    private String getConfigHash() throws IOException {
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(getKubernetesTargetPath().resolve("hello.yaml")
+                .toFile());
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                return ((Deployment) data).getSpec().getTemplate().getMetadata().getAnnotations()
+                        .get(KubernetesConstants.CONFIG_HASH_ANNOTATION);
+            }
+        }
+        return null;
+    }
+
+    private Path getKubernetesTargetPath() {
+        return projectDir.resolve("target").resolve(KUBERNETES).resolve("hello");
+    }
+
+    private String readFile(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    private void writeFile(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        FileUtils.deleteQuietly(projectDir.toFile());
+    }
+}
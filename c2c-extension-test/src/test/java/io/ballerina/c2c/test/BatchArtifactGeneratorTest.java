@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.BatchArtifactGenerator;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for generating the artifacts of many packages in one process.
+ */
+public class BatchArtifactGeneratorTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "batch");
+    private static final Path FIRST_PATH = SOURCE_DIR_PATH.resolve("first");
+    private static final Path SECOND_PATH = SOURCE_DIR_PATH.resolve("second");
+    private static final Path MANIFEST_DIR = SOURCE_DIR_PATH.resolve("target");
+
+    @Test
+    public void testBatchGeneration() throws KubernetesPluginException, IOException {
+        List<BatchArtifactGenerator.PackageResult> results = new BatchArtifactGenerator("k8s", 2)
+                .generate(Arrays.asList(FIRST_PATH, SECOND_PATH), MANIFEST_DIR);
+        Assert.assertEquals(results.size(), 2);
+        Assert.assertTrue(results.get(0).isSuccess(), results.get(0).getErrors().toString());
+        Assert.assertTrue(results.get(1).isSuccess(), results.get(1).getErrors().toString());
+        Assert.assertEquals(results.get(0).getPackageName(), "hello/first:0.0.1");
+        Assert.assertEquals(results.get(1).getPackageName(), "hello/second:0.0.1");
+        Assert.assertTrue(results.get(0).getKubernetesArtifacts().contains("first.yaml"));
+        Assert.assertTrue(results.get(1).getKubernetesArtifacts().contains("second.yaml"));
+        Assert.assertTrue(Files.exists(FIRST_PATH.resolve("target").resolve(KUBERNETES).resolve("first")
+                .resolve("first.yaml")));
+
+        String manifest = new String(Files.readAllBytes(MANIFEST_DIR.resolve(BatchArtifactGenerator.MANIFEST_FILE)),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(manifest.contains("\"package\":\"hello/first:0.0.1\""));
+        Assert.assertTrue(manifest.contains("\"package\":\"hello/second:0.0.1\""));
+    }
+
+    @Test
+    public void testMissingPackage() throws KubernetesPluginException {
+        List<BatchArtifactGenerator.PackageResult> results = new BatchArtifactGenerator("k8s", 1)
+                .generate(Arrays.asList(SOURCE_DIR_PATH.resolve("missing")), MANIFEST_DIR);
+        Assert.assertEquals(results.size(), 1);
+        Assert.assertFalse(results.get(0).isSuccess());
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*have the same package id.*")
+    public void testDuplicatePackage() throws KubernetesPluginException {
+        new BatchArtifactGenerator("k8s", 2).generate(Arrays.asList(FIRST_PATH, FIRST_PATH), MANIFEST_DIR);
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(FIRST_PATH.resolve("target"));
+        KubernetesUtils.deleteDirectory(SECOND_PATH.resolve("target"));
+        KubernetesUtils.deleteDirectory(MANIFEST_DIR);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
+import io.fabric8.kubernetes.api.model.batch.v1.JobSpec;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for parallel jobs configured via Cloud.toml.
+ */
+public class BatchJobTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "batch-job");
+    private static final Path DOCKER_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello");
+
+    @Test
+    public void testIndexedCronJob() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        CronJob cronJob = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("hello_job.yaml").toFile());
+        Assert.assertEquals(cronJob.getSpec().getConcurrencyPolicy(), "Forbid");
+        Assert.assertEquals(cronJob.getSpec().getSuccessfulJobsHistoryLimit().intValue(), 1);
+
+        JobSpec jobSpec = cronJob.getSpec().getJobTemplate().getSpec();
+        Assert.assertEquals(jobSpec.getParallelism().intValue(), 4);
+        Assert.assertEquals(jobSpec.getCompletions().intValue(), 4);
+        Assert.assertEquals(jobSpec.getCompletionMode(), "Indexed");
+        Assert.assertEquals(jobSpec.getBackoffLimit().intValue(), 2);
+        Assert.assertEquals(jobSpec.getActiveDeadlineSeconds().longValue(), 600L);
+
+        Container container = jobSpec.getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getResources().getRequests().get("memory"), new Quantity("512Mi"));
+        Assert.assertEquals(container.getResources().getLimits().get("memory"), new Quantity("1Gi"));
+        Assert.assertEquals(container.getVolumeMounts().size(), 2);
+        Assert.assertEquals(container.getVolumeMounts().get(0).getMountPath(), "/home/ballerina/data/shards.json");
+        Assert.assertEquals(container.getVolumeMounts().get(0).getSubPath(), "shards.json");
+        Assert.assertEquals(container.getVolumeMounts().get(1).getMountPath(), "/home/ballerina/results");
+        Assert.assertEquals(jobSpec.getTemplate().getSpec().getVolumes().size(), 2);
+        Assert.assertEquals(jobSpec.getTemplate().getSpec().getVolumes().get(1).getPersistentVolumeClaim()
+                .getClaimName(), "results");
+
+        ConfigMap configMap = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("hello_config_map.yaml")
+                .toFile());
+        Assert.assertEquals(configMap.getMetadata().getName(), "hello-shards-json");
+        Assert.assertTrue(configMap.getData().containsKey("shards.json"));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+    }
+}
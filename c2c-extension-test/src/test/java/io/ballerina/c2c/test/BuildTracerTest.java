@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.BuildTracer;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import static io.ballerina.c2c.KubernetesConstants.C2C_TRACE;
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for build phase tracing.
+ */
+public class BuildTracerTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "tracing");
+    private static final Path DOCKER_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+
+    @Test
+    public void testTraceOutput() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH,
+                Collections.singletonMap(C2C_TRACE, "true")), 0);
+
+        String trace = new String(Files.readAllBytes(KUBERNETES_TARGET_PATH.resolve(BuildTracer.TRACE_FILE)),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(trace.contains("\"traceEvents\""));
+        Assert.assertTrue(trace.contains("\"ph\":\"X\""));
+        Assert.assertTrue(trace.contains("\"name\":\"DeploymentHandler\""));
+        Assert.assertTrue(trace.contains("\"name\":\"dependency jar resolution\""));
+
+        String summary = new String(Files.readAllBytes(KUBERNETES_TARGET_PATH.resolve(BuildTracer.SUMMARY_FILE)),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(summary.startsWith("phase"));
+        Assert.assertTrue(summary.contains("ProjectServiceInfo"));
+        Assert.assertTrue(summary.contains("Cloud.toml schema validation"));
+        Assert.assertTrue(summary.contains("CloudTomlResolver"));
+        Assert.assertTrue(summary.contains("artifact generation"));
+    }
+
+    @Test(dependsOnMethods = "testTraceOutput")
+    public void testTraceDisabled() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+        Assert.assertFalse(Files.exists(KUBERNETES_TARGET_PATH.resolve(BuildTracer.TRACE_FILE)));
+        Assert.assertFalse(Files.exists(KUBERNETES_TARGET_PATH.resolve(BuildTracer.SUMMARY_FILE)));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+    }
+}
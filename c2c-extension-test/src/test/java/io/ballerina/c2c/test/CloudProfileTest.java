@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.CloudTomlProfiles;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.TomlDocument;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.autoscaling.v1.HorizontalPodAutoscaler;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for Cloud.toml profiles.
+ */
+public class CloudProfileTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "profiles");
+    private static final Path KUBERNETES_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+    private static final String DOCKER_IMAGE = "local/hello:v1.0.0";
+
+    @BeforeClass
+    public void compileSample() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+    }
+
+    @Test
+    public void testBaseArtifacts() throws IOException {
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("hello.yaml")
+                .toFile());
+        Container container = getDeployment(k8sItems).getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
+        Assert.assertEquals(container.getResources().getLimits().get("memory").toString(), "256Mi");
+        Assert.assertEquals(container.getEnv().get(0).getValueFrom().getConfigMapKeyRef().getName(), "cm-loglevel");
+        HorizontalPodAutoscaler podAutoscaler = getPodAutoscaler(k8sItems);
+        Assert.assertEquals(podAutoscaler.getSpec().getMinReplicas().intValue(), 1);
+        Assert.assertEquals(podAutoscaler.getSpec().getMaxReplicas().intValue(), 2);
+    }
+
+    @Test
+    public void testProfileOverridesBase() throws IOException {
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("prod")
+                .resolve("hello.yaml").toFile());
+        Container container = getDeployment(k8sItems).getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
+        Assert.assertEquals(container.getResources().getLimits().get("memory").toString(), "1Gi");
+        Assert.assertEquals(container.getResources().getRequests().get("memory").toString(), "100Mi");
+        Assert.assertEquals(container.getEnv().size(), 1);
+        Assert.assertEquals(container.getEnv().get(0).getValueFrom().getConfigMapKeyRef().getName(),
+                "cm-loglevel-prod");
+        HorizontalPodAutoscaler podAutoscaler = getPodAutoscaler(k8sItems);
+        Assert.assertEquals(podAutoscaler.getSpec().getMinReplicas().intValue(), 3);
+        Assert.assertEquals(podAutoscaler.getSpec().getMaxReplicas().intValue(), 10);
+    }
+
+    @Test
+    public void testProfileKeepsBaseConfig() throws IOException {
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("staging")
+                .resolve("hello.yaml").toFile());
+        Container container = getDeployment(k8sItems).getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
+        Assert.assertEquals(container.getResources().getLimits().get("memory").toString(), "256Mi");
+        Assert.assertEquals(container.getEnv().get(0).getValueFrom().getConfigMapKeyRef().getName(), "cm-loglevel");
+        HorizontalPodAutoscaler podAutoscaler = getPodAutoscaler(k8sItems);
+        Assert.assertEquals(podAutoscaler.getSpec().getMinReplicas().intValue(), 1);
+        Assert.assertEquals(podAutoscaler.getSpec().getMaxReplicas().intValue(), 4);
+    }
+
+    @Test
+    public void testQuotedProfileName() {
+        String cloudToml = "[cloud.deployment]\nmax_memory = \"256Mi\"\n\n" +
+                "[profiles.\"prod-eu\".cloud.deployment]\nmax_memory = \"1Gi\"\n";
+        Map<String, Toml> profiles = CloudTomlProfiles.resolve(TomlDocument.from("Cloud.toml", cloudToml));
+        Assert.assertEquals(profiles.keySet(), Collections.singleton("prod-eu"));
+        Assert.assertEquals(TomlHelper.getString(profiles.get("prod-eu"), "cloud.deployment.max_memory"), "1Gi");
+    }
+
+    @Test
+    public void testGroupedAutoscaling() {
+        String cloudToml = "[[cloud.deployment.groups]]\nname = \"admin\"\nservices = [\"/admin\"]\n\n" +
+                "[cloud.deployment.groups.autoscaling]\nmax_replicas = 2\n\n" +
+                "[[cloud.deployment.groups]]\nname = \"api\"\nservices = [\"/api\"]\n\n" +
+                "[cloud.deployment.groups.autoscaling]\nmax_replicas = 5\n\n" +
+                "[cloud.deployment]\nmax_memory = \"256Mi\"\n\n" +
+                "[profiles.prod.cloud.deployment]\nmax_memory = \"1Gi\"\n\n" +
+                "[[profiles.staging.cloud.deployment.groups]]\nname = \"admin\"\nservices = [\"/admin\"]\n\n" +
+                "[profiles.staging.cloud.deployment.groups.autoscaling]\nmax_replicas = 8\n";
+        Map<String, Toml> profiles = CloudTomlProfiles.resolve(TomlDocument.from("Cloud.toml", cloudToml));
+
+        Toml prod = profiles.get("prod");
+        Assert.assertTrue(prod.diagnostics().isEmpty());
+        Assert.assertEquals(TomlHelper.getString(prod, "cloud.deployment.max_memory"), "1Gi");
+        List<Toml> prodGroups = prod.getTables("cloud.deployment.groups");
+        Assert.assertEquals(prodGroups.size(), 2);
+        Assert.assertEquals(TomlHelper.getString(prodGroups.get(0), "name"), "admin");
+        Assert.assertEquals(TomlHelper.getLong(prodGroups.get(0), "autoscaling.max_replicas", 0), 2);
+        Assert.assertEquals(TomlHelper.getString(prodGroups.get(1), "name"), "api");
+        Assert.assertEquals(TomlHelper.getLong(prodGroups.get(1), "autoscaling.max_replicas", 0), 5);
+
+        Toml staging = profiles.get("staging");
+        Assert.assertTrue(staging.diagnostics().isEmpty());
+        List<Toml> stagingGroups = staging.getTables("cloud.deployment.groups");
+        Assert.assertEquals(stagingGroups.size(), 1);
+        Assert.assertEquals(TomlHelper.getLong(stagingGroups.get(0), "autoscaling.max_replicas", 0), 8);
+    }
+
+    @Test
+    public void testInvalidProfileName() {
+        List<Diagnostic> diagnostics = getDiagnostics("[profiles.helm.cloud.deployment]\nmax_memory = \"1Gi\"\n");
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C_024");
+        Assert.assertTrue(diagnostics.get(0).message().contains("invalid profile name `helm`"));
+    }
+
+    @Test
+    public void testInvalidProfileValue() {
+        List<Diagnostic> diagnostics = getDiagnostics("[profiles.qa.cloud.deployment.autoscaling]\n" +
+                "min_replicas = \"three\"\n");
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C_025");
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().severity(), DiagnosticSeverity.ERROR);
+        Assert.assertTrue(diagnostics.get(0).message().startsWith("Cloud.toml error in profile `qa`: "));
+    }
+
+    private List<Diagnostic> getDiagnostics(String profile) {
+        BuildProject project = BuildProject.load(SOURCE_DIR_PATH);
+        String cloudToml = project.currentPackage().cloudToml().get().tomlDocument().syntaxTree().toSourceCode();
+        Package currentPackage = project.currentPackage().cloudToml().get().modify()
+                .withContent(cloudToml + "\n" + profile).apply();
+        return KubernetesTestUtils.getC2CDiagnostics(currentPackage.getCompilation().diagnosticResult()
+                .diagnostics());
+    }
+
+    private Deployment getDeployment(List<HasMetadata> k8sItems) {
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                return (Deployment) data;
+            }
+        }
+        throw new AssertionError("deployment not found");
+    }
+
+    private HorizontalPodAutoscaler getPodAutoscaler(List<HasMetadata> k8sItems) {
+        for (HasMetadata data : k8sItems) {
+            if ("HorizontalPodAutoscaler".equals(data.getKind())) {
+                return (HorizontalPodAutoscaler) data;
+            }
+        }
+        throw new AssertionError("horizontal pod autoscaler not found");
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(SOURCE_DIR_PATH.resolve("target"));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.ballerina.c2c.test;
 
+import io.ballerina.projects.Package;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -44,6 +45,31 @@ public class CustomDiagnosticsTest {
         Assert.assertEquals(diagnostics.size(), 0);
     }
 
+    @Test
+    public void testEditedCloudToml() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "valid");
+        BuildProject project = BuildProject.load(projectPath);
+        String cloudToml = project.currentPackage().cloudToml().get().tomlDocument().syntaxTree().toSourceCode();
+        String validProbe = cloudToml + "\n[cloud.deployment.probes.liveness]\nport = 9090\n" +
+                "path = \"/helloWorld/sayHello\"\n";
+        String invalidProbe = validProbe.replace("sayHello", "sayHi");
+
+        Package currentPackage = project.currentPackage().cloudToml().get().modify().withContent(validProbe).apply();
+        Assert.assertEquals(getC2CDiagnostics(currentPackage.getCompilation().diagnosticResult().diagnostics())
+                .size(), 0);
+
+        // Results of the previous validation must not be reused for the modified probe.
+        currentPackage = currentPackage.cloudToml().get().modify().withContent(invalidProbe).apply();
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(currentPackage.getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.iterator().next().message(), "Invalid Liveness Probe Resource Path");
+
+        currentPackage = currentPackage.cloudToml().get().modify().withContent(validProbe).apply();
+        Assert.assertEquals(getC2CDiagnostics(currentPackage.getCompilation().diagnosticResult().diagnostics())
+                .size(), 0);
+    }
+
     @Test
     public void testValidMultifileProject() {
         Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "valid-multi-files");
@@ -109,6 +135,41 @@ public class CustomDiagnosticsTest {
         Assert.assertEquals(diagnostics.iterator().next().message(), "Invalid Liveness Probe Resource Path");
     }
 
+    @Test
+    public void testInvalidWarmupPath() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "invalid-warmup-path");
+        BuildProject project = BuildProject.load(projectPath);
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.iterator().next().message(), "Invalid Warm-up Request Resource Path");
+    }
+
+    @Test
+    public void testWarmupPathWithQueryAndPathParams() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "valid-warmup-path");
+        BuildProject project = BuildProject.load(projectPath);
+        Assert.assertEquals(getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult()
+                .diagnostics()).size(), 0);
+
+        String cloudToml = project.currentPackage().cloudToml().get().tomlDocument().syntaxTree().toSourceCode();
+        Package currentPackage = project.currentPackage().cloudToml().get().modify()
+                .withContent(cloudToml.replace("/helloWorld/users/42", "/helloWorld/users/42/orders")).apply();
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(currentPackage.getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.iterator().next().message(), "Invalid Warm-up Request Resource Path");
+    }
+
+    @Test
+    public void testClientOutsideResource() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "client-outside-resource");
+        BuildProject project = BuildProject.load(projectPath);
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 0);
+    }
+
     @Test
     public void testDefaultConfigValueError() {
         Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "default-config-value");
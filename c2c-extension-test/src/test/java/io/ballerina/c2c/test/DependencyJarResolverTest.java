@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.tasks.DependencyJarResolver;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test cases for resolving the dependency jars once per compilation.
+ */
+public class DependencyJarResolverTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "runtime-sizing");
+
+    @Test
+    public void testResolveOncePerCompilation() {
+        PackageCompilation compilation = BuildProject.load(SOURCE_DIR_PATH).currentPackage().getCompilation();
+        DependencyJarResolver.ResolvedJars resolvedJars = DependencyJarResolver.resolve(compilation);
+        Assert.assertFalse(resolvedJars.getJarPaths().isEmpty());
+        Assert.assertSame(DependencyJarResolver.resolve(compilation), resolvedJars);
+
+        // A new compilation of the same package is resolved again.
+        PackageCompilation newCompilation = BuildProject.load(SOURCE_DIR_PATH).currentPackage().getCompilation();
+        Assert.assertNotSame(newCompilation, compilation);
+        DependencyJarResolver.ResolvedJars newResolvedJars = DependencyJarResolver.resolve(newCompilation);
+        Assert.assertNotSame(newResolvedJars, resolvedJars);
+        Assert.assertFalse(newResolvedJars.getJarPaths().isEmpty());
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(SOURCE_DIR_PATH.resolve("target"));
+    }
+}
@@ -74,7 +74,7 @@ public class EnvTest {
 
         Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
         Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
-        Assert.assertEquals(container.getEnv().size(), 2);
+        Assert.assertEquals(container.getEnv().size(), 4);
         final EnvVar configEnvVar = container.getEnv().get(0);
         Assert.assertEquals(configEnvVar.getName(), "b7a_log_level");
         Assert.assertEquals(configEnvVar.getValueFrom().getConfigMapKeyRef().getName(), "cm-loglevel-linker");
@@ -83,6 +83,10 @@ public class EnvTest {
         Assert.assertEquals(secreteEnvVar.getName(), "b7a-password");
         Assert.assertEquals(secreteEnvVar.getValueFrom().getSecretKeyRef().getName(), "b7a-password");
         Assert.assertEquals(secreteEnvVar.getValueFrom().getSecretKeyRef().getKey(), "B7A_PASSWORD");
+        Assert.assertEquals(container.getEnv().get(2).getName(), "BALLERINA_MAX_POOL_SIZE");
+        Assert.assertEquals(container.getEnv().get(2).getValue(), "2");
+        Assert.assertEquals(container.getEnv().get(3).getName(), "JAVA_TOOL_OPTIONS");
+        Assert.assertEquals(container.getEnv().get(3).getValue(), "-XX:ActiveProcessorCount=1");
     }
 
     @AfterClass
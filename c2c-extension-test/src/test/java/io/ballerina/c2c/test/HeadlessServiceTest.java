@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Service;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for headless service and app protocol generation.
+ */
+public class HeadlessServiceTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "headless-service");
+    private static final Path DOCKER_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello");
+
+    @Test
+    public void testHeadlessService() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("hello.yaml")
+                .toFile());
+        List<Service> services = new ArrayList<>();
+        for (HasMetadata data : k8sItems) {
+            if ("Service".equals(data.getKind())) {
+                services.add((Service) data);
+            }
+        }
+        Assert.assertEquals(services.size(), 2);
+
+        Service service = services.get(0);
+        Assert.assertEquals(service.getMetadata().getName(), "hello-svc");
+        Assert.assertNull(service.getSpec().getClusterIP());
+        Assert.assertEquals(service.getSpec().getPorts().get(0).getAppProtocol(), "kubernetes.io/h2c");
+
+        Service headlessService = services.get(1);
+        Assert.assertEquals(headlessService.getMetadata().getName(), "hello-svc-headless");
+        Assert.assertEquals(headlessService.getSpec().getClusterIP(), "None");
+        Assert.assertEquals(headlessService.getSpec().getSelector().get("app"), "hello");
+        Assert.assertEquals(headlessService.getSpec().getPorts().get(0).getPort().intValue(), 9090);
+        Assert.assertEquals(headlessService.getSpec().getPorts().get(0).getAppProtocol(), "kubernetes.io/h2c");
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.handlers.HelmChartHandler;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for the helm chart output.
+ */
+public class HelmChartTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "helm");
+    private static final Path GROUPS_SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "helm-groups");
+    private static final Path CHART_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello")
+            .resolve(HelmChartHandler.HELM).resolve("hello");
+
+    @Test
+    public void testHelmChart() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        String chart = readFile(CHART_PATH.resolve(HelmChartHandler.CHART_FILE));
+        Assert.assertTrue(chart.contains("name: hello"));
+        Assert.assertTrue(chart.contains("version: 0.0.1"));
+        Assert.assertTrue(chart.contains("appVersion: v1.0.0"));
+
+        String values = readFile(CHART_PATH.resolve(HelmChartHandler.VALUES_FILE));
+        Assert.assertTrue(values.contains("helloDeployment:"));
+        Assert.assertTrue(values.contains("helloHpa:"));
+        Assert.assertTrue(values.contains("replicaCount: 1"));
+        Assert.assertTrue(values.contains("repository: local/hello"));
+        Assert.assertTrue(values.contains("tag: v1.0.0"));
+        Assert.assertTrue(values.contains("memory: 256Mi"));
+        Assert.assertTrue(values.contains("minReplicas: 2"));
+        Assert.assertTrue(values.contains("maxReplicas: 5"));
+        Assert.assertTrue(values.contains("targetCPUUtilizationPercentage: 60"));
+
+        String template = readFile(CHART_PATH.resolve(HelmChartHandler.TEMPLATES).resolve("hello.yaml"));
+        Assert.assertTrue(template.contains("replicas: {{ .Values.helloDeployment.replicaCount }}"));
+        Assert.assertTrue(template.contains("image: \"{{ .Values.helloDeployment.image.repository }}:" +
+                "{{ .Values.helloDeployment.image.tag }}\""));
+        Assert.assertTrue(template.contains("memory: {{ .Values.helloDeployment.resources.limits.memory | quote }}"));
+        Assert.assertTrue(template.contains("minReplicas: {{ .Values.helloHpa.autoscaling.minReplicas }}"));
+        Assert.assertTrue(template.contains("kind: Service"));
+        Assert.assertFalse(template.contains("c2c-helm-value-"));
+    }
+
+    @Test(dependsOnMethods = "testHelmChart")
+    public void testLiteralDelimitersInConfigMap() throws IOException {
+        String template = readFile(CHART_PATH.resolve(HelmChartHandler.TEMPLATES).resolve("hello.yaml"));
+        Assert.assertTrue(template.contains("kind: ConfigMap"));
+        Assert.assertTrue(template.contains("Hello, {{ \"{{\" }}name{{ \"}}\" }}!"));
+        Assert.assertFalse(template.contains("{{name}}"));
+        Assert.assertTrue(template.contains("replicas: {{ .Values.helloDeployment.replicaCount }}"));
+    }
+
+    @Test
+    public void testHelmChartOfServiceGroups() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(GROUPS_SOURCE_DIR_PATH), 0);
+        Path chartPath = GROUPS_SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello")
+                .resolve(HelmChartHandler.HELM).resolve("hello");
+
+        Map<?, ?> values = Serialization.yamlMapper().readValue(
+                chartPath.resolve(HelmChartHandler.VALUES_FILE).toFile(), Map.class);
+        Assert.assertEquals(getValue(values, "helloDeployment", "resources", "limits", "memory"), "256Mi");
+        Assert.assertEquals(getValue(values, "helloAdminDeployment", "resources", "limits", "memory"), "128Mi");
+
+        String template = readFile(chartPath.resolve(HelmChartHandler.TEMPLATES).resolve("hello.yaml"));
+        Assert.assertTrue(template.contains("{{ .Values.helloDeployment.resources.limits.memory | quote }}"));
+        Assert.assertTrue(template.contains("{{ .Values.helloAdminDeployment.resources.limits.memory | quote }}"));
+    }
+
+    private Object getValue(Map<?, ?> values, String... keys) {
+        Object value = values;
+        for (String key : keys) {
+            Assert.assertTrue(value instanceof Map, key);
+            value = ((Map<?, ?>) value).get(key);
+        }
+        return value;
+    }
+
+    private String readFile(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(SOURCE_DIR_PATH.resolve("target"));
+        KubernetesUtils.deleteDirectory(GROUPS_SOURCE_DIR_PATH.resolve("target"));
+    }
+}
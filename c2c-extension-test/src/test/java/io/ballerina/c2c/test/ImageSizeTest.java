@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.ImageSizeReport;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for the image size report and budget.
+ */
+public class ImageSizeTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "image-size");
+    private static final Path DOCKER_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+
+    @Test
+    public void testImageSizeReport() throws IOException {
+        Path contextDir = Files.createTempDirectory("c2c-image-size-test-");
+        try {
+            Path jarsDir = Files.createDirectories(contextDir.resolve("jars"));
+            Path smallJar = Files.write(jarsDir.resolve("small.jar"), new byte[100]);
+            Path largeJar = Files.write(jarsDir.resolve("large.jar"), new byte[3000]);
+            Files.write(contextDir.resolve("app.jar"), new byte[500]);
+            Files.write(contextDir.resolve("Dockerfile"), String.join("\n",
+                    "FROM ballerina/jvm-runtime:1.0",
+                    "COPY jars/*.jar /home/ballerina/jars/",
+                    "COPY --chown=ballerina app.jar /home/ballerina",
+                    "COPY --chown=ballerina app.jar /home/ballerina",
+                    "CMD java -jar app.jar").getBytes(StandardCharsets.UTF_8));
+
+            ImageSizeReport report = ImageSizeReport.from(contextDir, Arrays.asList(smallJar, largeJar));
+            Assert.assertEquals(report.getTotalSize(), 4100);
+            List<ImageSizeReport.Instruction> instructions = report.getInstructions();
+            Assert.assertEquals(instructions.size(), 3);
+            Assert.assertEquals(instructions.get(0).getLine(), 2);
+            Assert.assertEquals(instructions.get(0).getSize(), 3100);
+            // Identical instructions are separate layers.
+            Assert.assertEquals(instructions.get(1).getLine(), 3);
+            Assert.assertEquals(instructions.get(1).getSize(), 500);
+            Assert.assertEquals(instructions.get(2).getLine(), 4);
+            Assert.assertEquals(instructions.get(2).getSize(), 500);
+            Map<Path, Long> largestJars = report.getLargestJars(1);
+            Assert.assertEquals(largestJars.size(), 1);
+            Assert.assertEquals(largestJars.get(largeJar).longValue(), 3000);
+            Assert.assertTrue(report.format(false).startsWith("build context copied into the image " +
+                    "(excluding base image): 4.00 KiB"));
+        } finally {
+            FileUtils.deleteQuietly(contextDir.toFile());
+        }
+    }
+
+    @Test
+    public void testImageSizeBudget() throws IOException, InterruptedException {
+        Assert.assertNotEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+        String report = new String(Files.readAllBytes(DOCKER_TARGET_PATH.resolve(ImageSizeReport.REPORT_FILE)),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(report.contains("largest jars:"));
+        Assert.assertTrue(report.contains("hello.jar"));
+        // Artifacts are dropped when the image exceeds the budget.
+        Assert.assertFalse(Files.exists(KUBERNETES_TARGET_PATH.resolve("hello.yaml")));
+    }
+
+    @Test
+    public void testImageSizeBudgetDiagnostic() {
+        BuildProject project = BuildProject.load(SOURCE_DIR_PATH, BuildOptions.builder().setCloud("k8s").build());
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+        Path executable = SOURCE_DIR_PATH.toAbsolutePath().resolve("target").resolve("bin").resolve("hello.jar");
+        EmitResult emitResult = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11)
+                .emit(JBallerinaBackend.OutputType.EXEC, executable);
+        List<Diagnostic> diagnostics = KubernetesTestUtils.getC2CDiagnostics(emitResult.diagnostics().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C_021");
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().severity(), DiagnosticSeverity.ERROR);
+        Assert.assertTrue(diagnostics.get(0).message().contains("exceeds the `container.image.max_size` budget " +
+                "of `1.00 KiB`"));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(SOURCE_DIR_PATH.resolve("target").resolve("bin"));
+    }
+}
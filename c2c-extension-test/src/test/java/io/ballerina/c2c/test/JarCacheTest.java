@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.utils.JarCache;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for the shared dependency jar cache.
+ */
+public class JarCacheTest {
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("c2c-jar-cache-test-");
+    }
+
+    @Test
+    public void testLinkStagedJars() throws IOException {
+        Path cacheDir = tempDir.resolve("cache");
+        Path sourceJar = writeJar(tempDir.resolve("source"), "content");
+        Path firstStagedJar = Files.copy(sourceJar, Files.createDirectories(tempDir.resolve("first"))
+                .resolve("lib.jar"));
+        Path secondStagedJar = Files.copy(sourceJar, Files.createDirectories(tempDir.resolve("second"))
+                .resolve("lib.jar"));
+
+        JarCache jarCache = new JarCache(cacheDir);
+        Assert.assertTrue(jarCache.link(firstStagedJar, sourceJar));
+        jarCache.flush();
+        Assert.assertTrue(Files.exists(cacheDir.resolve("index.properties")));
+
+        // A new cache instance resolves the digest from the index.
+        Assert.assertTrue(new JarCache(cacheDir).link(secondStagedJar, sourceJar));
+        Assert.assertTrue(Files.isSameFile(firstStagedJar, secondStagedJar));
+        Assert.assertEquals(new String(Files.readAllBytes(secondStagedJar), StandardCharsets.UTF_8), "content");
+        try (Stream<Path> cachedJars = Files.list(cacheDir.resolve("sha256"))) {
+            Assert.assertEquals(cachedJars.count(), 1);
+        }
+    }
+
+    @Test
+    public void testUnindexedJar() throws IOException {
+        Path cacheDir = tempDir.resolve("unindexed-cache");
+        Path stagedJar = writeJar(tempDir.resolve("unindexed"), "normalized");
+
+        JarCache jarCache = new JarCache(cacheDir);
+        Assert.assertTrue(jarCache.link(stagedJar, null));
+        jarCache.flush();
+        Assert.assertFalse(Files.exists(cacheDir.resolve("index.properties")));
+        Assert.assertFalse(jarCache.link(tempDir.resolve("missing.jar"), null));
+    }
+
+    @Test
+    public void testCorruptedJarIsReplaced() throws IOException {
+        Path cacheDir = tempDir.resolve("corrupted-cache");
+        Path firstStagedJar = writeJar(tempDir.resolve("corrupted-first"), "content");
+        Path secondStagedJar = writeJar(tempDir.resolve("corrupted-second"), "content");
+
+        Assert.assertTrue(new JarCache(cacheDir).link(firstStagedJar, null));
+        Path cachedJar;
+        try (Stream<Path> cachedJars = Files.list(cacheDir.resolve("sha256"))) {
+            cachedJar = cachedJars.findFirst().orElseThrow();
+        }
+        if (isPosix(cachedJar)) {
+            Assert.assertFalse(Files.getPosixFilePermissions(cachedJar).contains(PosixFilePermission.OWNER_WRITE));
+        }
+        // Replace the stored jar without touching the linked copy.
+        Files.delete(cachedJar);
+        Files.write(cachedJar, "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertTrue(new JarCache(cacheDir).link(secondStagedJar, null));
+        Assert.assertTrue(Files.isSameFile(cachedJar, secondStagedJar));
+        Assert.assertEquals(new String(Files.readAllBytes(cachedJar), StandardCharsets.UTF_8), "content");
+    }
+
+    @Test
+    public void testPruneUnlinkedJars() throws IOException {
+        Path cacheDir = tempDir.resolve("prune-cache");
+        Path keptJar = writeJar(tempDir.resolve("prune-kept"), "kept");
+        Path removedJar = writeJar(tempDir.resolve("prune-removed"), "removed");
+        if (!isPosix(keptJar)) {
+            throw new SkipException("link counts are only available on unix file systems");
+        }
+
+        JarCache jarCache = new JarCache(cacheDir);
+        Assert.assertTrue(jarCache.link(keptJar, null));
+        Assert.assertTrue(jarCache.link(removedJar, null));
+        Files.delete(removedJar);
+        jarCache.prune();
+        try (Stream<Path> cachedJars = Files.list(cacheDir.resolve("sha256"))) {
+            Assert.assertEquals(cachedJars.count(), 1);
+        }
+        Assert.assertEquals(new String(Files.readAllBytes(keptJar), StandardCharsets.UTF_8), "kept");
+    }
+
+    @Test
+    public void testPruneWithoutLinkCount() throws IOException {
+        // Zip file systems have no unix attribute view, as Windows file systems, so nothing is pruned.
+        URI zipUri = URI.create("jar:" + tempDir.resolve("prune-cache.zip").toUri());
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(zipUri, Map.of("create", "true"))) {
+            Path cacheDir = zipFileSystem.getPath("/cache");
+            Path cachedJar = writeJar(cacheDir.resolve("sha256"), "unlinked");
+            new JarCache(cacheDir).prune();
+            Assert.assertTrue(Files.exists(cachedJar));
+        }
+    }
+
+    private boolean isPosix(Path path) throws IOException {
+        return Files.getFileStore(path).supportsFileAttributeView(PosixFileAttributeView.class);
+    }
+
+    private Path writeJar(Path dir, String content) throws IOException {
+        return Files.write(Files.createDirectories(dir).resolve("lib.jar"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        FileUtils.deleteQuietly(tempDir.toFile());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.CloudTomlResolver;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.toml.api.Toml;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for KEDA ScaledObject and ScaledJob generation.
+ */
+public class KedaTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "keda");
+    private static final Path SCALED_OBJECT_PATH = SOURCE_DIR_PATH.resolve("scaled-object");
+    private static final Path SCALED_JOB_PATH = SOURCE_DIR_PATH.resolve("scaled-job");
+    private static final Path SCALED_OBJECT_GROUPS_PATH = SOURCE_DIR_PATH.resolve("scaled-object-groups");
+    private static final Path SCHEDULED_JOB_PATH = SOURCE_DIR_PATH.resolve("scheduled-job");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testScaledObject() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SCALED_OBJECT_PATH), 0);
+        Path kubernetesTargetPath = SCALED_OBJECT_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+        Assert.assertFalse(Files.exists(kubernetesTargetPath.resolve("hello_hpa.yaml")));
+
+        Map<String, Object> scaledObject = loadYaml(kubernetesTargetPath.resolve("hello_scaled_object.yaml"));
+        Assert.assertEquals(scaledObject.get("apiVersion"), "keda.sh/v1alpha1");
+        Assert.assertEquals(scaledObject.get("kind"), "ScaledObject");
+        Map<String, Object> spec = (Map<String, Object>) scaledObject.get("spec");
+        Assert.assertEquals(((Map<String, Object>) spec.get("scaleTargetRef")).get("name"), "hello-deployment");
+        Assert.assertEquals(spec.get("pollingInterval"), 15);
+        Assert.assertEquals(spec.get("minReplicaCount"), 0);
+        Assert.assertEquals(spec.get("maxReplicaCount"), 20);
+        List<Map<String, Object>> triggers = (List<Map<String, Object>>) spec.get("triggers");
+        Assert.assertEquals(triggers.size(), 1);
+        Assert.assertEquals(triggers.get(0).get("type"), "kafka");
+        Map<String, Object> metadata = (Map<String, Object>) triggers.get(0).get("metadata");
+        Assert.assertEquals(metadata.get("topic"), "orders");
+        Assert.assertEquals(metadata.get("lagThreshold"), "50");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testScaledJob() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SCALED_JOB_PATH), 0);
+        Path kubernetesTargetPath = SCALED_JOB_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+        Assert.assertFalse(Files.exists(kubernetesTargetPath.resolve("hello_job.yaml")));
+
+        Map<String, Object> scaledJob = loadYaml(kubernetesTargetPath.resolve("hello_scaled_job.yaml"));
+        Assert.assertEquals(scaledJob.get("kind"), "ScaledJob");
+        Map<String, Object> spec = (Map<String, Object>) scaledJob.get("spec");
+        Assert.assertEquals(spec.get("maxReplicaCount"), 5);
+        Map<String, Object> jobTargetRef = (Map<String, Object>) spec.get("jobTargetRef");
+        Assert.assertNotNull(jobTargetRef.get("template"));
+        List<Map<String, Object>> triggers = (List<Map<String, Object>>) spec.get("triggers");
+        Assert.assertEquals(triggers.get(0).get("type"), "rabbitmq");
+        Assert.assertEquals(((Map<String, Object>) triggers.get(0).get("authenticationRef")).get("name"),
+                "rabbitmq-auth");
+    }
+
+    @Test
+    public void testScaledObjectWithServiceGroups() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SCALED_OBJECT_GROUPS_PATH), 0);
+        // Artifacts are dropped as KEDA cannot scale the deployments of the groups.
+        Assert.assertFalse(Files.exists(SCALED_OBJECT_GROUPS_PATH.resolve("target").resolve(KUBERNETES)
+                .resolve("hello").resolve("hello_scaled_object.yaml")));
+    }
+
+    @Test
+    public void testScheduledTask() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SCHEDULED_JOB_PATH), 0);
+        // Artifacts are dropped as KEDA cannot scale a task with a schedule.
+        Assert.assertFalse(Files.exists(SCHEDULED_JOB_PATH.resolve("target").resolve(KUBERNETES).resolve("hello")
+                .resolve("hello_scaled_job.yaml")));
+    }
+
+    @Test
+    public void testInferredTriggerType() throws KubernetesPluginException {
+        Assert.assertEquals(getInferredTriggerType("kafka"), "kafka");
+        Assert.assertEquals(getInferredTriggerType("rabbitmq"), "rabbitmq");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*unable to infer the KEDA trigger type.*")
+    public void testNatsTriggerType() throws KubernetesPluginException {
+        getInferredTriggerType("nats");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*unable to infer the KEDA trigger type.*")
+    public void testAmbiguousTriggerType() throws KubernetesPluginException {
+        getInferredTriggerType("kafka", "nats");
+    }
+
+    private String getInferredTriggerType(String... messageBrokers) throws KubernetesPluginException {
+        KubernetesContext context = KubernetesContext.getInstance();
+        PackageID packageID = new PackageID(new Name("c2c"), new Name("keda"), new Name("0.1.0"));
+        try {
+            KubernetesDataHolder dataHolder = context.createDataHolder(packageID);
+            dataHolder.setMessageBrokers(new LinkedHashSet<>(List.of(messageBrokers)));
+            dataHolder.setBallerinaCloud(Toml.read("[cloud.keda]\nenable = true\n\n[[cloud.keda.triggers]]\n" +
+                    "metadata = { topic = \"orders\" }\n"));
+            DeploymentModel deploymentModel = new DeploymentModel();
+            deploymentModel.setName("hello-deployment");
+            new CloudTomlResolver(dataHolder).resolveToml(deploymentModel);
+            return dataHolder.getKedaModel().getTriggers().get(0).getType();
+        } finally {
+            context.removeDataHolder(packageID);
+        }
+    }
+
+    private Map<String, Object> loadYaml(Path yamlFile) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(yamlFile)) {
+            return new Yaml().load(inputStream);
+        }
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(SCALED_OBJECT_PATH.resolve("target").resolve(KUBERNETES));
+        KubernetesUtils.deleteDirectory(SCALED_OBJECT_PATH.resolve("target").resolve(DOCKER));
+        KubernetesUtils.deleteDirectory(SCALED_JOB_PATH.resolve("target").resolve(KUBERNETES));
+        KubernetesUtils.deleteDirectory(SCALED_JOB_PATH.resolve("target").resolve(DOCKER));
+        KubernetesUtils.deleteDirectory(SCALED_OBJECT_GROUPS_PATH.resolve("target").resolve(DOCKER));
+        KubernetesUtils.deleteDirectory(SCHEDULED_JOB_PATH.resolve("target"));
+    }
+}
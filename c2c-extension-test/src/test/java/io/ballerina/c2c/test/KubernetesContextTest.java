@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+/**
+ * Test cases for package scoped kubernetes data holders.
+ */
+public class KubernetesContextTest {
+
+    @Test
+    public void testDataHolderPerPackage() {
+        KubernetesContext context = KubernetesContext.getInstance();
+        PackageID firstPackage = new PackageID(new Name("c2c"), new Name("first"), new Name("0.1.0"));
+        PackageID secondPackage = new PackageID(new Name("c2c"), new Name("second"), new Name("0.1.0"));
+        try {
+            KubernetesDataHolder firstDataHolder = context.createDataHolder(firstPackage);
+            KubernetesDataHolder secondDataHolder = context.createDataHolder(secondPackage);
+            firstDataHolder.setOutputName("first");
+            secondDataHolder.setOutputName("second");
+
+            Assert.assertSame(context.getDataHolder(firstPackage), firstDataHolder);
+            Assert.assertEquals(context.getDataHolder(firstPackage).getOutputName(), "first");
+            Assert.assertEquals(context.getDataHolder(secondPackage).getOutputName(), "second");
+            Assert.assertEquals(firstDataHolder.getPackageID(), firstPackage);
+
+            // A new compilation of the package starts from an empty data holder.
+            Assert.assertNull(context.createDataHolder(firstPackage).getOutputName());
+            context.removeDataHolder(secondPackage);
+            Assert.assertNotSame(context.getDataHolder(secondPackage), secondDataHolder);
+        } finally {
+            context.removeDataHolder(firstPackage);
+            context.removeDataHolder(secondPackage);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for exposing Prometheus metrics of observable packages.
+ */
+public class PrometheusTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "prometheus");
+    private static final Path DOCKER_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPrometheusMetrics() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        // Port is read from [ballerinax.prometheus] of the mounted Config.toml.
+        Deployment deployment = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("hello_deployment.yaml")
+                .toFile());
+        Map<String, String> podAnnotations = deployment.getSpec().getTemplate().getMetadata().getAnnotations();
+        Assert.assertEquals(podAnnotations.get("prometheus.io/scrape"), "true");
+        Assert.assertEquals(podAnnotations.get("prometheus.io/port"), "9898");
+        Assert.assertEquals(podAnnotations.get("prometheus.io/path"), "/metrics");
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Optional<ContainerPort> metricsPort = container.getPorts().stream()
+                .filter(port -> "metrics".equals(port.getName()))
+                .findFirst();
+        Assert.assertTrue(metricsPort.isPresent());
+        Assert.assertEquals(metricsPort.get().getContainerPort().intValue(), 9898);
+
+        Service service = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("hello_svc.yaml").toFile());
+        Assert.assertEquals(service.getSpec().getPorts().size(), 2);
+        ServicePort servicePort = service.getSpec().getPorts().get(1);
+        Assert.assertEquals(servicePort.getName(), "metrics");
+        Assert.assertEquals(servicePort.getPort().intValue(), 9898);
+
+        Map<String, Object> serviceMonitor = loadYaml(KUBERNETES_TARGET_PATH.resolve("hello_service_monitor.yaml"));
+        Assert.assertEquals(serviceMonitor.get("apiVersion"), "monitoring.coreos.com/v1");
+        Assert.assertEquals(serviceMonitor.get("kind"), "ServiceMonitor");
+        Map<String, Object> spec = (Map<String, Object>) serviceMonitor.get("spec");
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) spec.get("endpoints");
+        Assert.assertEquals(endpoints.get(0).get("port"), "metrics");
+        Assert.assertEquals(endpoints.get(0).get("interval"), "15s");
+        Map<String, Object> selector = (Map<String, Object>) spec.get("selector");
+        List<Map<String, Object>> matchExpressions = (List<Map<String, Object>>) selector.get("matchExpressions");
+        Assert.assertEquals(matchExpressions.get(0).get("values"), List.of("hello"));
+    }
+
+    private Map<String, Object> loadYaml(Path yamlFile) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(yamlFile)) {
+            return new Yaml().load(inputStream);
+        }
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.JarNormalizer;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for reproducible docker artifacts.
+ */
+public class ReproducibleImageTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "reproducible");
+    private static final Path DOCKER_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello");
+    private static final Path BUILD_SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "reproducible-build");
+    private static final Path BUILD_DOCKER_TARGET_PATH = BUILD_SOURCE_DIR_PATH.resolve("target").resolve(DOCKER)
+            .resolve("hello");
+
+    @Test
+    public void testNormalizedJar() throws IOException {
+        Path tempDir = Files.createTempDirectory("c2c-jar-test-");
+        try {
+            Path firstJar = createJar(tempDir.resolve("first"), 1000L, "b.txt", "a.txt");
+            Path secondJar = createJar(tempDir.resolve("second"), 2000000L, "a.txt", "b.txt");
+            Assert.assertNotEquals(Files.readAllBytes(firstJar), Files.readAllBytes(secondJar));
+
+            Path firstNormalized = JarNormalizer.normalize(firstJar, Files.createDirectories(tempDir.resolve("n1")));
+            Path secondNormalized = JarNormalizer.normalize(secondJar, Files.createDirectories(tempDir.resolve("n2")));
+            Assert.assertEquals(firstNormalized.getFileName().toString(), "test.jar");
+            Assert.assertEquals(Files.readAllBytes(firstNormalized), Files.readAllBytes(secondNormalized));
+            Assert.assertEquals(Files.getLastModifiedTime(firstNormalized), JarNormalizer.FIXED_FILE_TIME);
+        } finally {
+            FileUtils.deleteQuietly(tempDir.toFile());
+        }
+    }
+
+    @Test
+    public void testReproducibleDockerArtifacts() throws IOException, InterruptedException,
+            KubernetesPluginException {
+        Map<String, byte[]> firstBuild = build();
+        Map<String, byte[]> secondBuild = build();
+        Assert.assertTrue(firstBuild.containsKey("Dockerfile"));
+        Assert.assertEquals(secondBuild.keySet(), firstBuild.keySet());
+        for (Map.Entry<String, byte[]> artifact : firstBuild.entrySet()) {
+            Assert.assertEquals(secondBuild.get(artifact.getKey()), artifact.getValue(), artifact.getKey());
+        }
+        String dockerfile = new String(firstBuild.get("Dockerfile"), StandardCharsets.UTF_8);
+        Assert.assertTrue(dockerfile.contains("FROM openjdk:11-jre-slim@sha256:" +
+                "4f9d4a2b1c3e5d7f8091a2b3c4d5e6f708192a3b4c5d6e7f8091a2b3c4d5e6f7"));
+    }
+
+    @Test
+    public void testSortedCopyInstructions() {
+        List<String> dockerfile = Arrays.asList(
+                "FROM ballerina/jvm-runtime:1.0",
+                "COPY jars/b.jar /home/ballerina/jars/",
+                "COPY jars/a.jar /home/ballerina/jars/",
+                "COPY conf/b.toml /home/ballerina/conf/",
+                "COPY conf/a.toml /home/ballerina/conf/",
+                "RUN addgroup troupe",
+                "COPY hello.jar /home/ballerina",
+                "COPY app.toml /home/ballerina");
+        Assert.assertEquals(JarNormalizer.sortCopyInstructions(dockerfile), Arrays.asList(
+                "FROM ballerina/jvm-runtime:1.0",
+                "COPY jars/a.jar /home/ballerina/jars/",
+                "COPY jars/b.jar /home/ballerina/jars/",
+                "COPY conf/a.toml /home/ballerina/conf/",
+                "COPY conf/b.toml /home/ballerina/conf/",
+                "RUN addgroup troupe",
+                "COPY app.toml /home/ballerina",
+                "COPY hello.jar /home/ballerina"));
+    }
+
+    @Test
+    public void testReproducibleImageNotBuilt() throws IOException {
+        BuildProject project = BuildProject.load(BUILD_SOURCE_DIR_PATH,
+                BuildOptions.builder().setCloud("k8s").build());
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+        Path executable = BUILD_SOURCE_DIR_PATH.toAbsolutePath().resolve("target").resolve("bin")
+                .resolve("hello.jar");
+        EmitResult emitResult = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11)
+                .emit(JBallerinaBackend.OutputType.EXEC, executable);
+        List<Diagnostic> diagnostics = KubernetesTestUtils.getC2CDiagnostics(emitResult.diagnostics().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C_030");
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+        Assert.assertTrue(diagnostics.get(0).message().contains("SOURCE_DATE_EPOCH=" +
+                JarNormalizer.FIXED_FILE_TIME.toInstant().getEpochSecond()));
+        Path dockerfile = BUILD_DOCKER_TARGET_PATH.resolve("Dockerfile");
+        Assert.assertEquals(Files.getLastModifiedTime(dockerfile), JarNormalizer.FIXED_FILE_TIME);
+    }
+
+    private Map<String, byte[]> build() throws IOException, InterruptedException, KubernetesPluginException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+        Map<String, byte[]> artifacts = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(DOCKER_TARGET_PATH)) {
+            for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                Assert.assertEquals(Files.getLastModifiedTime(path), JarNormalizer.FIXED_FILE_TIME);
+                artifacts.put(DOCKER_TARGET_PATH.relativize(path).toString(), Files.readAllBytes(path));
+            }
+        }
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        return artifacts;
+    }
+
+    private Path createJar(Path dir, long time, String... entries) throws IOException {
+        Path jar = Files.createDirectories(dir).resolve("test.jar");
+        try (OutputStream outputStream = Files.newOutputStream(jar);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            ZipEntry manifest = new ZipEntry("META-INF/MANIFEST.MF");
+            manifest.setTime(time);
+            zipOutputStream.putNextEntry(manifest);
+            zipOutputStream.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+            for (String entry : entries) {
+                ZipEntry zipEntry = new ZipEntry(entry);
+                zipEntry.setTime(time);
+                zipOutputStream.putNextEntry(zipEntry);
+                zipOutputStream.write(entry.getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(BUILD_SOURCE_DIR_PATH.resolve("target"));
+    }
+}
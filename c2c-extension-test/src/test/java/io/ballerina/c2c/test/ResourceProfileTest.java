@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for resource profiles.
+ */
+public class ResourceProfileTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "resource-profile");
+    private static final Path NO_PROFILE_SOURCE_DIR_PATH = Paths.get("src", "test", "resources",
+            "resource-profile-none");
+
+    @Test
+    public void testLatencyProfile() throws IOException, InterruptedException {
+        PodSpec podSpec = getPodSpec(SOURCE_DIR_PATH);
+        Assert.assertEquals(podSpec.getPriorityClassName(), "high-priority");
+        ResourceRequirements resources = podSpec.getContainers().get(0).getResources();
+        Assert.assertEquals(resources.getRequests().get("cpu"), new Quantity("2"));
+        Assert.assertEquals(resources.getRequests().get("memory"), new Quantity("2Gi"));
+        Assert.assertEquals(resources.getLimits().get("memory"), new Quantity("2Gi"));
+        Assert.assertFalse(resources.getLimits().containsKey("cpu"));
+
+        Map<String, String> envVars = podSpec.getContainers().get(0).getEnv().stream()
+                .collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue));
+        Assert.assertEquals(envVars.get("BALLERINA_MAX_POOL_SIZE"), "4");
+        Assert.assertEquals(envVars.get("JAVA_TOOL_OPTIONS"), "-XX:ActiveProcessorCount=2 -XX:+UseG1GC " +
+                "-XX:MaxGCPauseMillis=50 -XX:MaxRAMPercentage=75.0");
+    }
+
+    @Test
+    public void testCpuLimitWithoutProfile() throws IOException, InterruptedException {
+        PodSpec podSpec = getPodSpec(NO_PROFILE_SOURCE_DIR_PATH);
+        Assert.assertEquals(podSpec.getPriorityClassName(), "high-priority");
+        ResourceRequirements resources = podSpec.getContainers().get(0).getResources();
+        Assert.assertEquals(resources.getRequests().get("cpu"), new Quantity("500m"));
+        Assert.assertFalse(resources.getLimits().containsKey("cpu"));
+    }
+
+    private PodSpec getPodSpec(Path sourceDir) throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(sourceDir), 0);
+        File k8sYaml = sourceDir.resolve("target").resolve(KUBERNETES).resolve("hello").resolve("hello.yaml")
+                .toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(k8sYaml);
+        Deployment deployment = null;
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            }
+        }
+        Assert.assertNotNull(deployment);
+        return deployment.getSpec().getTemplate().getSpec();
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        for (Path sourceDir : List.of(SOURCE_DIR_PATH, NO_PROFILE_SOURCE_DIR_PATH)) {
+            KubernetesUtils.deleteDirectory(sourceDir.resolve("target").resolve(KUBERNETES).resolve("hello"));
+            KubernetesUtils.deleteDirectory(sourceDir.resolve("target").resolve(DOCKER).resolve("hello"));
+        }
+    }
+}
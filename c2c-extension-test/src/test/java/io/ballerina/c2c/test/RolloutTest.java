@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.RollingUpdateDeployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for rollout strategy and graceful shutdown.
+ */
+public class RolloutTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "rollout");
+    private static final Path DOCKER_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+
+    @Test
+    public void testRollout() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        File k8sYaml = KUBERNETES_TARGET_PATH.resolve("hello.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(k8sYaml);
+        Deployment deployment = null;
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            }
+        }
+        Assert.assertNotNull(deployment);
+        RollingUpdateDeployment rollingUpdate = deployment.getSpec().getStrategy().getRollingUpdate();
+        Assert.assertEquals(rollingUpdate.getMaxSurge().getStrVal(), "50%");
+        Assert.assertEquals(rollingUpdate.getMaxUnavailable().getIntVal().intValue(), 0);
+        Assert.assertEquals(deployment.getSpec().getMinReadySeconds().intValue(), 5);
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getTerminationGracePeriodSeconds()
+                .longValue(), 30L);
+
+        // Drain is derived from the readiness probe period.
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getReadinessProbe().getPeriodSeconds().intValue(), 5);
+        Assert.assertEquals(container.getLifecycle().getPreStop().getExec().getCommand(),
+                Arrays.asList("sleep", "10"));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for sizing the runtime from the container CPU limits.
+ */
+public class RuntimeSizingTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "runtime-sizing");
+    private static final Path DOCKER_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello");
+    private static final Path GROUPS_SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "runtime-sizing-groups");
+    private static final Path USER_OPTIONS_SOURCE_DIR_PATH = Paths.get("src", "test", "resources",
+            "runtime-sizing-user-options");
+
+    @Test
+    public void testRuntimeSizing() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+        File k8sYaml = KUBERNETES_TARGET_PATH.resolve("hello.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(k8sYaml);
+        Deployment deployment = null;
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            }
+        }
+        Assert.assertNotNull(deployment);
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Map<String, String> envVars = container.getEnv().stream()
+                .collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue));
+        Assert.assertEquals(envVars.get("BALLERINA_MAX_POOL_SIZE"), "4");
+        Assert.assertEquals(envVars.get("JAVA_TOOL_OPTIONS"), "-XX:ActiveProcessorCount=2 -XX:+UseParallelGC");
+    }
+
+    @Test
+    public void testServiceGroupRuntimeSizing() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(GROUPS_SOURCE_DIR_PATH), 0);
+        File k8sYaml = GROUPS_SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello")
+                .resolve("hello.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(k8sYaml);
+        Map<String, Deployment> deployments = new HashMap<>();
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                deployments.put(data.getMetadata().getName(), (Deployment) data);
+            }
+        }
+
+        // Default deployment is sized for 1500m, while the group is sized for its own 500m limit.
+        Map<String, String> defaultEnvVars = getEnvVars(deployments.get("hello-deployment"));
+        Assert.assertEquals(defaultEnvVars.get("BALLERINA_MAX_POOL_SIZE"), "4");
+        Assert.assertEquals(defaultEnvVars.get("JAVA_TOOL_OPTIONS"), "-XX:ActiveProcessorCount=2");
+        Map<String, String> groupEnvVars = getEnvVars(deployments.get("hello-admin-deployment"));
+        Assert.assertEquals(groupEnvVars.get("BALLERINA_MAX_POOL_SIZE"), "2");
+        Assert.assertEquals(groupEnvVars.get("JAVA_TOOL_OPTIONS"), "-XX:ActiveProcessorCount=1");
+    }
+
+    @Test
+    public void testUserJavaToolOptions() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(USER_OPTIONS_SOURCE_DIR_PATH), 0);
+        File k8sYaml = USER_OPTIONS_SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello")
+                .resolve("hello.yaml").toFile();
+        Deployment deployment = null;
+        for (HasMetadata data : KubernetesTestUtils.loadYaml(k8sYaml)) {
+            if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            }
+        }
+        Assert.assertNotNull(deployment);
+        List<EnvVar> envVars = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv();
+        Assert.assertEquals(envVars.size(), 3);
+
+        // The options of the user are expanded after the generated ones instead of replacing them.
+        Assert.assertEquals(envVars.get(0).getName(), "USER_JAVA_TOOL_OPTIONS");
+        Assert.assertEquals(envVars.get(0).getValueFrom().getConfigMapKeyRef().getName(), "jvm-options");
+        Assert.assertEquals(envVars.get(0).getValueFrom().getConfigMapKeyRef().getKey(), "JAVA_TOOL_OPTIONS");
+        Assert.assertEquals(envVars.get(1).getName(), "BALLERINA_MAX_POOL_SIZE");
+        Assert.assertEquals(envVars.get(1).getValue(), "2");
+        Assert.assertEquals(envVars.get(2).getName(), "JAVA_TOOL_OPTIONS");
+        Assert.assertEquals(envVars.get(2).getValue(), "-XX:ActiveProcessorCount=1 $(USER_JAVA_TOOL_OPTIONS)");
+    }
+
+    private Map<String, String> getEnvVars(Deployment deployment) {
+        Assert.assertNotNull(deployment);
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        return container.getEnv().stream().collect(Collectors.toMap(EnvVar::getName, EnvVar::getValue));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(GROUPS_SOURCE_DIR_PATH.resolve("target"));
+        KubernetesUtils.deleteDirectory(USER_OPTIONS_SOURCE_DIR_PATH.resolve("target"));
+    }
+}
@@ -50,6 +50,7 @@ public class ServiceExtractionTest {
         Assert.assertEquals(serviceInfo.getServicePath().trim(), "/helloWorld");
         ListenerInfo listener = serviceInfo.getListener();
         Assert.assertEquals(listener.getPort(), 9090);
+        Assert.assertEquals(listener.getProtocol(), ListenerInfo.HTTP);
     }
 
     @Test
@@ -226,6 +227,21 @@ public class ServiceExtractionTest {
         Assert.assertEquals(helloService.getServicePath().trim(), "/chat");
         ListenerInfo helloListener = helloService.getListener();
         Assert.assertEquals(helloListener.getPort(), 9090);
+        Assert.assertEquals(helloListener.getProtocol(), ListenerInfo.WEBSOCKET);
+    }
+
+    @Test
+    public void testHttp2Listener() {
+        Path projectPath = Paths.get("src", "test", "resources", "service", "http2-ssl");
+
+        BuildProject project = BuildProject.load(projectPath);
+        ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(project);
+        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
+
+        Assert.assertEquals(serviceList.size(), 1);
+        ListenerInfo listener = serviceList.get(0).getListener();
+        Assert.assertEquals(listener.getPort(), 9206);
+        Assert.assertEquals(listener.getProtocol(), ListenerInfo.HTTP2);
     }
 
     @Test
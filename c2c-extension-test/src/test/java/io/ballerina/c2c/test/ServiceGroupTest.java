@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.autoscaling.v1.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+import static io.ballerina.c2c.test.utils.KubernetesTestUtils.getC2CDiagnostics;
+
+/**
+ * Test cases for splitting services into separately scaled deployments.
+ */
+public class ServiceGroupTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "service-groups");
+    private static final Path DOCKER_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello");
+    private static final Path OVERLAPPING_SOURCE_DIR_PATH = Paths.get("src", "test", "resources",
+            "service-groups-overlapping");
+
+    @Test
+    public void testServiceGroups() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(KUBERNETES_TARGET_PATH.resolve("hello.yaml")
+                .toFile());
+        Map<String, HasMetadata> items = new HashMap<>();
+        for (HasMetadata data : k8sItems) {
+            items.put(data.getMetadata().getName(), data);
+        }
+
+        Deployment deployment = (Deployment) items.get("hello-deployment");
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().size(), 1);
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().get(0)
+                .getContainerPort().intValue(), 9090);
+
+        Deployment adminDeployment = (Deployment) items.get("hello-admin-deployment");
+        Assert.assertNotNull(adminDeployment);
+        Assert.assertEquals(adminDeployment.getSpec().getSelector().getMatchLabels().get("app"), "hello-admin");
+        Assert.assertEquals(adminDeployment.getSpec().getTemplate().getMetadata().getLabels().get("app"),
+                "hello-admin");
+        Container container = adminDeployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getPorts().size(), 1);
+        Assert.assertEquals(container.getPorts().get(0).getContainerPort().intValue(), 9091);
+        Assert.assertEquals(container.getResources().getLimits().get("memory"), new Quantity("128Mi"));
+
+        Service service = (Service) items.get("hello-svc");
+        Assert.assertEquals(service.getSpec().getPorts().size(), 1);
+        Assert.assertEquals(service.getSpec().getPorts().get(0).getPort().intValue(), 9090);
+        Service adminService = (Service) items.get("hello-admin-svc");
+        Assert.assertEquals(adminService.getSpec().getSelector().get("app"), "hello-admin");
+        Assert.assertEquals(adminService.getSpec().getPorts().get(0).getPort().intValue(), 9091);
+
+        HorizontalPodAutoscaler adminHpa = (HorizontalPodAutoscaler) items.get("hello-admin-hpa");
+        Assert.assertEquals(adminHpa.getSpec().getScaleTargetRef().getName(), "hello-admin-deployment");
+        Assert.assertEquals(adminHpa.getSpec().getMaxReplicas().intValue(), 2);
+        Assert.assertNotNull(items.get("hello-hpa"));
+
+        PodDisruptionBudget pdb = (PodDisruptionBudget) items.get("hello-pdb");
+        Assert.assertEquals(pdb.getSpec().getSelector().getMatchLabels().get("app"), "hello");
+        PodDisruptionBudget adminPdb = (PodDisruptionBudget) items.get("hello-admin-pdb");
+        Assert.assertEquals(adminPdb.getSpec().getSelector().getMatchLabels().get("app"), "hello-admin");
+        Assert.assertEquals(adminPdb.getSpec().getMaxUnavailable().getIntVal().intValue(), 1);
+    }
+
+    @Test
+    public void testGroupWithoutName() {
+        BuildProject project = BuildProject.load(SOURCE_DIR_PATH);
+        String cloudToml = project.currentPackage().cloudToml().get().tomlDocument().syntaxTree().toSourceCode();
+        Package currentPackage = project.currentPackage().cloudToml().get().modify()
+                .withContent(cloudToml.replace("name = \"admin\"\n", "")).apply();
+        List<Diagnostic> diagnostics =
+                getC2CDiagnostics(currentPackage.getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertTrue(diagnostics.get(0).message().contains("name"), diagnostics.get(0).message());
+    }
+
+    @Test
+    public void testServiceInTwoGroups() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(OVERLAPPING_SOURCE_DIR_PATH), 0);
+        // Artifacts are dropped as the `/admin` service is listed in both the `ops` and `admin` groups.
+        Assert.assertFalse(Files.exists(OVERLAPPING_SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+                .resolve("hello").resolve("hello.yaml")));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(OVERLAPPING_SOURCE_DIR_PATH.resolve("target"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for topology spread constraints, anti affinity and pod disruption budget.
+ */
+public class TopologyTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "topology");
+    private static final Path DOCKER_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+    private static final Path CONFLICTING_BUDGET_SOURCE_DIR_PATH = Paths.get("src", "test", "resources",
+            "topology-conflicting-budget");
+
+    @Test
+    public void testTopologyAndDisruptionBudget() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        File k8sYaml = KUBERNETES_TARGET_PATH.resolve("hello.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(k8sYaml);
+        Deployment deployment = null;
+        PodDisruptionBudget podDisruptionBudget = null;
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            } else if ("PodDisruptionBudget".equals(data.getKind())) {
+                podDisruptionBudget = (PodDisruptionBudget) data;
+            }
+        }
+        Assert.assertNotNull(deployment);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        List<TopologySpreadConstraint> constraints = podSpec.getTopologySpreadConstraints();
+        Assert.assertEquals(constraints.size(), 2);
+        Assert.assertEquals(constraints.get(0).getTopologyKey(), "topology.kubernetes.io/zone");
+        Assert.assertEquals(constraints.get(0).getWhenUnsatisfiable(), "ScheduleAnyway");
+        Assert.assertEquals(constraints.get(0).getLabelSelector().getMatchLabels().get("app"), "hello");
+        Assert.assertEquals(constraints.get(1).getTopologyKey(), "kubernetes.io/hostname");
+
+        List<WeightedPodAffinityTerm> antiAffinity =
+                podSpec.getAffinity().getPodAntiAffinity().getPreferredDuringSchedulingIgnoredDuringExecution();
+        Assert.assertEquals(antiAffinity.size(), 1);
+        Assert.assertEquals(antiAffinity.get(0).getPodAffinityTerm().getTopologyKey(), "kubernetes.io/hostname");
+
+        Assert.assertNotNull(podDisruptionBudget);
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getName(), "hello-pdb");
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMinAvailable().getIntVal().intValue(), 2);
+        Assert.assertEquals(podDisruptionBudget.getSpec().getSelector().getMatchLabels().get("app"), "hello");
+    }
+
+    @Test
+    public void testConflictingDisruptionBudget() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(CONFLICTING_BUDGET_SOURCE_DIR_PATH), 0);
+        // Artifacts are dropped as `min_available` and `max_unavailable` cannot be used together.
+        Assert.assertFalse(Files.exists(CONFLICTING_BUDGET_SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
+                .resolve("hello").resolve("hello.yaml")));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(CONFLICTING_BUDGET_SOURCE_DIR_PATH.resolve("target"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for warming up the container before it becomes ready.
+ */
+public class WarmupTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "warmup");
+    private static final Path DOCKER_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(DOCKER).resolve("hello");
+    private static final Path KUBERNETES_TARGET_PATH =
+            SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES).resolve("hello");
+
+    @Test
+    public void testWarmup() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH), 0);
+
+        File k8sYaml = KUBERNETES_TARGET_PATH.resolve("hello.yaml").toFile();
+        List<HasMetadata> k8sItems = KubernetesTestUtils.loadYaml(k8sYaml);
+        Deployment deployment = null;
+        for (HasMetadata data : k8sItems) {
+            if ("Deployment".equals(data.getKind())) {
+                deployment = (Deployment) data;
+            }
+        }
+        Assert.assertNotNull(deployment);
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertNotNull(container.getLifecycle().getPreStop());
+        List<String> command = container.getLifecycle().getPostStart().getExec().getCommand();
+        Assert.assertEquals(command.get(0), "/bin/sh");
+        Assert.assertEquals(command.get(1), "-c");
+        String script = command.get(2);
+        Assert.assertTrue(script.contains("end=$(($(date +%s)+45))\n"));
+        Assert.assertFalse(script.contains("/helloWorld/sayHello"));
+        Assert.assertTrue(script.endsWith("exit 0\n"));
+        Assert.assertEquals(command.subList(3, command.size()),
+                List.of("warmup", "9090", "/helloWorld/sayHello", "500"));
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.test.completion;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.FileUtils;
+import io.ballerina.c2c.test.utils.TestUtil;
+import io.ballerina.c2c.tooling.completion.CloudTomlSnippetManager;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Completes a large Cloud.toml. The latency is only logged, as wall clock time depends on the machine running the
+ * tests. The assertions check that the table completions come from the schema index.
+ */
+public class CloudCompletionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CloudCompletionBenchmarkTest.class);
+    private static final int LINE_COUNT = 2000;
+    private static final int WARMUP_REQUESTS = 5;
+    private static final int MEASURED_REQUESTS = 50;
+
+    private final Path sourceDir = FileUtils.RES_DIR.resolve("completion").resolve("cloud").resolve("main")
+            .resolve("source");
+    private Endpoint serviceEndpoint;
+    private Path projectDir;
+
+    @BeforeClass
+    public void init() throws IOException {
+        this.serviceEndpoint = TestUtil.initializeLanguageSever();
+        this.projectDir = Files.createTempDirectory("c2c-completion-benchmark");
+        Files.copy(sourceDir.resolve("Ballerina.toml"), projectDir.resolve("Ballerina.toml"));
+        Files.copy(sourceDir.resolve("main.bal"), projectDir.resolve("main.bal"));
+    }
+
+    @Test
+    public void testLargeCloudToml() throws IOException {
+        List<String> lines = new ArrayList<>(Arrays.asList("[container.image]", "repository = \"local\"",
+                "name = \"hello\"", ""));
+        for (int i = 0; lines.size() < LINE_COUNT - 4; i++) {
+            lines.addAll(Arrays.asList("[[cloud.config.envs]]", "key_ref = \"key" + i + "\"",
+                    "config_name = \"name" + i + "\"", ""));
+        }
+        lines.addAll(Arrays.asList("[cloud.deployment]", "min_memory = \"100Mi\"", "", ""));
+        Assert.assertEquals(lines.size(), LINE_COUNT);
+        Path cloudToml = projectDir.resolve("Cloud.toml");
+        Files.write(cloudToml, lines, StandardCharsets.UTF_8);
+
+        Position position = new Position(LINE_COUNT - 2, 0);
+        TestUtil.openDocument(serviceEndpoint, cloudToml);
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            TestUtil.getCompletionResponse(cloudToml.toString(), position, serviceEndpoint);
+        }
+        long[] latencies = new long[MEASURED_REQUESTS];
+        String response = null;
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            long start = System.nanoTime();
+            response = TestUtil.getCompletionResponse(cloudToml.toString(), position, serviceEndpoint);
+            latencies[i] = System.nanoTime() - start;
+        }
+        TestUtil.closeDocument(serviceEndpoint, cloudToml);
+
+        Arrays.sort(latencies);
+        long medianMillis = latencies[MEASURED_REQUESTS / 2] / 1_000_000;
+        long p90Millis = latencies[MEASURED_REQUESTS * 9 / 10] / 1_000_000;
+        log.info("Cloud.toml completion latency over " + LINE_COUNT + " lines: median " + medianMillis + "ms, p90 " +
+                p90Millis + "ms");
+
+        Set<String> labels = new HashSet<>();
+        for (JsonElement item : new JsonParser().parse(response).getAsJsonObject().getAsJsonObject("result")
+                .getAsJsonArray("left")) {
+            labels.add(item.getAsJsonObject().get("label").getAsString());
+        }
+        Assert.assertTrue(labels.contains("max_memory"));
+        Assert.assertFalse(labels.contains("min_memory"));
+        Assert.assertFalse(labels.contains("container.image"));
+
+        // The response is the indexed completions of the table without the keys already set.
+        Map<String, CompletionItem> indexed = CloudTomlSnippetManager.getInstance(new LanguageServerContextImpl())
+                .getTableCompletions("cloud.deployment", false).orElseThrow();
+        Set<String> expected = new HashSet<>();
+        for (CompletionItem item : indexed.values()) {
+            expected.add(item.getLabel());
+        }
+        expected.remove("min_memory");
+        Assert.assertEquals(labels, expected);
+        Assert.assertTrue(CloudTomlSnippetManager.getInstance(new LanguageServerContextImpl())
+                .getTableCompletions("cloud.config.envs", true).isPresent());
+    }
+
+    @AfterClass
+    public void cleanup() throws KubernetesPluginException {
+        TestUtil.shutdownLanguageServer(this.serviceEndpoint);
+        KubernetesUtils.deleteDirectory(projectDir);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.test.completion;
+
+import io.ballerina.c2c.test.utils.FileUtils;
+import io.ballerina.c2c.tooling.completion.CompletionSymbolCache;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.eclipse.lsp4j.Position;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tests the reuse of document symbols across completion requests.
+ */
+public class CompletionSymbolCacheTest {
+
+    private final Path sourceDir = FileUtils.RES_DIR.resolve("completion").resolve("cloud").resolve("main")
+            .resolve("source");
+
+    @Test
+    public void testSymbolsReusedUntilDocumentChanges() {
+        BuildProject project = BuildProject.load(sourceDir);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        Document document = module.document(documentId);
+        SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+        AtomicInteger semanticModelRequests = new AtomicInteger();
+        Supplier<Optional<SemanticModel>> semanticModelSupplier = () -> {
+            semanticModelRequests.incrementAndGet();
+            return Optional.of(semanticModel);
+        };
+        Path filePath = sourceDir.resolve("main.bal");
+        Position position = new Position(7, 8);
+
+        CompletionSymbolCache cache = CompletionSymbolCache.getInstance(new LanguageServerContextImpl());
+        CompletionSymbolCache.DocumentSymbols symbols = cache.get(filePath, document);
+        Assert.assertEquals(symbols.imports().size(), 2);
+        Assert.assertEquals(symbols.importsMap(semanticModelSupplier).orElseThrow().size(), 2);
+        Assert.assertSame(cache.get(filePath, document), symbols);
+        Assert.assertSame(symbols.importsMap(semanticModelSupplier).orElseThrow(),
+                symbols.importsMap(semanticModelSupplier).orElseThrow());
+        Assert.assertSame(symbols.visibleSymbols(semanticModelSupplier, document, position),
+                symbols.visibleSymbols(semanticModelSupplier, document, new Position(7, 8)));
+        // The semantic model is only requested to compute the symbols the first time.
+        Assert.assertEquals(semanticModelRequests.get(), 1);
+
+        // Cloud.toml does not change the symbols of a Ballerina document.
+        Package tomlModifiedPackage = project.currentPackage().cloudToml().orElseThrow().modify()
+                .withContent("[settings]\nbuildImage = false\n").apply();
+        Assert.assertSame(cache.get(filePath, tomlModifiedPackage.getDefaultModule().document(documentId)), symbols);
+
+        // An edit gives the document a new syntax tree, which must not be served from the cache.
+        Package modifiedPackage = document.modify().withContent(document.syntaxTree().toSourceCode()
+                .replace("import ballerina/log;", "")).apply();
+        Document modifiedDocument = modifiedPackage.getDefaultModule().document(documentId);
+        CompletionSymbolCache.DocumentSymbols modifiedSymbols = cache.get(filePath, modifiedDocument);
+        Assert.assertNotSame(modifiedSymbols, symbols);
+        Assert.assertEquals(modifiedSymbols.imports().size(), 1);
+        cache.remove(filePath);
+        Assert.assertNotSame(cache.get(filePath, modifiedDocument), modifiedSymbols);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDocumentsAreEvicted() {
+        BuildProject project = BuildProject.load(sourceDir);
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+
+        CompletionSymbolCache cache = CompletionSymbolCache.getInstance(new LanguageServerContextImpl());
+        CompletionSymbolCache.DocumentSymbols symbols = cache.get(sourceDir.resolve("0.bal"), document);
+        for (int i = 1; i <= 16; i++) {
+            cache.get(sourceDir.resolve(i + ".bal"), document);
+        }
+        Assert.assertNotSame(cache.get(sourceDir.resolve("0.bal"), document), symbols);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.samples;
+
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+import static io.ballerina.c2c.test.samples.SampleTest.SAMPLE_DIR;
+
+/**
+ * Builds every sample project twice and checks that the generated artifacts are byte for byte the same.
+ */
+public class DeterministicOutputTest {
+
+    @DataProvider(name = "samples")
+    public Object[][] getSamples() throws IOException {
+        List<Object[]> samples = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(SAMPLE_DIR, 3)) {
+            for (Path ballerinaToml : paths.filter(path -> path.endsWith("Ballerina.toml")).sorted()
+                    .collect(Collectors.toList())) {
+                samples.add(new Object[]{ballerinaToml.getParent()});
+            }
+        }
+        return samples.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "samples")
+    public void testDeterministicOutput(Path sample) throws IOException, InterruptedException {
+        Map<String, byte[]> firstBuild = build(sample);
+        Map<String, byte[]> secondBuild = build(sample);
+        Assert.assertFalse(firstBuild.isEmpty());
+        Assert.assertEquals(secondBuild.keySet(), firstBuild.keySet());
+        for (Map.Entry<String, byte[]> artifact : firstBuild.entrySet()) {
+            Assert.assertEquals(new String(secondBuild.get(artifact.getKey()), StandardCharsets.UTF_8),
+                    new String(artifact.getValue(), StandardCharsets.UTF_8), artifact.getKey() + " of " + sample);
+        }
+    }
+
+    /**
+     * Build a copy of the sample without the image and collect the generated YAML files and Dockerfiles.
+     */
+    private Map<String, byte[]> build(Path sample) throws IOException, InterruptedException {
+        Path projectDir = Files.createTempDirectory("c2c-deterministic-");
+        try {
+            FileUtils.copyDirectory(sample.toFile(), projectDir.toFile(),
+                    file -> !file.getName().equals("target") && !file.getName().equals("Dependencies.toml"));
+            skipImageBuild(projectDir.resolve("Cloud.toml"));
+            Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectDir), 0);
+            Map<String, byte[]> artifacts = new TreeMap<>();
+            Path targetDir = projectDir.resolve("target");
+            for (String artifactDir : new String[]{KUBERNETES, DOCKER}) {
+                if (!Files.exists(targetDir.resolve(artifactDir))) {
+                    continue;
+                }
+                try (Stream<Path> paths = Files.walk(targetDir.resolve(artifactDir))) {
+                    for (Path path : paths.filter(path -> path.toString().endsWith(".yaml") ||
+                            path.endsWith("Dockerfile")).collect(Collectors.toList())) {
+                        artifacts.put(targetDir.relativize(path).toString(), Files.readAllBytes(path));
+                    }
+                }
+            }
+            return artifacts;
+        } finally {
+            FileUtils.deleteQuietly(projectDir.toFile());
+        }
+    }
+
+    private void skipImageBuild(Path cloudToml) throws IOException {
+        File cloudTomlFile = cloudToml.toFile();
+        String content = cloudTomlFile.exists() ?
+                FileUtils.readFileToString(cloudTomlFile, StandardCharsets.UTF_8) : "";
+        if (content.contains("[settings]")) {
+            content = content.replace("[settings]", "[settings]\nbuildImage = false");
+        } else {
+            content = content + "\n[settings]\nbuildImage = false\n";
+        }
+        FileUtils.writeStringToFile(cloudTomlFile, content, StandardCharsets.UTF_8);
+    }
+}
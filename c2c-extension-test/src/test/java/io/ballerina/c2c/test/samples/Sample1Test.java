@@ -94,7 +94,11 @@ public class Sample1Test extends SampleTest {
         Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
         Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
         Assert.assertEquals(container.getPorts().size(), 1);
-        Assert.assertEquals(container.getEnv().size(), 0);
+        Assert.assertEquals(container.getEnv().size(), 2);
+        Assert.assertEquals(container.getEnv().get(0).getName(), "BALLERINA_MAX_POOL_SIZE");
+        Assert.assertEquals(container.getEnv().get(0).getValue(), "2");
+        Assert.assertEquals(container.getEnv().get(1).getName(), "JAVA_TOOL_OPTIONS");
+        Assert.assertEquals(container.getEnv().get(1).getValue(), "-XX:ActiveProcessorCount=1");
         Assert.assertNotNull(podAutoscaler);
     }
 
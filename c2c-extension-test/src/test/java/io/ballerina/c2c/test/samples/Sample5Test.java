@@ -115,11 +115,15 @@ public class Sample5Test extends SampleTest {
         Assert.assertEquals(container.getVolumeMounts().size(), 3);
         Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
         Assert.assertEquals(container.getPorts().size(), 1);
-        Assert.assertEquals(container.getEnv().size(), 1);
+        Assert.assertEquals(container.getEnv().size(), 3);
 
         // Validate config file
         Assert.assertEquals(container.getEnv().get(0).getName(), "BAL_CONFIG_FILES");
         Assert.assertEquals(container.getEnv().get(0).getValue(), "/home/ballerina/conf/Config.toml:");
+        Assert.assertEquals(container.getEnv().get(1).getName(), "BALLERINA_MAX_POOL_SIZE");
+        Assert.assertEquals(container.getEnv().get(1).getValue(), "2");
+        Assert.assertEquals(container.getEnv().get(2).getName(), "JAVA_TOOL_OPTIONS");
+        Assert.assertEquals(container.getEnv().get(2).getValue(), "-XX:ActiveProcessorCount=1");
     }
 
     @Test
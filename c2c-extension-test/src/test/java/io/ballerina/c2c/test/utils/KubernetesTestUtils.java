@@ -353,6 +353,20 @@ public class KubernetesTestUtils {
      */
     public static int compileBallerinaProject(Path sourceDirectory) throws InterruptedException,
             IOException {
+        return compileBallerinaProject(sourceDirectory, new HashMap<>());
+    }
+
+    /**
+     * Compile a ballerina project in a given directory.
+     *
+     * @param sourceDirectory Ballerina source directory
+     * @param envVar          Environment variables for the build
+     * @return Exit code
+     * @throws InterruptedException if an error occurs while compiling
+     * @throws IOException          if an error occurs while writing file
+     */
+    public static int compileBallerinaProject(Path sourceDirectory, Map<String, String> envVar)
+            throws InterruptedException, IOException {
         Path dependenciesToml = Paths.get(sourceDirectory.toAbsolutePath().toString(), "Dependencies.toml");
         if (dependenciesToml.toFile().exists()) {
             log.warn("Deleting already existing Dependencies.toml file.");
@@ -366,6 +380,7 @@ public class KubernetesTestUtils {
         pb.directory(sourceDirectory.toFile());
         Map<String, String> environment = pb.environment();
         addJavaAgents(environment);
+        environment.putAll(envVar);
 
         Process process = pb.start();
         int exitCode = process.waitFor();
@@ -0,0 +1,36 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+
+final http:Client backend = check new ("http://localhost:9091");
+
+function getClient() returns http:Client|error {
+    http:Client helper = check new ("http://localhost:9092");
+    return helper;
+}
+
+service /hello on new http:Listener(9090) {
+    resource function get greeting() returns string|error {
+        return backend->get("/greeting");
+    }
+
+    resource function get proxy(string host) returns string|error {
+        // Depends on the request, so it cannot be moved to the module level.
+        http:Client target = check new (host);
+        return target->get("/greeting");
+    }
+}
@@ -0,0 +1,15 @@
+import ballerina/io;
+import ballerina/cloud;
+
+@cloud:Task {
+    schedule: {
+        minutes: "*/5",
+        hours: "*",
+        dayOfMonth: "*",
+        monthOfYear: "*",
+        daysOfWeek: "*"
+    }
+}
+public function main(string... args) {
+    io:println("hello world");
+}
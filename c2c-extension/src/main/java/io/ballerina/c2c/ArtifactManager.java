@@ -19,18 +19,24 @@
 package io.ballerina.c2c;
 
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.handlers.ArtifactHandler;
 import io.ballerina.c2c.handlers.ChoreoHandler;
 import io.ballerina.c2c.handlers.ConfigMapHandler;
 import io.ballerina.c2c.handlers.DeploymentHandler;
 import io.ballerina.c2c.handlers.DockerHandler;
 import io.ballerina.c2c.handlers.HPAHandler;
+import io.ballerina.c2c.handlers.HelmChartHandler;
 import io.ballerina.c2c.handlers.JobHandler;
+import io.ballerina.c2c.handlers.KedaHandler;
+import io.ballerina.c2c.handlers.PodDisruptionBudgetHandler;
+import io.ballerina.c2c.handlers.PrometheusHandler;
 import io.ballerina.c2c.handlers.SecretHandler;
+import io.ballerina.c2c.handlers.ServiceGroupHandler;
 import io.ballerina.c2c.handlers.ServiceHandler;
 import io.ballerina.c2c.models.DeploymentModel;
-import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.utils.BuildTracer;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
@@ -47,12 +53,14 @@ import java.util.Set;
  */
 public class ArtifactManager {
 
-    private static final Map<String, String> instructions = new LinkedHashMap<>();
+    private final Map<String, String> instructions = new LinkedHashMap<>();
     private static final PrintStream OUT = System.out;
     private final KubernetesDataHolder kubernetesDataHolder;
+    private final BuildTracer tracer;
 
-    public ArtifactManager() {
-        this.kubernetesDataHolder = KubernetesContext.getInstance().getDataHolder();
+    public ArtifactManager(KubernetesDataHolder kubernetesDataHolder) {
+        this.kubernetesDataHolder = kubernetesDataHolder;
+        this.tracer = BuildTracer.getTracer(kubernetesDataHolder.getPackageID());
     }
 
     /**
@@ -80,26 +88,63 @@ public class ArtifactManager {
         // add default kubernetes instructions.
         setDefaultKubernetesInstructions();
         OUT.println("\nGenerating artifacts...");
+        createKubernetesManifests();
+        if (kubernetesDataHolder.isHelm()) {
+            String chartName = KubernetesUtils.getValidName(kubernetesDataHolder.getOutputName());
+            instructions.put("\tExecute the below command to install the helm chart: ",
+                    "\thelm install " + chartName + " " + this.kubernetesDataHolder.getK8sArtifactOutputPath()
+                            .resolve(HelmChartHandler.HELM).resolve(chartName).toAbsolutePath());
+        }
+        generate(new DockerHandler(kubernetesDataHolder));
+        printInstructions();
+    }
+
+    /**
+     * Generate kubernetes artifacts of a Cloud.toml profile. The docker image of the package is reused, hence only the
+     * kubernetes manifests are generated.
+     *
+     * @param profile name of the profile
+     * @throws KubernetesPluginException if an error occurs while generating artifacts
+     */
+    public void createProfileArtifacts(String profile) throws KubernetesPluginException {
+        OUT.println("\nGenerating artifacts for profile " + profile + "...");
+        createKubernetesManifests();
+        instructions.put("\tExecute the below command to deploy the " + profile + " profile: ",
+                "\tkubectl apply -f " + this.kubernetesDataHolder.getK8sArtifactOutputPath().toAbsolutePath());
+        printInstructions();
+    }
+
+    private void createKubernetesManifests() throws KubernetesPluginException {
         if (kubernetesDataHolder.getJobModel() != null) {
-            new CloudTomlResolver().resolveToml(kubernetesDataHolder.getJobModel());
-            new JobHandler().createArtifacts();
+            try (BuildTracer.Span ignored = tracer.span("CloudTomlResolver")) {
+                new CloudTomlResolver(kubernetesDataHolder).resolveToml(kubernetesDataHolder.getJobModel());
+            }
+            generate(new ConfigMapHandler(kubernetesDataHolder));
+            generate(new JobHandler(kubernetesDataHolder));
+            generate(new KedaHandler(kubernetesDataHolder));
+            generate(new SecretHandler(kubernetesDataHolder));
         } else {
-            new CloudTomlResolver().resolveToml(kubernetesDataHolder.getDeploymentModel());
-            new ServiceHandler().createArtifacts();
-            new ConfigMapHandler().createArtifacts();
-            new DeploymentHandler().createArtifacts();
-            new HPAHandler().createArtifacts();
-            new SecretHandler().createArtifacts();
+            try (BuildTracer.Span ignored = tracer.span("CloudTomlResolver")) {
+                new CloudTomlResolver(kubernetesDataHolder).resolveToml(kubernetesDataHolder.getDeploymentModel());
+            }
+            generate(new ServiceHandler(kubernetesDataHolder));
+            generate(new ConfigMapHandler(kubernetesDataHolder));
+            generate(new DeploymentHandler(kubernetesDataHolder));
+            generate(new HPAHandler(kubernetesDataHolder));
+            generate(new KedaHandler(kubernetesDataHolder));
+            generate(new PodDisruptionBudgetHandler(kubernetesDataHolder));
+            generate(new ServiceGroupHandler(kubernetesDataHolder));
+            generate(new PrometheusHandler(kubernetesDataHolder));
+            generate(new SecretHandler(kubernetesDataHolder));
         }
-        new DockerHandler().createArtifacts();
-        printInstructions();
+        generate(new HelmChartHandler(kubernetesDataHolder));
     }
 
     public void createDockerArtifacts() throws KubernetesPluginException {
         OUT.println("\nGenerating artifacts...");
         DockerModel dockerModel = getDockerModel(false);
         kubernetesDataHolder.setDockerModel(dockerModel);
-        new DockerHandler().createArtifacts();
+        generate(new DockerHandler(kubernetesDataHolder));
 
         instructions.put("\tExecute the below command to run the generated Docker image: ",
                 "\tdocker run -d " + generatePortInstruction(dockerModel.getPorts()) + dockerModel.getName());
@@ -118,17 +163,23 @@ public class ArtifactManager {
             deploymentModel.addPort(containerPort);
         }
         if (!isTomlSkipped) {
-            KubernetesUtils.resolveDockerToml(kubernetesDataHolder.getDeploymentModel());
+            KubernetesUtils.resolveDockerToml(kubernetesDataHolder, kubernetesDataHolder.getDeploymentModel());
         }
-        return KubernetesUtils.getDockerModel(deploymentModel);
+        return KubernetesUtils.getDockerModel(kubernetesDataHolder, deploymentModel);
     }
 
     public void createChoreoArtifacts() throws KubernetesPluginException {
         DockerModel dockerModel = getDockerModel(true);
         dockerModel.setBuildImage(false);
         kubernetesDataHolder.setDockerModel(dockerModel);
-        new DockerHandler().createArtifacts();
-        new ChoreoHandler().createArtifacts();
+        generate(new DockerHandler(kubernetesDataHolder));
+        generate(new ChoreoHandler(kubernetesDataHolder));
+    }
+
+    private void generate(ArtifactHandler handler) throws KubernetesPluginException {
+        try (BuildTracer.Span ignored = tracer.span(handler.getClass().getSimpleName())) {
+            handler.createArtifacts();
+        }
     }
 
     private String generatePortInstruction(Set<Integer> ports) {
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c;
+
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.JarCache;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.ballerinalang.model.elements.PackageID;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Generates the cloud artifacts of many packages in a single process.
+ * <p>
+ * Each package is compiled with the cloud build option and emitted as an executable, which runs the c2c compiler
+ * plugin exactly like {@code bal build --cloud}. Running the builds in one JVM lets them share the parsed Cloud.toml
+ * schema, the jar digests of the {@link JarCache} and the base image layers of the Docker daemon. A combined
+ * manifest of the generated artifacts is written once all packages are built.
+ *
+ * @since 2.0.0
+ */
+public class BatchArtifactGenerator {
+
+    public static final String MANIFEST_FILE = "manifest.json";
+    private static final String TARGET = "target";
+    private static final String BIN = "bin";
+
+    private final String buildType;
+    private final int parallelism;
+
+    /**
+     * Create a batch generator.
+     *
+     * @param buildType   cloud build option, {@code k8s} or {@code docker}
+     * @param parallelism maximum number of packages built at the same time
+     */
+    public BatchArtifactGenerator(String buildType, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism should be at least 1: " + parallelism);
+        }
+        this.buildType = buildType;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Generate the artifacts of the given packages and write the combined manifest.
+     *
+     * @param projectPaths root directories of the packages
+     * @param manifestDir  directory to write the manifest into
+     * @return build result of each package, in the order of the given paths
+     * @throws KubernetesPluginException if two packages have the same package id, the batch is interrupted or the
+     *                                   manifest cannot be written
+     */
+    public List<PackageResult> generate(List<Path> projectPaths, Path manifestDir) throws KubernetesPluginException {
+        // Models and generation errors are tracked per package id, so a package id can only be built once per batch.
+        List<BuildProject> projects = new ArrayList<>();
+        List<String> loadErrors = new ArrayList<>();
+        Map<PackageID, Path> packagePaths = new HashMap<>();
+        for (Path projectPath : projectPaths) {
+            BuildProject project;
+            try {
+                project = BuildProject.load(projectPath, BuildOptions.builder().setCloud(buildType).build());
+            } catch (RuntimeException e) {
+                projects.add(null);
+                loadErrors.add(String.valueOf(e.getMessage()));
+                continue;
+            }
+            Path duplicate = packagePaths.put(KubernetesUtils.getProjectID(project.currentPackage()), projectPath);
+            if (duplicate != null) {
+                throw new KubernetesPluginException(C2CDiagnosticCodes.createDiagnostic(
+                        C2CDiagnosticCodes.BATCH_GENERATION_FAILED, new NullLocation(),
+                        "packages " + duplicate + " and " + projectPath + " have the same package id"));
+            }
+            projects.add(project);
+            loadErrors.add(null);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism,
+                Math.max(1, projectPaths.size())));
+        List<PackageResult> results = new ArrayList<>();
+        try {
+            List<Future<PackageResult>> futures = new ArrayList<>();
+            for (int i = 0; i < projects.size(); i++) {
+                Path projectPath = projectPaths.get(i);
+                BuildProject project = projects.get(i);
+                String loadError = loadErrors.get(i);
+                futures.add(executor.submit(() -> project == null ? failed(projectPath, loadError) :
+                        build(projectPath, project)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    PackageResult result = new PackageResult(projectPaths.get(i));
+                    result.errors.add(String.valueOf(e.getCause().getMessage()));
+                    results.add(result);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesPluginException(C2CDiagnosticCodes.createDiagnostic(
+                    C2CDiagnosticCodes.BATCH_GENERATION_FAILED, new NullLocation(), "interrupted"));
+        } finally {
+            executor.shutdownNow();
+        }
+        writeManifest(results, manifestDir);
+        return results;
+    }
+
+    private PackageResult failed(Path projectPath, String error) {
+        PackageResult result = new PackageResult(projectPath);
+        result.errors.add(error);
+        return result;
+    }
+
+    private PackageResult build(Path projectPath, BuildProject project) {
+        PackageResult result = new PackageResult(projectPath);
+        long start = System.currentTimeMillis();
+        Package currentPackage = project.currentPackage();
+        KubernetesContext.getInstance().removeGenerationErrors(KubernetesUtils.getProjectID(currentPackage));
+        result.packageName = currentPackage.packageOrg().value() + "/" + currentPackage.packageName().value() + ":" +
+                currentPackage.packageVersion().value();
+        PackageCompilation compilation = currentPackage.getCompilation();
+        if (!addErrors(result, compilation.diagnosticResult().diagnostics())) {
+            JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+            Path executable = projectPath.toAbsolutePath().resolve(TARGET).resolve(BIN)
+                    .resolve(currentPackage.packageName().value() + ".jar");
+            EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executable);
+            addErrors(result, emitResult.diagnostics().diagnostics());
+            // Artifact generation failures are printed by the compiler plugin instead of reported as diagnostics.
+            result.errors.addAll(KubernetesContext.getInstance()
+                    .removeGenerationErrors(KubernetesUtils.getProjectID(currentPackage)));
+            result.executable = executable.toString();
+            result.kubernetesArtifacts = listFiles(projectPath.toAbsolutePath().resolve(TARGET).resolve(KUBERNETES)
+                    .resolve(currentPackage.packageName().value()));
+            result.dockerArtifacts = listFiles(projectPath.toAbsolutePath().resolve(TARGET).resolve(DOCKER)
+                    .resolve(currentPackage.packageName().value()));
+        }
+        result.durationMillis = System.currentTimeMillis() - start;
+        return result;
+    }
+
+    private boolean addErrors(PackageResult result, Iterable<Diagnostic> diagnostics) {
+        boolean hasErrors = false;
+        for (Diagnostic diagnostic : diagnostics) {
+            if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
+                result.errors.add(diagnostic.toString());
+                hasErrors = true;
+            }
+        }
+        return hasErrors;
+    }
+
+    private List<String> listFiles(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> dir.relativize(file).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private void writeManifest(List<PackageResult> results, Path manifestDir) throws KubernetesPluginException {
+        List<Map<String, Object>> packages = new ArrayList<>();
+        for (PackageResult result : results) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("path", result.projectPath.toAbsolutePath().toString());
+            entry.put("package", result.packageName);
+            entry.put("success", result.isSuccess());
+            entry.put("durationMillis", result.durationMillis);
+            entry.put("executable", result.executable);
+            entry.put("kubernetesArtifacts", result.kubernetesArtifacts);
+            entry.put("dockerArtifacts", result.dockerArtifacts);
+            entry.put("errors", result.errors);
+            packages.add(entry);
+        }
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("buildType", buildType);
+        manifest.put("packages", packages);
+        try {
+            Files.createDirectories(manifestDir);
+            Files.write(manifestDir.resolve(MANIFEST_FILE),
+                    Serialization.asJson(manifest).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException(C2CDiagnosticCodes.createDiagnostic(
+                    C2CDiagnosticCodes.BATCH_GENERATION_FAILED, new NullLocation(),
+                    "unable to write " + MANIFEST_FILE + ": " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Build result of a package.
+     */
+    public static class PackageResult {
+
+        private final Path projectPath;
+        private final List<String> errors = new ArrayList<>();
+        private String packageName;
+        private String executable;
+        private List<String> kubernetesArtifacts = new ArrayList<>();
+        private List<String> dockerArtifacts = new ArrayList<>();
+        private long durationMillis;
+
+        private PackageResult(Path projectPath) {
+            this.projectPath = projectPath;
+        }
+
+        public Path getProjectPath() {
+            return projectPath;
+        }
+
+        public String getPackageName() {
+            return packageName;
+        }
+
+        public boolean isSuccess() {
+            return errors.isEmpty();
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        public List<String> getKubernetesArtifacts() {
+            return kubernetesArtifacts;
+        }
+
+        public List<String> getDockerArtifacts() {
+            return dockerArtifacts;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+    }
+}
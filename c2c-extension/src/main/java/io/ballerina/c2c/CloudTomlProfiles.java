@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c;
+
+import io.ballerina.c2c.handlers.HelmChartHandler;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.ArtifactChangeSet;
+import io.ballerina.projects.TomlDocument;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
+import io.ballerina.toml.syntax.tree.KeyNode;
+import io.ballerina.toml.syntax.tree.KeyValueNode;
+import io.ballerina.toml.syntax.tree.NodeList;
+import io.ballerina.toml.syntax.tree.SyntaxKind;
+import io.ballerina.toml.syntax.tree.TableArrayNode;
+import io.ballerina.toml.syntax.tree.TableNode;
+import io.ballerina.toml.syntax.tree.ValueNode;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.Location;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the profiles of a Cloud.toml such as {@code [profiles.prod.cloud.deployment]}.
+ * <p>
+ * A profile overrides the {@code cloud} tables of the base configuration. Keys of a table are overridden one by one,
+ * while an array of tables declared in a profile replaces the array of the base configuration, together with the
+ * tables declared under its elements such as {@code [cloud.deployment.groups.autoscaling]}. Container and
+ * settings tables are not part of a profile, so every profile deploys the image built for the package.
+ * <p>
+ * The artifacts of a profile are written to a directory named after the profile, so a profile name should be a valid
+ * directory name that does not clash with the other directories of the kubernetes artifacts.
+ *
+ * @since 2.0.0
+ */
+public class CloudTomlProfiles {
+
+    public static final String PROFILES = "profiles";
+    private static final String CLOUD = "cloud";
+    private static final String CLOUD_TOML = "Cloud.toml";
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[a-z0-9]([-a-z0-9]*[a-z0-9])?$");
+    private static final Pattern BARE_KEY_PATTERN = Pattern.compile("^[A-Za-z0-9_-]+$");
+    private static final Set<String> RESERVED_NAMES = Set.of(HelmChartHandler.HELM, ArtifactChangeSet.CHANGES);
+
+    private CloudTomlProfiles() {
+    }
+
+    /**
+     * Get the Cloud.toml of each profile with the profile applied on top of the base configuration.
+     *
+     * @param cloudToml Cloud.toml of the package
+     * @return Cloud.toml of each profile with a valid name in the declared order
+     */
+    public static Map<String, Toml> resolve(TomlDocument cloudToml) {
+        Config base = new Config();
+        Map<String, Config> profiles = new LinkedHashMap<>();
+        parse(cloudToml, base, profiles, new LinkedHashMap<>());
+        Map<String, Toml> profileTomls = new LinkedHashMap<>();
+        for (Map.Entry<String, Config> profile : profiles.entrySet()) {
+            if (!isValidName(profile.getKey())) {
+                continue;
+            }
+            String content = base.merge(profile.getValue()).toToml();
+            profileTomls.put(profile.getKey(), TomlDocument.from(CLOUD_TOML, content).toml());
+        }
+        return profileTomls;
+    }
+
+    /**
+     * Get the location of the first table of each profile.
+     *
+     * @param cloudToml Cloud.toml of the package
+     * @return location of each profile in the declared order
+     */
+    public static Map<String, Location> getLocations(TomlDocument cloudToml) {
+        Map<String, Location> locations = new LinkedHashMap<>();
+        parse(cloudToml, new Config(), new LinkedHashMap<>(), locations);
+        return locations;
+    }
+
+    /**
+     * Validate the names of the profiles.
+     *
+     * @param cloudToml Cloud.toml of the package
+     * @return diagnostics of the invalid names
+     */
+    public static List<Diagnostic> validateNames(TomlDocument cloudToml) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (Map.Entry<String, Location> profile : getLocations(cloudToml).entrySet()) {
+            if (!isValidName(profile.getKey())) {
+                diagnostics.add(C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_PROFILE_NAME,
+                        profile.getValue(), profile.getKey()));
+            }
+        }
+        return diagnostics;
+    }
+
+    private static boolean isValidName(String name) {
+        return NAME_PATTERN.matcher(name).matches() && !RESERVED_NAMES.contains(name);
+    }
+
+    private static void parse(TomlDocument cloudToml, Config base, Map<String, Config> profiles,
+                              Map<String, Location> locations) {
+        for (DocumentMemberDeclarationNode member : cloudToml.syntaxTree().rootNode().members()) {
+            if (member.kind() == SyntaxKind.KEY_VALUE) {
+                base.addKeyValue("", (KeyValueNode) member);
+                continue;
+            }
+            boolean tableArray = member.kind() == SyntaxKind.TABLE_ARRAY;
+            if (!tableArray && member.kind() != SyntaxKind.TABLE) {
+                continue;
+            }
+            KeyNode identifier = tableArray ? ((TableArrayNode) member).identifier() :
+                    ((TableNode) member).identifier();
+            NodeList<KeyValueNode> fields = tableArray ? ((TableArrayNode) member).fields() :
+                    ((TableNode) member).fields();
+            List<String> path = toPath(identifier);
+            Config config = base;
+            if (path.get(0).equals(PROFILES)) {
+                // Only the cloud tables of a profile are considered, [profiles.<name>.cloud...]
+                if (path.size() < 3 || !path.get(2).equals(CLOUD)) {
+                    continue;
+                }
+                config = profiles.computeIfAbsent(path.get(1), name -> new Config());
+                locations.putIfAbsent(path.get(1), member.location());
+                path = path.subList(2, path.size());
+            }
+            String tablePath = toKey(path);
+            List<String> element = config.getArrayElement(tablePath);
+            if (element != null) {
+                // A table declared after an element of an array of tables belongs to that element.
+                element.add("");
+                element.add(tableArray ? "[[" + tablePath + "]]" : "[" + tablePath + "]");
+                for (KeyValueNode field : fields) {
+                    element.add(field.toSourceCode().trim());
+                }
+            } else if (tableArray) {
+                config.addTableArray(tablePath, fields);
+            } else {
+                for (KeyValueNode field : fields) {
+                    config.addKeyValue(tablePath, field);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the segments of a key without the quotes of the quoted segments, e.g. {@code profiles."prod-eu"}.
+     *
+     * @param keyNode key
+     * @return unquoted segments of the key
+     */
+    private static List<String> toPath(KeyNode keyNode) {
+        List<String> path = new ArrayList<>();
+        for (ValueNode valueNode : keyNode.value()) {
+            String segment = valueNode.toString().trim();
+            if (segment.length() >= 2 && (segment.startsWith("\"") && segment.endsWith("\"") ||
+                    segment.startsWith("'") && segment.endsWith("'"))) {
+                segment = segment.substring(1, segment.length() - 1);
+            }
+            path.add(segment);
+        }
+        return path;
+    }
+
+    /**
+     * Join the segments of a key, quoting the segments which are not bare keys.
+     *
+     * @param path segments of the key
+     * @return key
+     */
+    private static String toKey(List<String> path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path) {
+            segments.add(BARE_KEY_PATTERN.matcher(segment).matches() ? segment :
+                    "\"" + segment.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        }
+        return String.join(".", segments);
+    }
+
+    /**
+     * Get the index of the last separator of a key, ignoring the dots of quoted segments.
+     *
+     * @param key key
+     * @return index of the last separator or -1 if the key has one segment
+     */
+    private static int lastSeparator(String key) {
+        int separator = -1;
+        boolean quoted = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '\\' && quoted) {
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '.' && !quoted) {
+                separator = i;
+            }
+        }
+        return separator;
+    }
+
+    /**
+     * Key values of the tables and the arrays of tables of a configuration.
+     */
+    private static class Config {
+
+        // Key values are stored against the full dotted key, so that [a] b.c = 1 and [a.b] c = 2 refer to one value.
+        private final Map<String, String> keyValues = new LinkedHashMap<>();
+        // Each element of an array of tables is kept as its lines, including the tables declared under it.
+        private final Map<String, List<List<String>>> tableArrays = new LinkedHashMap<>();
+
+        void addKeyValue(String tablePath, KeyValueNode keyValue) {
+            String key = toKey(toPath(keyValue.identifier()));
+            String fullKey = tablePath.isEmpty() ? key : tablePath + "." + key;
+            keyValues.put(fullKey, keyValue.value().toSourceCode().trim());
+        }
+
+        void addTableArray(String tablePath, NodeList<KeyValueNode> fields) {
+            List<String> entries = new ArrayList<>();
+            for (KeyValueNode field : fields) {
+                entries.add(field.toSourceCode().trim());
+            }
+            tableArrays.computeIfAbsent(tablePath, path -> new ArrayList<>()).add(entries);
+        }
+
+        /**
+         * Get the last element of the innermost array of tables a table is declared under.
+         *
+         * @param tablePath key of the table
+         * @return lines of the element or null if the table is not under an array of tables
+         */
+        List<String> getArrayElement(String tablePath) {
+            String arrayPath = null;
+            for (String path : tableArrays.keySet()) {
+                if (tablePath.startsWith(path + ".") && (arrayPath == null || path.length() > arrayPath.length())) {
+                    arrayPath = path;
+                }
+            }
+            if (arrayPath == null) {
+                return null;
+            }
+            List<List<String>> elements = tableArrays.get(arrayPath);
+            return elements.get(elements.size() - 1);
+        }
+
+        Config merge(Config profile) {
+            Config merged = new Config();
+            merged.keyValues.putAll(this.keyValues);
+            merged.keyValues.putAll(profile.keyValues);
+            merged.tableArrays.putAll(this.tableArrays);
+            merged.tableArrays.putAll(profile.tableArrays);
+            return merged;
+        }
+
+        String toToml() {
+            // Group the key values by the table they belong to, so that each table is declared once.
+            Map<String, List<String>> tables = new LinkedHashMap<>();
+            List<String> rootKeyValues = new ArrayList<>();
+            for (Map.Entry<String, String> keyValue : keyValues.entrySet()) {
+                String fullKey = keyValue.getKey();
+                int separator = lastSeparator(fullKey);
+                if (separator < 0) {
+                    rootKeyValues.add(fullKey + " = " + keyValue.getValue());
+                    continue;
+                }
+                tables.computeIfAbsent(fullKey.substring(0, separator), path -> new ArrayList<>())
+                        .add(fullKey.substring(separator + 1) + " = " + keyValue.getValue());
+            }
+            StringBuilder toml = new StringBuilder();
+            for (String rootKeyValue : rootKeyValues) {
+                toml.append(rootKeyValue).append("\n");
+            }
+            for (Map.Entry<String, List<String>> table : tables.entrySet()) {
+                toml.append("\n[").append(table.getKey()).append("]\n");
+                for (String keyValue : table.getValue()) {
+                    toml.append(keyValue).append("\n");
+                }
+            }
+            for (Map.Entry<String, List<List<String>>> tableArray : tableArrays.entrySet()) {
+                for (List<String> entries : tableArray.getValue()) {
+                    toml.append("\n[[").append(tableArray.getKey()).append("]]\n");
+                    for (String keyValue : entries) {
+                        toml.append(keyValue).append("\n");
+                    }
+                }
+            }
+            return toml.toString();
+        }
+    }
+}
@@ -18,21 +18,29 @@
 
 package io.ballerina.c2c;
 
+import io.ballerina.c2c.KubernetesConstants.ResourceProfile;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.JobModel;
-import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.KedaModel;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.KubernetesModel;
 import io.ballerina.c2c.models.PersistentVolumeClaimModel;
+import io.ballerina.c2c.models.PodDisruptionBudgetModel;
+import io.ballerina.c2c.models.PrometheusModel;
 import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.models.ServiceGroupModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.models.WarmupModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.HTTPGetAction;
@@ -40,19 +48,31 @@ import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategyBuilder;
 import org.apache.commons.codec.binary.Base64;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static io.ballerina.c2c.KubernetesConstants.BALLERINA_CONF_FILE_NAME;
 import static io.ballerina.c2c.KubernetesConstants.BALLERINA_CONF_MOUNT_PATH;
@@ -60,7 +80,10 @@ import static io.ballerina.c2c.KubernetesConstants.BALLERINA_HOME;
 import static io.ballerina.c2c.KubernetesConstants.BALLERINA_RUNTIME;
 import static io.ballerina.c2c.KubernetesConstants.CONFIG_MAP_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.HOSTNAME_TOPOLOGY_KEY;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES_SELECTOR_KEY;
 import static io.ballerina.c2c.KubernetesConstants.SECRET_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.ZONE_TOPOLOGY_KEY;
 import static io.ballerina.c2c.utils.KubernetesUtils.getValidName;
 import static io.ballerina.c2c.utils.KubernetesUtils.isBlank;
 
@@ -70,16 +93,47 @@ import static io.ballerina.c2c.utils.KubernetesUtils.isBlank;
 public class CloudTomlResolver {
 
     public static final String CLOUD_DEPLOYMENT = "cloud.deployment.";
-    KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+    public static final String CLOUD_KEDA = "cloud.keda.";
+    public static final String CLOUD_JOB = "cloud.job.";
+    private final KubernetesDataHolder dataHolder;
 
-    public void resolveToml(JobModel jobModel) {
+    public CloudTomlResolver(KubernetesDataHolder dataHolder) {
+        this.dataHolder = dataHolder;
+    }
+
+    public void resolveToml(JobModel jobModel) throws KubernetesPluginException {
         Toml ballerinaCloud = dataHolder.getBallerinaCloud();
         if (ballerinaCloud != null) {
+            // Job configs
+            resolveJobToml(jobModel, ballerinaCloud);
+
+            // Resources
+            resolveResourcesToml(jobModel.getResourceRequirements(), ballerinaCloud, CLOUD_JOB);
+
             // Resolve Env
             resolveEnvToml(jobModel, ballerinaCloud);
 
+            // Config.toml files
+            resolveConfigMapToml(ballerinaCloud);
+
+            // Config files
+            final String jobName = getValidName(dataHolder.getOutputName());
+            resolveConfigFilesToml(jobName, ballerinaCloud);
+
+            // Secret files
+            resolveSecretToml(jobName, ballerinaCloud);
+
+            // Resolve Volumes
+            jobModel.setVolumeClaimModels(resolveVolumes(ballerinaCloud, CLOUD_JOB));
+
             // Resolve settings
             resolveSettingsToml(ballerinaCloud);
+
+            // Resolve KEDA
+            resolveKedaToml(ballerinaCloud);
+
+            // Prometheus metrics
+            resolvePrometheusToml(ballerinaCloud);
         }
     }
 
@@ -89,11 +143,37 @@ public class CloudTomlResolver {
             // Deployment configs
             resolveDeploymentToml(deploymentModel, ballerinaCloud);
 
+            // Rollout strategy and graceful shutdown
+            resolveRolloutToml(deploymentModel, ballerinaCloud);
+
+            // Topology spread constraints and anti affinity
+            resolveTopologyToml(deploymentModel, ballerinaCloud);
+
+            // Pod disruption budget
+            resolveDisruptionBudgetToml(ballerinaCloud);
+
             // Resolve settings
             resolveSettingsToml(ballerinaCloud);
 
+            // Resource profile
+            resolveResourceProfileToml(deploymentModel, ballerinaCloud);
+
             // Resources
-            resolveResourcesToml(deploymentModel, ballerinaCloud);
+            resolveResourcesToml(deploymentModel.getResourceRequirements(), ballerinaCloud, CLOUD_DEPLOYMENT);
+            if (deploymentModel.getResourceProfile() != null) {
+                resolveGuaranteedResources(deploymentModel);
+            } else if (deploymentModel.isOmitCpuLimit()) {
+                deploymentModel.getResourceRequirements().getLimits().remove(KubernetesConstants.CPU);
+            }
+
+            // Runtime sizing
+            resolveRuntimeToml(deploymentModel, ballerinaCloud);
+
+            // JIT warm-up
+            resolveWarmupToml(deploymentModel, ballerinaCloud);
+
+            // Service groups
+            resolveServiceGroupsToml(deploymentModel, ballerinaCloud);
 
             // Env vars
             resolveEnvToml(deploymentModel, ballerinaCloud);
@@ -102,20 +182,24 @@ public class CloudTomlResolver {
             resolveConfigMapToml(ballerinaCloud);
 
             // Config files
-            resolveConfigFilesToml(deploymentModel, ballerinaCloud);
+            final String deploymentName = deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "");
+            resolveConfigFilesToml(deploymentName, ballerinaCloud);
 
             // Secret files
-            resolveSecretToml(deploymentModel, ballerinaCloud);
+            resolveSecretToml(deploymentName, ballerinaCloud);
 
             // Resolve Volumes
-            resolveVolumes(deploymentModel, ballerinaCloud);
+            deploymentModel.setVolumeClaimModels(resolveVolumes(ballerinaCloud, CLOUD_DEPLOYMENT));
+
+            // Resolve KEDA
+            resolveKedaToml(ballerinaCloud);
         }
 
     }
 
-    private void resolveVolumes(DeploymentModel deploymentModel, Toml ballerinaCloud) {
-        List<Toml> volumes = ballerinaCloud.getTables("cloud.deployment.storage.volumes");
-        Set<PersistentVolumeClaimModel> persistentVolumeClaimModels = new HashSet<>();
+    private Set<PersistentVolumeClaimModel> resolveVolumes(Toml ballerinaCloud, String key) {
+        List<Toml> volumes = ballerinaCloud.getTables(key + "storage.volumes");
+        Set<PersistentVolumeClaimModel> persistentVolumeClaimModels = new LinkedHashSet<>();
         volumes.forEach(volume -> {
             PersistentVolumeClaimModel pv = new PersistentVolumeClaimModel();
             pv.setName(TomlHelper.getString(volume, "name"));
@@ -123,13 +207,145 @@ public class CloudTomlResolver {
             pv.setVolumeClaimSizeAmount(TomlHelper.getString(volume, "size"));
             persistentVolumeClaimModels.add(pv);
         });
-        deploymentModel.setVolumeClaimModels(persistentVolumeClaimModels);
+        return persistentVolumeClaimModels;
+    }
+
+    private void resolveKedaToml(Toml ballerinaCloud) throws KubernetesPluginException {
+        if (!TomlHelper.getBoolean(ballerinaCloud, CLOUD_KEDA + "enable", false)) {
+            return;
+        }
+        KedaModel kedaModel = new KedaModel();
+        kedaModel.setPollingInterval(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_KEDA +
+                "polling_interval", kedaModel.getPollingInterval())));
+        kedaModel.setCooldownPeriod(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_KEDA +
+                "cooldown_period", kedaModel.getCooldownPeriod())));
+        kedaModel.setMinReplicas(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_KEDA + "min_replicas",
+                kedaModel.getMinReplicas())));
+        long maxReplicas = TomlHelper.getLong(ballerinaCloud, CLOUD_DEPLOYMENT + "autoscaling.max_replicas",
+                kedaModel.getMaxReplicas());
+        kedaModel.setMaxReplicas(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_KEDA + "max_replicas",
+                maxReplicas)));
+        List<Toml> triggers = ballerinaCloud.getTables(CLOUD_KEDA + "triggers");
+        if (triggers.isEmpty()) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.KEDA_TRIGGER_NOT_FOUND,
+                    new NullLocation());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        for (Toml trigger : triggers) {
+            KedaModel.TriggerModel triggerModel = new KedaModel.TriggerModel();
+            String type = TomlHelper.getString(trigger, "type");
+            triggerModel.setType(isBlank(type) ? getDefaultKedaTriggerType() : type);
+            triggerModel.setAuthenticationRef(TomlHelper.getString(trigger, "authentication_ref"));
+            Optional<Toml> metadata = trigger.getTable("metadata");
+            metadata.ifPresent(toml -> triggerModel.setMetadata(TomlHelper.getStringMap(toml)));
+            kedaModel.addTrigger(triggerModel);
+        }
+        dataHolder.setKedaModel(kedaModel);
+    }
+
+    private void resolvePrometheusToml(Toml ballerinaCloud) {
+        PrometheusModel prometheusModel = dataHolder.getPrometheusModel();
+        if (prometheusModel == null) {
+            return;
+        }
+        final String prometheus = CLOUD_DEPLOYMENT + "prometheus.";
+        if (!TomlHelper.getBoolean(ballerinaCloud, prometheus + "enable", true)) {
+            dataHolder.setPrometheusModel(null);
+            return;
+        }
+        Long port = TomlHelper.getLong(ballerinaCloud, prometheus + "port");
+        if (port == null) {
+            port = getConfiguredMetricsPort(ballerinaCloud);
+        }
+        if (port != null) {
+            prometheusModel.setPort(Math.toIntExact(port));
+        }
+        prometheusModel.setServiceMonitor(TomlHelper.getBoolean(ballerinaCloud, prometheus + "service_monitor",
+                false));
+        prometheusModel.setScrapeInterval(TomlHelper.getString(ballerinaCloud, prometheus + "scrape_interval"));
+    }
+
+    /**
+     * Read the metrics port the Prometheus module is configured with from the mounted Config.toml files.
+     *
+     * @param ballerinaCloud Cloud.toml
+     * @return configured port or null if not configured
+     */
+    private Long getConfiguredMetricsPort(Toml ballerinaCloud) {
+        for (Toml configFile : ballerinaCloud.getTables("cloud.config.files")) {
+            String file = TomlHelper.getString(configFile, "file");
+            if (file == null) {
+                continue;
+            }
+            Path configPath = Paths.get(file);
+            if (!configPath.isAbsolute()) {
+                configPath = dataHolder.getSourceRoot().resolve(configPath).normalize();
+            }
+            try {
+                Long port = TomlHelper.getLong(Toml.read(configPath), "ballerinax.prometheus.port");
+                if (port != null) {
+                    return port;
+                }
+            } catch (IOException e) {
+                // Unreadable config files are reported when the config map is generated.
+            }
+        }
+        return null;
+    }
+
+    private String getDefaultKedaTriggerType() throws KubernetesPluginException {
+        // Trigger type can only be inferred when the services listen to a single message broker. NATS has a scaler
+        // for each of streaming and JetStream, but none for core NATS subjects, so its type is never inferred.
+        Set<String> messageBrokers = dataHolder.getMessageBrokers();
+        if (messageBrokers.size() != 1 || messageBrokers.contains("nats")) {
+            Diagnostic diagnostic =
+                    C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.KEDA_TRIGGER_TYPE_NOT_FOUND,
+                            new NullLocation());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        return messageBrokers.iterator().next();
+    }
+
+    private void resolveJobToml(JobModel jobModel, Toml ballerinaCloud) {
+        final Long parallelism = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "parallelism");
+        if (parallelism != null) {
+            jobModel.setParallelism(Math.toIntExact(parallelism));
+        }
+        final Long completions = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "completions");
+        if (completions != null) {
+            jobModel.setCompletions(Math.toIntExact(completions));
+        }
+        final Long backoffLimit = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "backoff_limit");
+        if (backoffLimit != null) {
+            jobModel.setBackoffLimit(Math.toIntExact(backoffLimit));
+        }
+        jobModel.setActiveDeadlineSeconds(TomlHelper.getLong(ballerinaCloud, CLOUD_JOB +
+                "active_deadline_seconds"));
+        if (TomlHelper.getBoolean(ballerinaCloud, CLOUD_JOB + "indexed", false)) {
+            // Each pod gets its completion index in JOB_COMPLETION_INDEX, one index per shard.
+            jobModel.setCompletionMode(KubernetesConstants.INDEXED_COMPLETION_MODE);
+            if (jobModel.getCompletions() == null) {
+                jobModel.setCompletions(jobModel.getParallelism() == null ? 1 : jobModel.getParallelism());
+            }
+        }
+        jobModel.setConcurrencyPolicy(TomlHelper.getString(ballerinaCloud, CLOUD_JOB + "concurrency_policy"));
+        final Long successfulJobsHistoryLimit = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB +
+                "successful_jobs_history_limit");
+        if (successfulJobsHistoryLimit != null) {
+            jobModel.setSuccessfulJobsHistoryLimit(Math.toIntExact(successfulJobsHistoryLimit));
+        }
+        final Long failedJobsHistoryLimit = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB +
+                "failed_jobs_history_limit");
+        if (failedJobsHistoryLimit != null) {
+            jobModel.setFailedJobsHistoryLimit(Math.toIntExact(failedJobsHistoryLimit));
+        }
     }
 
     private void resolveSettingsToml(Toml ballerinaCloud) {
         dataHolder.setSingleYaml(TomlHelper.getBoolean(ballerinaCloud, "settings.singleYAML", true));
         dataHolder.getDockerModel().setBuildImage(TomlHelper.getBoolean(ballerinaCloud,
                 "settings.buildImage", true));
+        dataHolder.setHelm(TomlHelper.getBoolean(ballerinaCloud, "settings.helm", false));
     }
 
     private void resolveDeploymentToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
@@ -139,10 +355,258 @@ public class CloudTomlResolver {
         probeToml.ifPresent(toml -> deploymentModel.setReadinessProbe(resolveProbeToml(toml)));
         probeToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "probes.liveness");
         probeToml.ifPresent(toml -> deploymentModel.setLivenessProbe(resolveProbeToml(toml)));
+        deploymentModel.setHeadlessService(TomlHelper.getBoolean(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "headless_service", false));
         deploymentModel.setInternalDomainName(TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT +
                 "internal_domain_name"));
     }
 
+    private void resolveRolloutToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+        final String rollout = CLOUD_DEPLOYMENT + "rollout.";
+        String maxSurge = TomlHelper.getString(ballerinaCloud, rollout + "max_surge");
+        String maxUnavailable = TomlHelper.getString(ballerinaCloud, rollout + "max_unavailable");
+        if (maxSurge != null || maxUnavailable != null) {
+            DeploymentStrategy strategy = new DeploymentStrategyBuilder()
+                    .withType("RollingUpdate")
+                    .withNewRollingUpdate()
+                    .withMaxSurge(getIntOrPercentage(maxSurge))
+                    .withMaxUnavailable(getIntOrPercentage(maxUnavailable))
+                    .endRollingUpdate()
+                    .build();
+            deploymentModel.setStrategy(strategy);
+        }
+        Long minReadySeconds = TomlHelper.getLong(ballerinaCloud, rollout + "min_ready_seconds");
+        if (minReadySeconds != null) {
+            deploymentModel.setMinReadySeconds(Math.toIntExact(minReadySeconds));
+        }
+        Long drainSeconds = TomlHelper.getLong(ballerinaCloud, rollout + "drain_seconds");
+        if (drainSeconds != null) {
+            deploymentModel.setPreStopDrainSeconds(Math.toIntExact(drainSeconds));
+        }
+        deploymentModel.setTerminationGracePeriodSeconds(TomlHelper.getLong(ballerinaCloud, rollout +
+                "termination_grace_period_seconds"));
+    }
+
+    private void resolveWarmupToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+        final String warmup = CLOUD_DEPLOYMENT + "warmup.";
+        List<Toml> requests = ballerinaCloud.getTables(warmup + "requests");
+        if (requests.isEmpty()) {
+            return;
+        }
+        WarmupModel warmupModel = new WarmupModel();
+        warmupModel.setTimeBudgetSeconds(Math.toIntExact(TomlHelper.getLong(ballerinaCloud,
+                warmup + "time_budget_seconds", warmupModel.getTimeBudgetSeconds())));
+        for (Toml request : requests) {
+            WarmupModel.RequestModel requestModel = new WarmupModel.RequestModel();
+            requestModel.setPort(Math.toIntExact(TomlHelper.getLong(request, "port", 0)));
+            requestModel.setPath(TomlHelper.getString(request, "path"));
+            requestModel.setCount(Math.toIntExact(TomlHelper.getLong(request, "count", requestModel.getCount())));
+            warmupModel.addRequest(requestModel);
+        }
+        deploymentModel.setWarmupModel(warmupModel);
+    }
+
+    private void resolveResourceProfileToml(DeploymentModel deploymentModel, Toml ballerinaCloud)
+            throws KubernetesPluginException {
+        deploymentModel.setOmitCpuLimit(TomlHelper.getBoolean(ballerinaCloud, CLOUD_DEPLOYMENT + "omit_cpu_limit",
+                false));
+        deploymentModel.setPriorityClassName(TomlHelper.getString(ballerinaCloud,
+                CLOUD_DEPLOYMENT + "priority_class"));
+        String profileName = TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT + "profile");
+        if (profileName == null) {
+            return;
+        }
+        ResourceProfile profile;
+        try {
+            profile = ResourceProfile.valueOf(profileName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_RESOURCE_PROFILE,
+                    new NullLocation(), profileName);
+            throw new KubernetesPluginException(diagnostic);
+        }
+        deploymentModel.setResourceProfile(profileName);
+        ResourceRequirements resourceRequirements = deploymentModel.getResourceRequirements();
+        resourceRequirements.getRequests().put(KubernetesConstants.CPU, new Quantity(profile.getCpu()));
+        resourceRequirements.getRequests().put(KubernetesConstants.MEMORY, new Quantity(profile.getMemory()));
+        resourceRequirements.getLimits().put(KubernetesConstants.CPU, new Quantity(profile.getCpu()));
+        resourceRequirements.getLimits().put(KubernetesConstants.MEMORY, new Quantity(profile.getMemory()));
+        deploymentModel.getJvmOptions().addAll(profile.getJvmOptions());
+    }
+
+    /**
+     * Equalize requests and limits with whole CPUs so that the pod gets the Guaranteed QoS class and exclusive cores
+     * with the static CPU manager. The larger of the request and the limit wins.
+     *
+     * @param deploymentModel deployment model with a resource profile
+     */
+    private void resolveGuaranteedResources(DeploymentModel deploymentModel) {
+        ResourceRequirements resourceRequirements = deploymentModel.getResourceRequirements();
+        Map<String, Quantity> requests = resourceRequirements.getRequests();
+        Map<String, Quantity> limits = resourceRequirements.getLimits();
+        BigDecimal cpu = Quantity.getAmountInBytes(requests.get(KubernetesConstants.CPU))
+                .max(Quantity.getAmountInBytes(limits.get(KubernetesConstants.CPU)))
+                .setScale(0, RoundingMode.CEILING);
+        Quantity cpuQuantity = new Quantity(cpu.toPlainString());
+        Quantity memory = Quantity.getAmountInBytes(requests.get(KubernetesConstants.MEMORY))
+                .compareTo(Quantity.getAmountInBytes(limits.get(KubernetesConstants.MEMORY))) > 0 ?
+                requests.get(KubernetesConstants.MEMORY) : limits.get(KubernetesConstants.MEMORY);
+        requests.put(KubernetesConstants.CPU, cpuQuantity);
+        requests.put(KubernetesConstants.MEMORY, memory);
+        if (deploymentModel.isOmitCpuLimit()) {
+            // Avoids CFS throttling at the cost of the Guaranteed QoS class.
+            limits.remove(KubernetesConstants.CPU);
+        } else {
+            limits.put(KubernetesConstants.CPU, cpuQuantity);
+        }
+        limits.put(KubernetesConstants.MEMORY, memory);
+    }
+
+    private void resolveRuntimeToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+        final String runtime = CLOUD_DEPLOYMENT + "runtime.";
+        deploymentModel.setRuntimeSizing(TomlHelper.getBoolean(ballerinaCloud, runtime + "enable", true));
+        final Long activeProcessorCount = TomlHelper.getLong(ballerinaCloud, runtime + "active_processor_count");
+        if (activeProcessorCount != null) {
+            deploymentModel.setActiveProcessorCount(Math.toIntExact(activeProcessorCount));
+        }
+        final Long schedulerPoolSize = TomlHelper.getLong(ballerinaCloud, runtime + "scheduler_pool_size");
+        if (schedulerPoolSize != null) {
+            deploymentModel.setSchedulerPoolSize(Math.toIntExact(schedulerPoolSize));
+        }
+        deploymentModel.getJvmOptions().addAll(TomlHelper.getStringArray(ballerinaCloud, runtime + "jvm_options"));
+    }
+
+    private void resolveServiceGroupsToml(DeploymentModel deploymentModel, Toml ballerinaCloud)
+            throws KubernetesPluginException {
+        List<Toml> groups = ballerinaCloud.getTables(CLOUD_DEPLOYMENT + "groups");
+        Map<String, String> groupOfService = new HashMap<>();
+        for (Toml group : groups) {
+            ServiceGroupModel serviceGroupModel = new ServiceGroupModel();
+            serviceGroupModel.setName(TomlHelper.getString(group, "name"));
+            serviceGroupModel.setServices(TomlHelper.getStringArray(group, "services"));
+            serviceGroupModel.setReplicas(Math.toIntExact(TomlHelper.getLong(group, "replicas",
+                    deploymentModel.getReplicas())));
+            // Start from the deployment sizing and override what the group specifies.
+            ResourceRequirements resources = deploymentModel.getResourceRequirements();
+            serviceGroupModel.setResourceRequirements(new ResourceRequirementsBuilder()
+                    .withRequests(new LinkedHashMap<>(resources.getRequests()))
+                    .withLimits(new LinkedHashMap<>(resources.getLimits()))
+                    .build());
+            resolveResourcesToml(serviceGroupModel.getResourceRequirements(), group, "");
+            final Long minReplicas = TomlHelper.getLong(group, "autoscaling.min_replicas");
+            if (minReplicas != null) {
+                serviceGroupModel.setMinReplicas(Math.toIntExact(minReplicas));
+            }
+            final Long maxReplicas = TomlHelper.getLong(group, "autoscaling.max_replicas");
+            if (maxReplicas != null) {
+                serviceGroupModel.setMaxReplicas(Math.toIntExact(maxReplicas));
+            }
+            final Long cpu = TomlHelper.getLong(group, "autoscaling.cpu");
+            if (cpu != null) {
+                serviceGroupModel.setCpuPercentage(Math.toIntExact(cpu));
+            }
+            // Services of the group are no longer served by the default deployment.
+            for (String servicePath : serviceGroupModel.getServices()) {
+                String otherGroup = groupOfService.putIfAbsent(servicePath.trim(), serviceGroupModel.getName());
+                if (otherGroup != null) {
+                    Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(
+                            C2CDiagnosticCodes.SERVICE_GROUP_DUPLICATE_SERVICE, new NullLocation(), servicePath,
+                            otherGroup, serviceGroupModel.getName());
+                    throw new KubernetesPluginException(diagnostic);
+                }
+                Optional<ServiceModel> serviceModel = dataHolder.getServiceModelList().stream()
+                        .filter(service -> servicePath.trim().equals(service.getServicePath()))
+                        .findFirst();
+                if (serviceModel.isEmpty()) {
+                    Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(
+                            C2CDiagnosticCodes.SERVICE_GROUP_SERVICE_NOT_FOUND, new NullLocation(), servicePath,
+                            serviceGroupModel.getName());
+                    throw new KubernetesPluginException(diagnostic);
+                }
+                dataHolder.getServiceModelList().remove(serviceModel.get());
+                serviceGroupModel.getServiceModels().add(serviceModel.get());
+            }
+            dataHolder.getServiceGroupModels().add(serviceGroupModel);
+        }
+    }
+
+    private IntOrString getIntOrPercentage(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.endsWith("%")) {
+            return new IntOrString(value);
+        }
+        return new IntOrString(Integer.parseInt(value));
+    }
+
+    private void resolveTopologyToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+        final String topology = CLOUD_DEPLOYMENT + "topology.";
+        Map<String, String> selector = Collections.singletonMap(KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName());
+        int maxSkew = Math.toIntExact(TomlHelper.getLong(ballerinaCloud, topology + "max_skew", 1));
+        String whenUnsatisfiable = TomlHelper.getString(ballerinaCloud, topology + "when_unsatisfiable",
+                "ScheduleAnyway");
+        if (TomlHelper.getBoolean(ballerinaCloud, topology + "spread_zones", false)) {
+            deploymentModel.addTopologySpreadConstraint(getTopologySpreadConstraint(ZONE_TOPOLOGY_KEY, maxSkew,
+                    whenUnsatisfiable, selector));
+        }
+        if (TomlHelper.getBoolean(ballerinaCloud, topology + "spread_nodes", false)) {
+            deploymentModel.addTopologySpreadConstraint(getTopologySpreadConstraint(HOSTNAME_TOPOLOGY_KEY, maxSkew,
+                    whenUnsatisfiable, selector));
+        }
+        if (TomlHelper.getBoolean(ballerinaCloud, topology + "pod_anti_affinity", false)) {
+            // Preferred, so that the replicas can still be scheduled when there are fewer nodes than replicas.
+            Affinity affinity = new AffinityBuilder()
+                    .withNewPodAntiAffinity()
+                    .addNewPreferredDuringSchedulingIgnoredDuringExecution()
+                    .withWeight(100)
+                    .withNewPodAffinityTerm()
+                    .withNewLabelSelector()
+                    .withMatchLabels(selector)
+                    .endLabelSelector()
+                    .withTopologyKey(HOSTNAME_TOPOLOGY_KEY)
+                    .endPodAffinityTerm()
+                    .endPreferredDuringSchedulingIgnoredDuringExecution()
+                    .endPodAntiAffinity()
+                    .build();
+            deploymentModel.setAffinity(affinity);
+        }
+    }
+
+    private TopologySpreadConstraint getTopologySpreadConstraint(String topologyKey, int maxSkew,
+                                                                 String whenUnsatisfiable,
+                                                                 Map<String, String> selector) {
+        return new TopologySpreadConstraintBuilder()
+                .withMaxSkew(maxSkew)
+                .withTopologyKey(topologyKey)
+                .withWhenUnsatisfiable(whenUnsatisfiable)
+                .withNewLabelSelector()
+                .withMatchLabels(selector)
+                .endLabelSelector()
+                .build();
+    }
+
+    private void resolveDisruptionBudgetToml(Toml ballerinaCloud) throws KubernetesPluginException {
+        final String disruptionBudget = CLOUD_DEPLOYMENT + "disruption_budget.";
+        if (!TomlHelper.getBoolean(ballerinaCloud, disruptionBudget + "enable", false)) {
+            return;
+        }
+        PodDisruptionBudgetModel podDisruptionBudgetModel = new PodDisruptionBudgetModel();
+        Long minAvailable = TomlHelper.getLong(ballerinaCloud, disruptionBudget + "min_available");
+        if (minAvailable != null) {
+            podDisruptionBudgetModel.setMinAvailable(Math.toIntExact(minAvailable));
+        }
+        Long maxUnavailable = TomlHelper.getLong(ballerinaCloud, disruptionBudget + "max_unavailable");
+        if (minAvailable != null && maxUnavailable != null) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.DISRUPTION_BUDGET_CONFLICT,
+                    new NullLocation());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        if (maxUnavailable != null) {
+            podDisruptionBudgetModel.setMaxUnavailable(Math.toIntExact(maxUnavailable));
+        }
+        dataHolder.setPodDisruptionBudgetModel(podDisruptionBudgetModel);
+    }
+
     private void resolveEnvToml(KubernetesModel model, Toml ballerinaCloud) {
         List<Toml> envs = ballerinaCloud.getTables("cloud.config.envs");
         for (Toml env : envs) {
@@ -179,27 +643,28 @@ public class CloudTomlResolver {
         }
     }
 
-    private void resolveResourcesToml(DeploymentModel deploymentModel, Toml deploymentToml) {
-        Map<String, Quantity> requests = deploymentModel.getResourceRequirements().getRequests();
-        String minMemory = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + KubernetesConstants.MIN_MEMORY);
-        String minCPU = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + "min_cpu");
+    private void resolveResourcesToml(ResourceRequirements resourceRequirements, Toml ballerinaCloud,
+                                      String prefix) {
+        Map<String, Quantity> requests = resourceRequirements.getRequests();
+        String minMemory = TomlHelper.getString(ballerinaCloud, prefix + KubernetesConstants.MIN_MEMORY);
+        String minCPU = TomlHelper.getString(ballerinaCloud, prefix + "min_cpu");
         if (minMemory != null) {
             requests.put(KubernetesConstants.MEMORY, new Quantity(minMemory));
         }
         if (minCPU != null) {
             requests.put(KubernetesConstants.CPU, new Quantity(minCPU));
         }
-        Map<String, Quantity> limits = deploymentModel.getResourceRequirements().getLimits();
-        String maxMemory = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + "max_memory");
-        String maxCPU = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + "max_cpu");
+        Map<String, Quantity> limits = resourceRequirements.getLimits();
+        String maxMemory = TomlHelper.getString(ballerinaCloud, prefix + "max_memory");
+        String maxCPU = TomlHelper.getString(ballerinaCloud, prefix + "max_cpu");
         if (maxMemory != null) {
             limits.put(KubernetesConstants.MEMORY, new Quantity(maxMemory));
         }
         if (maxCPU != null) {
             limits.put(KubernetesConstants.CPU, new Quantity(maxCPU));
         }
-        deploymentModel.getResourceRequirements().setLimits(limits);
-        deploymentModel.getResourceRequirements().setRequests(requests);
+        resourceRequirements.setLimits(limits);
+        resourceRequirements.setRequests(requests);
     }
 
     private void resolveConfigMapToml(Toml toml) throws KubernetesPluginException {
@@ -209,7 +674,7 @@ public class CloudTomlResolver {
             configMapModel.setName(getValidName(BALLERINA_CONF_FILE_NAME.replace(".toml", ""))
                     + CONFIG_MAP_POSTFIX);
             configMapModel.setMountPath(BALLERINA_CONF_MOUNT_PATH);
-            Map<String, String> dataMap = new HashMap<>();
+            Map<String, String> dataMap = new TreeMap<>();
             for (Toml configFile : configFiles) {
                 Path path = Paths.get(Objects.requireNonNull(TomlHelper.getString(configFile, "file")));
                 // Resolve Config.toml
@@ -221,7 +686,7 @@ public class CloudTomlResolver {
                 }
                 Path dataFilePath = path;
                 if (!path.isAbsolute()) {
-                    dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath)
+                    dataFilePath = dataHolder.getSourceRoot().resolve(dataFilePath)
                             .normalize();
                 }
                 String content = new String(KubernetesUtils.readFileContent(dataFilePath), StandardCharsets.UTF_8);
@@ -234,10 +699,9 @@ public class CloudTomlResolver {
         }
     }
 
-    public void resolveConfigFilesToml(DeploymentModel deploymentModel, Toml toml) throws KubernetesPluginException {
+    public void resolveConfigFilesToml(String deploymentName, Toml toml) throws KubernetesPluginException {
         List<Toml> configFiles = toml.getTables("cloud.config.maps");
         if (configFiles.size() != 0) {
-            final String deploymentName = deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "");
             for (Toml configFile : configFiles) {
                 Path path = Paths.get(Objects.requireNonNull(TomlHelper.getString(configFile, "file")));
                 Path mountPath = Paths.get(Objects.requireNonNull(TomlHelper.getString(configFile, "mount_path")));
@@ -252,11 +716,9 @@ public class CloudTomlResolver {
         }
     }
 
-    private void resolveSecretToml(DeploymentModel deploymentModel, Toml toml) throws KubernetesPluginException {
+    private void resolveSecretToml(String deploymentName, Toml toml) throws KubernetesPluginException {
         List<Toml> secrets = toml.getTables("cloud.secret.files");
         if (secrets.size() != 0) {
-            final String deploymentName = deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "");
-
             for (Toml secret : secrets) {
                 Path path = Paths.get(Objects.requireNonNull(TomlHelper.getString(secret, "file")));
                 if (path.endsWith(BALLERINA_CONF_FILE_NAME)) {
@@ -305,10 +767,10 @@ public class CloudTomlResolver {
     }
 
     private Map<String, String> getDataForConfigMap(String path) throws KubernetesPluginException {
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         Path dataFilePath = Paths.get(path);
         if (!dataFilePath.isAbsolute()) {
-            dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath);
+            dataFilePath = dataHolder.getSourceRoot().resolve(dataFilePath);
         }
         String key = String.valueOf(dataFilePath.getFileName());
         String content = new String(KubernetesUtils.readFileContent(dataFilePath), StandardCharsets.UTF_8);
@@ -317,10 +779,10 @@ public class CloudTomlResolver {
     }
 
     private Map<String, String> getDataForSecret(String path) throws KubernetesPluginException {
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         Path dataFilePath = Paths.get(path);
         if (!dataFilePath.isAbsolute()) {
-            dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath);
+            dataFilePath = dataHolder.getSourceRoot().resolve(dataFilePath);
         }
         String key = String.valueOf(dataFilePath.getFileName());
         String content = Base64.encodeBase64String(KubernetesUtils.readFileContent(dataFilePath));
@@ -337,11 +799,11 @@ public class CloudTomlResolver {
         secretModel.setMountPath(BALLERINA_CONF_MOUNT_PATH);
         Path dataFilePath = Paths.get(configFilePath);
         if (!dataFilePath.isAbsolute()) {
-            dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath)
+            dataFilePath = dataHolder.getSourceRoot().resolve(dataFilePath)
                     .normalize();
         }
         String content = Base64.encodeBase64String(KubernetesUtils.readFileContent(dataFilePath));
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         dataMap.put(BALLERINA_CONF_FILE_NAME, content);
         secretModel.setData(dataMap);
         secretModel.setBallerinaConf(configFilePath);
@@ -359,6 +821,10 @@ public class CloudTomlResolver {
         }
         httpGet.setPath(TomlHelper.getString(probeToml, "path"));
         probe.setInitialDelaySeconds(30);
+        final Long periodSeconds = TomlHelper.getLong(probeToml, "period_seconds");
+        if (periodSeconds != null) {
+            probe.setPeriodSeconds(Math.toIntExact(periodSeconds));
+        }
         probe.setHttpGet(httpGet);
         return probe;
     }
@@ -18,6 +18,9 @@
 
 package io.ballerina.c2c;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Constants used in kubernetes extension.
  */
@@ -35,6 +38,15 @@ public class KubernetesConstants {
     public static final String DEPLOYMENT_POSTFIX = "-deployment";
     public static final String JOB_POSTFIX = "-job";
     public static final String HPA_POSTFIX = "-hpa";
+    public static final String PDB_POSTFIX = "-pdb";
+    public static final String HEADLESS_SVC_POSTFIX = "-headless";
+    public static final String HEADLESS_CLUSTER_IP = "None";
+    public static final String MAX_POOL_SIZE_ENV = "BALLERINA_MAX_POOL_SIZE";
+    public static final String JAVA_TOOL_OPTIONS_ENV = "JAVA_TOOL_OPTIONS";
+    public static final String USER_JAVA_TOOL_OPTIONS_ENV = "USER_JAVA_TOOL_OPTIONS";
+    public static final String SCALED_OBJECT_POSTFIX = "-scaled-object";
+    public static final String SCALED_JOB_POSTFIX = "-scaled-job";
+    public static final String SERVICE_MONITOR_POSTFIX = "-service-monitor";
     public static final String DEPLOYMENT_FILE_POSTFIX = "_deployment";
     public static final String JOB_FILE_POSTFIX = "_job";
     public static final String SVC_FILE_POSTFIX = "_svc";
@@ -42,6 +54,21 @@ public class KubernetesConstants {
     public static final String CONFIG_MAP_FILE_POSTFIX = "_config_map";
     public static final String VOLUME_CLAIM_FILE_POSTFIX = "_volume_claim";
     public static final String HPA_FILE_POSTFIX = "_hpa";
+    public static final String PDB_FILE_POSTFIX = "_pdb";
+    public static final String SCALED_OBJECT_FILE_POSTFIX = "_scaled_object";
+    public static final String SCALED_JOB_FILE_POSTFIX = "_scaled_job";
+    public static final String SERVICE_MONITOR_FILE_POSTFIX = "_service_monitor";
+    public static final String KEDA_API_VERSION = "keda.sh/v1alpha1";
+    public static final String SERVICE_MONITOR_API_VERSION = "monitoring.coreos.com/v1";
+    public static final String METRICS_PORT_NAME = "metrics";
+    public static final String PROMETHEUS = "prometheus";
+    public static final String INDEXED_COMPLETION_MODE = "Indexed";
+    public static final String H2C_APP_PROTOCOL = "kubernetes.io/h2c";
+    public static final String WS_APP_PROTOCOL = "kubernetes.io/ws";
+    public static final String WSS_APP_PROTOCOL = "kubernetes.io/wss";
+    public static final String ZONE_TOPOLOGY_KEY = "topology.kubernetes.io/zone";
+    public static final String HOSTNAME_TOPOLOGY_KEY = "kubernetes.io/hostname";
+    public static final String CONFIG_HASH_ANNOTATION = "c2c.ballerina.io/config-hash";
     public static final String YAML = ".yaml";
     public static final String DOCKER_LATEST_TAG = ":latest";
     public static final String BALLERINA_HOME = "/home/ballerina";
@@ -50,6 +77,7 @@ public class KubernetesConstants {
     public static final String BALLERINA_CONF_FILE_NAME = "Config.toml";
     public static final String DOCKER_HOST = "DOCKER_HOST";
     public static final String DOCKER_CERT_PATH = "DOCKER_CERT_PATH";
+    public static final String C2C_TRACE = "BAL_C2C_TRACE";
     public static final String KEY_REF = "key_ref";
     public static final String MIN_MEMORY = "min_memory";
     public static final String MEMORY = "memory";
@@ -72,4 +100,35 @@ public class KubernetesConstants {
         ClusterIP,
         NodePort,
     }
+
+    /**
+     * Resource profile enum. Each profile expands into Guaranteed QoS resources and matching JVM flags.
+     */
+    public enum ResourceProfile {
+        LATENCY("2", "1Gi", "-XX:+UseG1GC", "-XX:MaxGCPauseMillis=50", "-XX:MaxRAMPercentage=75.0"),
+        THROUGHPUT("2", "1Gi", "-XX:+UseParallelGC", "-XX:MaxRAMPercentage=75.0"),
+        BATCH("1", "512Mi", "-XX:+UseSerialGC", "-XX:MaxRAMPercentage=75.0");
+
+        private final String cpu;
+        private final String memory;
+        private final List<String> jvmOptions;
+
+        ResourceProfile(String cpu, String memory, String... jvmOptions) {
+            this.cpu = cpu;
+            this.memory = memory;
+            this.jvmOptions = Arrays.asList(jvmOptions);
+        }
+
+        public String getCpu() {
+            return cpu;
+        }
+
+        public String getMemory() {
+            return memory;
+        }
+
+        public List<String> getJvmOptions() {
+            return jvmOptions;
+        }
+    }
 }
@@ -33,7 +33,6 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import lombok.Getter;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,9 +50,8 @@ public class ProjectServiceInfo {
     public ProjectServiceInfo(Project project, List<Diagnostic> diagnostics) {
         this.serviceList = new ArrayList<>();
         Package currentPackage = project.currentPackage();
-        Iterable<Module> modules = currentPackage.modules();
-        for (Module module : modules) {
-            Collection<DocumentId> documentIds = module.documentIds();
+        for (Module module : io.ballerina.c2c.util.ProjectServiceInfo.getSortedModules(currentPackage)) {
+            List<DocumentId> documentIds = io.ballerina.c2c.util.ProjectServiceInfo.getSortedDocumentIds(module);
             //Retrieve Module level variables and store in hashmap
             Map<String, Node> moduleLevelVariables = new HashMap<>();
             SemanticModel semanticModel = module.getCompilation().getSemanticModel();
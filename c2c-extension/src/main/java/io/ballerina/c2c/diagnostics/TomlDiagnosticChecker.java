@@ -21,6 +21,9 @@ import io.ballerina.c2c.util.ListenerInfo;
 import io.ballerina.c2c.util.ProjectServiceInfo;
 import io.ballerina.c2c.util.ResourceInfo;
 import io.ballerina.c2c.util.ServiceInfo;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.ast.TomlLongValueNode;
@@ -30,11 +33,17 @@ import io.ballerina.toml.semantic.diagnostics.TomlDiagnostic;
 import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
 
 /**
  * Responsible for validation against ballerina documents.
@@ -43,6 +52,11 @@ import java.util.Optional;
  */
 public class TomlDiagnosticChecker {
 
+    // The language server compiles the project on every edit. Results of the previous validation are kept per
+    // project so that only the probes which changed are validated again.
+    private static final Map<Project, ValidationState> VALIDATION_STATES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private final Project project;
 
     public TomlDiagnosticChecker(Project project) {
@@ -55,24 +69,67 @@ public class TomlDiagnosticChecker {
             return Collections.emptyList();
         }
 
-        ProjectServiceInfo projectService = new ProjectServiceInfo(project);
-        Optional<Toml> ready = toml.getTable("cloud.deployment.probes.readiness");
-        ready.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(projectService, value, ProbeType.READINESS)));
-        Optional<Toml> live = toml.getTable("cloud.deployment.probes.liveness");
-        live.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(projectService, value, ProbeType.LIVENESS)));
+        ValidationState state = VALIDATION_STATES.computeIfAbsent(project, key -> new ValidationState());
+        synchronized (state) {
+            state.update(getSourceVersion());
+            Optional<Toml> ready = toml.getTable("cloud.deployment.probes.readiness");
+            ready.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(state, value, ProbeType.READINESS)));
+            Optional<Toml> live = toml.getTable("cloud.deployment.probes.liveness");
+            live.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(state, value, ProbeType.LIVENESS)));
+            for (Toml warmupRequest : toml.getTables("cloud.deployment.warmup.requests")) {
+                diagnosticInfoList.addAll(validateProbe(state, warmupRequest, ProbeType.WARMUP));
+            }
+            state.retainVisited();
+        }
 
         return diagnosticInfoList;
     }
 
-    private List<Diagnostic> validateProbe(ProjectServiceInfo projectServiceInfo, Toml probe, ProbeType type) {
-        List<Diagnostic> diagnosticInfos = new ArrayList<>();
+    /**
+     * Get the syntax trees the service information of the project is built from. Ballerina.toml and
+     * Dependencies.toml are included, as they decide the versions of the dependencies the sources are compiled with.
+     *
+     * @return syntax trees of the source documents and the package manifests
+     */
+    private List<Object> getSourceVersion() {
+        Package currentPackage = project.currentPackage();
+        List<Object> syntaxTrees = new ArrayList<>();
+        for (Module module : ProjectServiceInfo.getSortedModules(currentPackage)) {
+            for (DocumentId documentId : ProjectServiceInfo.getSortedDocumentIds(module)) {
+                syntaxTrees.add(module.document(documentId).syntaxTree());
+            }
+        }
+        currentPackage.ballerinaToml().ifPresent(toml -> syntaxTrees.add(toml.tomlDocument().syntaxTree()));
+        currentPackage.dependenciesToml().ifPresent(toml -> syntaxTrees.add(toml.tomlDocument().syntaxTree()));
+        return syntaxTrees;
+    }
+
+    private List<Diagnostic> validateProbe(ValidationState state, Toml probe, ProbeType type) {
         if (probe.get("port").isEmpty() || probe.get("path").isEmpty()) {
             return Collections.emptyList();
         }
         TomlValueNode portNode = probe.get("port").get();
         TomlValueNode pathNode = probe.get("path").get();
+        // Diagnostics point at the port and the path, so their positions are part of the key as well.
+        String key = type.name() + ":" + ((TomlLongValueNode) portNode).getValue() + "@" + getPosition(portNode) +
+                ":" + ((TomlStringValueNode) pathNode).getValue() + "@" + getPosition(pathNode);
+        return state.getDiagnostics(key, () -> validateProbe(state.getProjectServiceInfo(project), portNode,
+                pathNode, type));
+    }
+
+    private static String getPosition(TomlValueNode node) {
+        LineRange lineRange = node.location().lineRange();
+        TextRange textRange = node.location().textRange();
+        return lineRange.startLine().line() + "," + lineRange.startLine().offset() + "," +
+                lineRange.endLine().line() + "," + lineRange.endLine().offset() + "," + textRange.startOffset() + "," +
+                textRange.length();
+    }
+
+    private List<Diagnostic> validateProbe(ProjectServiceInfo projectServiceInfo, TomlValueNode portNode,
+                                           TomlValueNode pathNode, ProbeType type) {
+        List<Diagnostic> diagnosticInfos = new ArrayList<>();
         long port = ((TomlLongValueNode) portNode).getValue();
-        String path = ((TomlStringValueNode) pathNode).getValue();
+        String path = removeQuery(((TomlStringValueNode) pathNode).getValue());
 
         List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
         if (!isListenerPortValid(port, serviceList)) {
@@ -106,7 +163,7 @@ public class TomlDiagnosticChecker {
                     if (balResourceName.equals(".")) {
                         resourcePath = trimResourcePath(serviceName);
                     }
-                    if (resourcePath.equals(trimResourcePath(path))) {
+                    if (isMatchingResourcePath(resourcePath, trimResourcePath(path))) {
                         resourceFound = true;
                         break;
                     }
@@ -122,6 +179,38 @@ public class TomlDiagnosticChecker {
         return diagnosticInfos;
     }
 
+    /**
+     * Check whether a request path is served by a resource. Path parameters of the resource, such as
+     * {@code [int id]}, match any segment and a rest parameter matches the remaining segments.
+     *
+     * @param resourcePath resource path without the leading and trailing slashes
+     * @param requestPath  request path without the leading and trailing slashes
+     * @return true if the resource serves the request path
+     */
+    private static boolean isMatchingResourcePath(String resourcePath, String requestPath) {
+        String[] resourceSegments = resourcePath.split("/");
+        String[] requestSegments = requestPath.split("/");
+        for (int i = 0; i < resourceSegments.length; i++) {
+            String resourceSegment = resourceSegments[i];
+            boolean pathParam = resourceSegment.startsWith("[") && resourceSegment.endsWith("]");
+            if (pathParam && resourceSegment.contains("...")) {
+                return true;
+            }
+            if (i >= requestSegments.length) {
+                return false;
+            }
+            if (pathParam ? requestSegments[i].isEmpty() : !resourceSegment.equals(requestSegments[i])) {
+                return false;
+            }
+        }
+        return resourceSegments.length == requestSegments.length;
+    }
+
+    private static String removeQuery(String path) {
+        int queryStart = path.indexOf('?');
+        return queryStart < 0 ? path : path.substring(0, queryStart);
+    }
+
     private static boolean isValidServicePath(String servicePath, String tomlPath) {
         if (servicePath.equals("/")) {
             return true;
@@ -164,9 +253,72 @@ public class TomlDiagnosticChecker {
         return new TomlDiagnostic(location, diagnosticInfo, message);
     }
 
+    /**
+     * Validation results of a project from its previous compilation.
+     */
+    private static class ValidationState {
+
+        private List<Object> syntaxTrees = Collections.emptyList();
+        private ProjectServiceInfo projectServiceInfo;
+        private Map<String, List<Diagnostic>> probeDiagnostics = new HashMap<>();
+        private Map<String, List<Diagnostic>> visitedProbeDiagnostics = new HashMap<>();
+
+        /**
+         * Drop the cached results if any of the source documents or package manifests changed since the last
+         * validation.
+         *
+         * @param currentSyntaxTrees syntax trees of the source documents and the package manifests
+         */
+        void update(List<Object> currentSyntaxTrees) {
+            if (!isSameSyntaxTrees(currentSyntaxTrees)) {
+                this.syntaxTrees = currentSyntaxTrees;
+                this.projectServiceInfo = null;
+                this.probeDiagnostics = new HashMap<>();
+            }
+            this.visitedProbeDiagnostics = new HashMap<>();
+        }
+
+        // Unchanged documents keep their syntax tree instance when the package is modified.
+        private boolean isSameSyntaxTrees(List<Object> currentSyntaxTrees) {
+            if (currentSyntaxTrees.size() != syntaxTrees.size()) {
+                return false;
+            }
+            for (int i = 0; i < currentSyntaxTrees.size(); i++) {
+                if (currentSyntaxTrees.get(i) != syntaxTrees.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        ProjectServiceInfo getProjectServiceInfo(Project project) {
+            if (projectServiceInfo == null) {
+                projectServiceInfo = new ProjectServiceInfo(project);
+            }
+            return projectServiceInfo;
+        }
+
+        List<Diagnostic> getDiagnostics(String key, Supplier<List<Diagnostic>> validator) {
+            List<Diagnostic> diagnostics = probeDiagnostics.get(key);
+            if (diagnostics == null) {
+                diagnostics = validator.get();
+            }
+            visitedProbeDiagnostics.put(key, diagnostics);
+            return diagnostics;
+        }
+
+        /**
+         * Forget the probes which are no longer in Cloud.toml.
+         */
+        void retainVisited() {
+            probeDiagnostics = visitedProbeDiagnostics;
+        }
+    }
+
     enum ProbeType {
         READINESS("Readiness Probe"),
-        LIVENESS("Liveness Probe");
+        LIVENESS("Liveness Probe"),
+        WARMUP("Warm-up Request");
 
         private String value;
 
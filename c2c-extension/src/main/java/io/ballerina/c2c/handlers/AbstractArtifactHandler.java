@@ -18,17 +18,119 @@
 
 package io.ballerina.c2c.handlers;
 
-import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PersistentVolumeClaimModel;
+import io.ballerina.c2c.models.SecretModel;
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Abstract Artifact handler class.
  */
 public abstract class AbstractArtifactHandler implements ArtifactHandler {
 
-    protected KubernetesDataHolder dataHolder;
+    protected final KubernetesDataHolder dataHolder;
+
+    public AbstractArtifactHandler(KubernetesDataHolder dataHolder) {
+        this.dataHolder = dataHolder;
+    }
+
+    protected List<VolumeMount> populateVolumeMounts(Set<SecretModel> secretModels,
+                                                     Set<ConfigMapModel> configMapModels,
+                                                     Set<PersistentVolumeClaimModel> volumeClaimModels) {
+        List<VolumeMount> volumeMounts = new ArrayList<>();
+        for (SecretModel secretModel : secretModels) {
+            VolumeMount volumeMount = new VolumeMountBuilder()
+                    .withMountPath(secretModel.getMountPath())
+                    .withName(secretModel.getName() + "-volume")
+                    .withReadOnly(secretModel.isReadOnly())
+                    .build();
+            volumeMounts.add(volumeMount);
+        }
+        for (ConfigMapModel configMapModel : configMapModels) {
+            final String mountPath = configMapModel.getMountPath();
+            if (mountPath != null) {
+                VolumeMount volumeMount = new VolumeMountBuilder()
+                        .withMountPath(mountPath)
+                        .withName(configMapModel.getName() + "-volume")
+                        .withReadOnly(configMapModel.isReadOnly())
+                        .build();
+
+                if (getExtension(mountPath).isPresent()) {
+                    // Add file mount as sub paths.
+                    final Path fileName = Paths.get(mountPath).getFileName();
+                    if (null != fileName) {
+                        volumeMount.setSubPath(fileName.toString());
+                    }
+                }
+                volumeMounts.add(volumeMount);
+            }
+        }
+        for (PersistentVolumeClaimModel volumeClaimModel : volumeClaimModels) {
+            VolumeMount volumeMount = new VolumeMountBuilder()
+                    .withMountPath(volumeClaimModel.getMountPath())
+                    .withName(volumeClaimModel.getName() + "-volume")
+                    .withReadOnly(volumeClaimModel.isReadOnly())
+                    .build();
+            volumeMounts.add(volumeMount);
+        }
+        return volumeMounts;
+    }
+
+    private Optional<String> getExtension(String filename) {
+        return Optional.ofNullable(filename)
+                .filter(f -> f.contains("."))
+                .map(f -> f.substring(filename.lastIndexOf(".") + 1));
+    }
+
+    protected List<Volume> populateVolume(Set<SecretModel> secretModels, Set<ConfigMapModel> configMapModels,
+                                          Set<PersistentVolumeClaimModel> volumeClaimModels) {
+        List<Volume> volumes = new ArrayList<>();
+        for (SecretModel secretModel : secretModels) {
+            Volume volume = new VolumeBuilder()
+                    .withName(secretModel.getName() + "-volume")
+                    .withNewSecret()
+                    .withSecretName(secretModel.getName())
+                    .endSecret()
+                    .build();
+
+            if (secretModel.getDefaultMode() > 0) {
+                volume.getSecret().setDefaultMode(secretModel.getDefaultMode());
+            }
+            volumes.add(volume);
+        }
+        for (ConfigMapModel configMapModel : configMapModels) {
+            Volume volume = new VolumeBuilder()
+                    .withName(configMapModel.getName() + "-volume")
+                    .withNewConfigMap()
+                    .withName(configMapModel.getName())
+                    .endConfigMap()
+                    .build();
 
-    public AbstractArtifactHandler() {
-        dataHolder = KubernetesContext.getInstance().getDataHolder();
+            if (configMapModel.getDefaultMode() > 0) {
+                volume.getConfigMap().setDefaultMode(configMapModel.getDefaultMode());
+            }
+            volumes.add(volume);
+        }
+        for (PersistentVolumeClaimModel volumeClaimModel : volumeClaimModels) {
+            Volume volume = new VolumeBuilder()
+                    .withName(volumeClaimModel.getName() + "-volume")
+                    .withNewPersistentVolumeClaim()
+                    .withClaimName(volumeClaimModel.getName())
+                    .endPersistentVolumeClaim()
+                    .build();
+            volumes.add(volume);
+        }
+        return volumes;
     }
 }
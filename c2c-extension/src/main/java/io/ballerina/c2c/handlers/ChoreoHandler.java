@@ -22,6 +22,7 @@ import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ChoreoModel;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.PortModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -45,6 +46,10 @@ import java.util.List;
  */
 public class ChoreoHandler extends AbstractArtifactHandler {
 
+    public ChoreoHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
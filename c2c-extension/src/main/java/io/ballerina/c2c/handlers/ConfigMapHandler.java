@@ -23,6 +23,8 @@ import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.JobModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -40,6 +42,10 @@ import java.util.Collection;
  */
 public class ConfigMapHandler extends AbstractArtifactHandler {
 
+    public ConfigMapHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     private void generate(ConfigMapModel configMapModel) throws KubernetesPluginException {
         ConfigMap configMap = new ConfigMapBuilder()
                 .withNewMetadata()
@@ -54,7 +60,7 @@ public class ConfigMapHandler extends AbstractArtifactHandler {
             if (dataHolder.isSingleYaml()) {
                 outputFileName = configMap.getMetadata().getName() + KubernetesConstants.YAML;
             }
-            KubernetesUtils.writeToFile(configMapContent, outputFileName);
+            KubernetesUtils.writeToFile(dataHolder, configMapContent, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
                     new NullLocation(), "config map" , configMapModel.getName());
@@ -73,13 +79,18 @@ public class ConfigMapHandler extends AbstractArtifactHandler {
         for (ConfigMapModel configMapModel : configMapModels) {
             count++;
             if (configMapModel.isBallerinaConf()) {
-                DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
                 EnvVar ballerinaConfEnv = new EnvVarBuilder()
                         .withName("BAL_CONFIG_FILES")
                         .withValue(getBALConfigFiles(configMapModel))
                         .build();
-                deploymentModel.addEnv(ballerinaConfEnv);
-                dataHolder.setDeploymentModel(deploymentModel);
+                JobModel jobModel = dataHolder.getJobModel();
+                if (jobModel != null) {
+                    jobModel.addEnv(ballerinaConfEnv);
+                } else {
+                    DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+                    deploymentModel.addEnv(ballerinaConfEnv);
+                    dataHolder.setDeploymentModel(deploymentModel);
+                }
             }
             generate(configMapModel);
             OUT.print("\t@kubernetes:ConfigMap \t\t\t - complete " + count + "/" + configMapModels.size() + "\r");
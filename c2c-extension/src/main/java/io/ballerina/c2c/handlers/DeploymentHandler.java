@@ -23,33 +23,39 @@ import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
-import io.ballerina.c2c.models.PersistentVolumeClaimModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PrometheusModel;
 import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.models.WarmupModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.Lifecycle;
 import io.fabric8.kubernetes.api.model.LifecycleBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
-import io.fabric8.kubernetes.api.model.Volume;
-import io.fabric8.kubernetes.api.model.VolumeBuilder;
-import io.fabric8.kubernetes.api.model.VolumeMount;
-import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
 import static io.ballerina.c2c.utils.KubernetesUtils.resolveDockerToml;
@@ -60,50 +66,14 @@ import static org.ballerinax.docker.generator.DockerGenConstants.REGISTRY_SEPARA
  */
 public class DeploymentHandler extends AbstractArtifactHandler {
 
-    private List<VolumeMount> populateVolumeMounts(DeploymentModel deploymentModel) {
-        List<VolumeMount> volumeMounts = new ArrayList<>();
-        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
-            VolumeMount volumeMount = new VolumeMountBuilder()
-                    .withMountPath(secretModel.getMountPath())
-                    .withName(secretModel.getName() + "-volume")
-                    .withReadOnly(secretModel.isReadOnly())
-                    .build();
-            volumeMounts.add(volumeMount);
-        }
-        for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
-            final String mountPath = configMapModel.getMountPath();
-            if (mountPath != null) {
-                VolumeMount volumeMount = new VolumeMountBuilder()
-                        .withMountPath(mountPath)
-                        .withName(configMapModel.getName() + "-volume")
-                        .withReadOnly(configMapModel.isReadOnly())
-                        .build();
+    private static final int DEFAULT_PROBE_PERIOD_SECONDS = 10;
+    private static final int DRAIN_BUFFER_SECONDS = 5;
+    private static final int SHUTDOWN_BUFFER_SECONDS = 15;
+    private static final long DEFAULT_TERMINATION_GRACE_SECONDS = 30;
+    private static final int POOL_SIZE_PER_PROCESSOR = 2;
 
-                if (getExtension(mountPath).isPresent()) {
-                    // Add file mount as sub paths.
-                    final Path fileName = Paths.get(mountPath).getFileName();
-                    if (null != fileName) {
-                        volumeMount.setSubPath(fileName.toString());
-                    }
-                }
-                volumeMounts.add(volumeMount);
-            }
-        }
-        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
-            VolumeMount volumeMount = new VolumeMountBuilder()
-                    .withMountPath(volumeClaimModel.getMountPath())
-                    .withName(volumeClaimModel.getName() + "-volume")
-                    .withReadOnly(volumeClaimModel.isReadOnly())
-                    .build();
-            volumeMounts.add(volumeMount);
-        }
-        return volumeMounts;
-    }
-
-    private Optional<String> getExtension(String filename) {
-        return Optional.ofNullable(filename)
-                .filter(f -> f.contains("."))
-                .map(f -> f.substring(filename.lastIndexOf(".") + 1));
+    public DeploymentHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
     }
 
     private Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts) {
@@ -112,65 +82,90 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         if (null != dockerRegistry && !"".equals(dockerRegistry)) {
             deploymentImageName = dockerRegistry + REGISTRY_SEPARATOR + deploymentImageName;
         }
-        Lifecycle preStop = new LifecycleBuilder()
-                .withNewPreStop()
-                .withNewExec()
-                .withCommand("sleep", "15")
-                .endExec()
-                .endPreStop()
-                .build();
-
         return new ContainerBuilder()
                 .withName(deploymentModel.getName())
                 .withImage(deploymentImageName)
                 .withPorts(containerPorts)
                 .withEnv(deploymentModel.getEnvVars())
-                .withVolumeMounts(populateVolumeMounts(deploymentModel))
+                .withVolumeMounts(populateVolumeMounts(deploymentModel.getSecretModels(),
+                        deploymentModel.getConfigMapModels(), deploymentModel.getVolumeClaimModels()))
                 .withLivenessProbe(deploymentModel.getLivenessProbe())
                 .withReadinessProbe(deploymentModel.getReadinessProbe())
                 .withResources(deploymentModel.getResourceRequirements())
-                .withLifecycle(preStop)
+                .withLifecycle(getLifecycle(deploymentModel, containerPorts))
                 .build();
     }
 
-    private List<Volume> populateVolume(DeploymentModel deploymentModel) {
-        List<Volume> volumes = new ArrayList<>();
-        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(secretModel.getName() + "-volume")
-                    .withNewSecret()
-                    .withSecretName(secretModel.getName())
-                    .endSecret()
-                    .build();
-
-            if (secretModel.getDefaultMode() > 0) {
-                volume.getSecret().setDefaultMode(secretModel.getDefaultMode());
-            }
-            volumes.add(volume);
+    /**
+     * Get the lifecycle hooks of the container. The post start hook sends the warm-up requests so that the hot paths
+     * are JIT compiled before the readiness probe starts passing, as probes only run once the hook returns.
+     *
+     * @param deploymentModel deployment model
+     * @param containerPorts  ports of the container, warm-up requests to other ports are skipped
+     * @return lifecycle of the container
+     */
+    Lifecycle getLifecycle(DeploymentModel deploymentModel, List<ContainerPort> containerPorts) {
+        LifecycleBuilder lifecycleBuilder = new LifecycleBuilder()
+                .withNewPreStop()
+                .withNewExec()
+                .withCommand("sleep", String.valueOf(deploymentModel.getPreStopDrainSeconds()))
+                .endExec()
+                .endPreStop();
+        WarmupModel warmupModel = deploymentModel.getWarmupModel();
+        if (warmupModel == null || containerPorts == null) {
+            return lifecycleBuilder.build();
         }
-        for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(configMapModel.getName() + "-volume")
-                    .withNewConfigMap()
-                    .withName(configMapModel.getName())
-                    .endConfigMap()
-                    .build();
-
-            if (configMapModel.getDefaultMode() > 0) {
-                volume.getConfigMap().setDefaultMode(configMapModel.getDefaultMode());
+        // The requests are passed to the script as `port path count` arguments so that paths are never parsed as
+        // shell code. The script only needs a POSIX shell and uses bash, curl or wget, whichever the image has.
+        List<String> command = new ArrayList<>();
+        command.add("/bin/sh");
+        command.add("-c");
+        command.add("{ command -v bash || command -v curl || command -v wget; } >/dev/null 2>&1 || exit 0\n"
+                + "end=$(($(date +%s)+" + warmupModel.getTimeBudgetSeconds() + "))\n"
+                + "request() {\n"
+                + "  if command -v bash; then\n"
+                + "    bash -c 'exec 3<>/dev/tcp/127.0.0.1/$0 && printf \"GET %s HTTP/1.1\\r\\nHost: localhost\\r\\n"
+                + "Connection: close\\r\\n\\r\\n\" \"$1\" >&3 && cat <&3' \"$1\" \"$2\"\n"
+                + "  elif command -v curl; then\n"
+                + "    curl -s \"http://127.0.0.1:$1$2\"\n"
+                + "  else\n"
+                + "    wget -q -O - \"http://127.0.0.1:$1$2\"\n"
+                + "  fi\n"
+                + "} >/dev/null 2>&1\n"
+                + "warm() {\n"
+                + "  until request \"$1\" \"$2\"; do\n"
+                + "    [ \"$(date +%s)\" -lt \"$end\" ] || return 0; sleep 1\n"
+                + "  done\n"
+                + "  i=1\n"
+                + "  while [ \"$i\" -lt \"$3\" ]; do\n"
+                + "    [ \"$(date +%s)\" -lt \"$end\" ] || return 0\n"
+                + "    request \"$1\" \"$2\"; i=$((i+1))\n"
+                + "  done\n"
+                + "}\n"
+                + "while [ $# -ge 3 ]; do\n"
+                + "  warm \"$1\" \"$2\" \"$3\"; shift 3\n"
+                + "done\n"
+                // A failed warm-up should not fail the container.
+                + "exit 0\n");
+        command.add("warmup");
+        for (WarmupModel.RequestModel request : warmupModel.getRequests()) {
+            if (containerPorts.stream().noneMatch(port -> port.getContainerPort() == request.getPort())) {
+                continue;
             }
-            volumes.add(volume);
+            command.add(String.valueOf(request.getPort()));
+            command.add(request.getPath());
+            command.add(String.valueOf(request.getCount()));
         }
-        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(volumeClaimModel.getName() + "-volume")
-                    .withNewPersistentVolumeClaim()
-                    .withClaimName(volumeClaimModel.getName())
-                    .endPersistentVolumeClaim()
-                    .build();
-            volumes.add(volume);
+        if (command.size() == 4) {
+            return lifecycleBuilder.build();
         }
-        return volumes;
+        return lifecycleBuilder
+                .withNewPostStart()
+                .withNewExec()
+                .withCommand(command)
+                .endExec()
+                .endPostStart()
+                .build();
     }
 
     private List<LocalObjectReference> getImagePullSecrets(DeploymentModel deploymentModel) {
@@ -188,12 +183,28 @@ public class DeploymentHandler extends AbstractArtifactHandler {
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
     private void generate(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        Deployment deployment = getDeployment(deploymentModel);
+        try {
+            String deploymentContent = Serialization.asYaml(deployment);
+            String outputFileName = DEPLOYMENT_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = deployment.getMetadata().getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(dataHolder, deploymentContent, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "deployment" , deploymentModel.getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    Deployment getDeployment(DeploymentModel deploymentModel) {
         List<ContainerPort> containerPorts = null;
         if (deploymentModel.getPorts() != null) {
             containerPorts = deploymentModel.getPorts();
         }
         Container container = generateContainer(deploymentModel, containerPorts);
-        Deployment deployment = new DeploymentBuilder()
+        return new DeploymentBuilder()
                 .withNewMetadata()
                 .withName(deploymentModel.getName())
                 .withLabels(deploymentModel.getLabels())
@@ -205,6 +216,7 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withMatchLabels(deploymentModel.getLabels())
                 .endSelector()
                 .withStrategy(deploymentModel.getStrategy())
+                .withMinReadySeconds(deploymentModel.getMinReadySeconds())
                 .withReplicas(deploymentModel.getReplicas())
                 .withNewTemplate()
                 .withNewMetadata()
@@ -213,29 +225,180 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .endMetadata()
                 .withNewSpec()
                 .withContainers(container)
+                .withTerminationGracePeriodSeconds(deploymentModel.getTerminationGracePeriodSeconds())
                 .withImagePullSecrets(getImagePullSecrets(deploymentModel))
-                .withVolumes(populateVolume(deploymentModel))
+                .withVolumes(populateVolume(deploymentModel.getSecretModels(), deploymentModel.getConfigMapModels(),
+                        deploymentModel.getVolumeClaimModels()))
                 .withNodeSelector(deploymentModel.getNodeSelector())
+                .withTopologySpreadConstraints(deploymentModel.getTopologySpreadConstraints())
+                .withAffinity(deploymentModel.getAffinity())
+                .withPriorityClassName(deploymentModel.getPriorityClassName())
                 .endSpec()
                 .endTemplate()
                 .endSpec()
                 .build();
+    }
 
-        try {
-            String deploymentContent = Serialization.asYaml(deployment);
-            String outputFileName = DEPLOYMENT_FILE_POSTFIX + KubernetesConstants.YAML;
-            if (dataHolder.isSingleYaml()) {
-                outputFileName = deployment.getMetadata().getName() + KubernetesConstants.YAML;
+
+
+    private void resolveGracefulShutdown(DeploymentModel deploymentModel) {
+        if (deploymentModel.getPreStopDrainSeconds() == null) {
+            // Keep serving in-flight requests until the endpoint removal is propagated, which takes about one
+            // readiness probe period.
+            int readinessPeriod = DEFAULT_PROBE_PERIOD_SECONDS;
+            Probe readinessProbe = deploymentModel.getReadinessProbe();
+            if (readinessProbe != null && readinessProbe.getPeriodSeconds() != null) {
+                readinessPeriod = readinessProbe.getPeriodSeconds();
             }
-            KubernetesUtils.writeToFile(deploymentContent, outputFileName);
-        } catch (IOException e) {
-            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
-                    new NullLocation(), "deployment" , deploymentModel.getName());
-            throw new KubernetesPluginException(diagnostic);
+            deploymentModel.setPreStopDrainSeconds(readinessPeriod + DRAIN_BUFFER_SECONDS);
+        }
+        if (deploymentModel.getTerminationGracePeriodSeconds() == null) {
+            // Grace period starts before the preStop hook, leave room for the runtime to stop after draining.
+            deploymentModel.setTerminationGracePeriodSeconds(Math.max(DEFAULT_TERMINATION_GRACE_SECONDS,
+                    deploymentModel.getPreStopDrainSeconds() + SHUTDOWN_BUFFER_SECONDS));
+        }
+    }
+
+    /**
+     * Size the runtime for the CPU quota of the container instead of the CPUs of the node it runs on.
+     *
+     * @param deploymentModel deployment model
+     * @param resources       resources of the container
+     * @return scheduler pool size and JVM option env vars
+     */
+    List<EnvVar> getRuntimeEnv(DeploymentModel deploymentModel, ResourceRequirements resources) {
+        Integer processors = deploymentModel.getActiveProcessorCount();
+        if (processors == null && deploymentModel.isRuntimeSizing()) {
+            processors = getProcessorCount(resources);
+        }
+        Integer poolSize = deploymentModel.getSchedulerPoolSize();
+        if (poolSize == null && processors != null) {
+            poolSize = processors * POOL_SIZE_PER_PROCESSOR;
+        }
+        List<String> jvmOptions = new ArrayList<>();
+        if (processors != null) {
+            jvmOptions.add("-XX:ActiveProcessorCount=" + processors);
+        }
+        jvmOptions.addAll(deploymentModel.getJvmOptions());
+        if (hasEnv(deploymentModel, KubernetesConstants.USER_JAVA_TOOL_OPTIONS_ENV)) {
+            // Expanded by kubernetes after the generated options, so that the options of the user win.
+            jvmOptions.add("$(" + KubernetesConstants.USER_JAVA_TOOL_OPTIONS_ENV + ")");
+        }
+
+        List<EnvVar> envVars = new ArrayList<>();
+        if (poolSize != null && !hasEnv(deploymentModel, KubernetesConstants.MAX_POOL_SIZE_ENV)) {
+            envVars.add(new EnvVarBuilder()
+                    .withName(KubernetesConstants.MAX_POOL_SIZE_ENV)
+                    .withValue(String.valueOf(poolSize))
+                    .build());
+        }
+        if (!jvmOptions.isEmpty()) {
+            envVars.add(new EnvVarBuilder()
+                    .withName(KubernetesConstants.JAVA_TOOL_OPTIONS_ENV)
+                    .withValue(String.join(" ", jvmOptions))
+                    .build());
+        }
+        return envVars;
+    }
+
+    /**
+     * The env vars of Cloud.toml refer to config maps and secrets, so a {@code JAVA_TOOL_OPTIONS} set by the user is
+     * only known in the pod. It is renamed, so that the generated options can be prepended to it instead of dropping
+     * either of them.
+     *
+     * @param deploymentModel deployment model
+     */
+    private void resolveUserJvmOptions(DeploymentModel deploymentModel) {
+        for (EnvVar envVar : deploymentModel.getEnvVars()) {
+            if (KubernetesConstants.JAVA_TOOL_OPTIONS_ENV.equals(envVar.getName()) &&
+                    !deploymentModel.getRuntimeEnvVars().contains(envVar)) {
+                envVar.setName(KubernetesConstants.USER_JAVA_TOOL_OPTIONS_ENV);
+            }
+        }
+    }
+
+    private Integer getProcessorCount(ResourceRequirements resources) {
+        Quantity cpu = null;
+        if (resources.getLimits() != null) {
+            cpu = resources.getLimits().get(KubernetesConstants.CPU);
+        }
+        if (cpu == null && resources.getRequests() != null) {
+            cpu = resources.getRequests().get(KubernetesConstants.CPU);
         }
+        if (cpu == null) {
+            return null;
+        }
+        BigDecimal cores = Quantity.getAmountInBytes(cpu);
+        return Math.max(1, cores.setScale(0, RoundingMode.CEILING).intValue());
     }
 
+    private boolean hasEnv(DeploymentModel deploymentModel, String name) {
+        // Only the env vars set in Cloud.toml take precedence, not the ones generated for the default deployment.
+        return deploymentModel.getEnvVars().stream()
+                .filter(envVar -> !deploymentModel.getRuntimeEnvVars().contains(envVar))
+                .anyMatch(envVar -> name.equals(envVar.getName()));
+    }
 
+    private void resolvePrometheusAnnotations(DeploymentModel deploymentModel) {
+        PrometheusModel prometheusModel = dataHolder.getPrometheusModel();
+        if (prometheusModel == null) {
+            return;
+        }
+        Map<String, String> podAnnotations = new LinkedHashMap<>();
+        if (deploymentModel.getPodAnnotations() != null) {
+            podAnnotations.putAll(deploymentModel.getPodAnnotations());
+        }
+        podAnnotations.put("prometheus.io/scrape", "true");
+        podAnnotations.put("prometheus.io/port", String.valueOf(prometheusModel.getPort()));
+        podAnnotations.put("prometheus.io/path", prometheusModel.getPath());
+        deploymentModel.setPodAnnotations(podAnnotations);
+    }
+
+    /**
+     * Annotate the pod template with a hash of the config maps and secrets mounted to the pods. A change in their
+     * content changes the pod template, which rolls the pods out once to pick up the new content.
+     *
+     * @param deploymentModel deployment model
+     */
+    private void resolveConfigHashAnnotation(DeploymentModel deploymentModel) {
+        Map<String, Map<String, String>> mountedData = new TreeMap<>();
+        for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
+            if (configMapModel.getData() != null) {
+                mountedData.put("ConfigMap/" + configMapModel.getName(), new TreeMap<>(configMapModel.getData()));
+            }
+        }
+        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            if (secretModel.getData() != null) {
+                mountedData.put("Secret/" + secretModel.getName(), new TreeMap<>(secretModel.getData()));
+            }
+        }
+        if (mountedData.isEmpty()) {
+            return;
+        }
+        Map<String, String> podAnnotations = new LinkedHashMap<>();
+        if (deploymentModel.getPodAnnotations() != null) {
+            podAnnotations.putAll(deploymentModel.getPodAnnotations());
+        }
+        podAnnotations.put(KubernetesConstants.CONFIG_HASH_ANNOTATION,
+                KubernetesUtils.sha256(mountedData.toString().getBytes(StandardCharsets.UTF_8)));
+        deploymentModel.setPodAnnotations(podAnnotations);
+    }
+
+    private void printResourceProfile(DeploymentModel deploymentModel) {
+        if (deploymentModel.getResourceProfile() == null) {
+            return;
+        }
+        ResourceRequirements resources = deploymentModel.getResourceRequirements();
+        Quantity cpuLimit = resources.getLimits().get(KubernetesConstants.CPU);
+        OUT.println();
+        OUT.print("\t\tprofile: " + deploymentModel.getResourceProfile() +
+                ", cpu: " + resources.getRequests().get(KubernetesConstants.CPU) +
+                ", cpu limit: " + (cpuLimit == null ? "none" : cpuLimit) +
+                ", memory: " + resources.getLimits().get(KubernetesConstants.MEMORY));
+        if (deploymentModel.getPriorityClassName() != null) {
+            OUT.print(", priority class: " + deploymentModel.getPriorityClassName());
+        }
+    }
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
@@ -266,11 +429,23 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             deploymentModel.getReadinessProbe().getHttpGet().setPort(new
                     IntOrString(deploymentModel.getPorts().iterator().next().getContainerPort()));
         }
-        resolveDockerToml(deploymentModel);
-        generate(deploymentModel);
-        OUT.println();
-        OUT.print("\t@kubernetes:Deployment \t\t\t - complete 1/1");
-        dataHolder.setDockerModel(KubernetesUtils.getDockerModel(deploymentModel));
+        resolveGracefulShutdown(deploymentModel);
+        resolvePrometheusAnnotations(deploymentModel);
+        resolveConfigHashAnnotation(deploymentModel);
+        resolveUserJvmOptions(deploymentModel);
+        List<EnvVar> runtimeEnv = getRuntimeEnv(deploymentModel, deploymentModel.getResourceRequirements());
+        // Kept apart from the env vars of Cloud.toml, so that service groups can size the runtime for their own
+        // resources.
+        deploymentModel.setRuntimeEnvVars(runtimeEnv);
+        runtimeEnv.forEach(deploymentModel::addEnv);
+        resolveDockerToml(dataHolder, deploymentModel);
+        if (!dataHolder.isDefaultDeploymentEmpty()) {
+            generate(deploymentModel);
+            OUT.println();
+            OUT.print("\t@kubernetes:Deployment \t\t\t - complete 1/1");
+            printResourceProfile(deploymentModel);
+        }
+        dataHolder.setDockerModel(KubernetesUtils.getDockerModel(dataHolder, deploymentModel));
     }
 }
 
@@ -20,32 +20,173 @@ package io.ballerina.c2c.handlers;
 
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.ImageSizeReport;
+import io.ballerina.c2c.utils.JarCache;
+import io.ballerina.c2c.utils.JarNormalizer;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.apache.commons.io.FileUtils;
 import org.ballerinax.docker.generator.DockerArtifactHandler;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
+import org.ballerinax.docker.generator.models.DockerModel;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static io.ballerina.c2c.utils.KubernetesUtils.printInstruction;
 
 /**
  * Wrapper handler for creating docker artifacts.
  */
 public class DockerHandler extends AbstractArtifactHandler {
 
+    private static final String JARS_DIR = "jars";
+    private static final String DOCKERFILE = "Dockerfile";
+    private static final int OFFENDER_COUNT = 5;
+
+    public DockerHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
+        Path normalizedJarDir = null;
         try {
+            Path jarPath = dataHolder.getJarPath();
+            if (dataHolder.isReproducible()) {
+                normalizedJarDir = Files.createTempDirectory("c2c-reproducible-");
+                jarPath = normalizeJars(normalizedJarDir);
+            }
+            // Jars staged by a previous build may be links to the jar cache, they are not overwritten in place.
+            FileUtils.deleteDirectory(dataHolder.getDockerArtifactOutputPath().resolve(JARS_DIR).toFile());
             // Generate docker artifacts
-            DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(dataHolder.getDockerModel());
-            OUT.println();
-            dockerArtifactHandler.createArtifacts(OUT, "\t@kubernetes:Docker \t\t\t", dataHolder.getJarPath(),
-                    dataHolder.getDockerArtifactOutputPath());
+            DockerModel dockerModel = dataHolder.getDockerModel();
+            DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(dockerModel);
+            boolean buildImage = dockerModel.isBuildImage();
+            // The build context is generated without the image, so that it is checked and fixed before the build.
+            dockerModel.setBuildImage(false);
+            try {
+                OUT.println();
+                dockerArtifactHandler.createArtifacts(OUT, "\t@kubernetes:Docker \t\t\t", jarPath,
+                        dataHolder.getDockerArtifactOutputPath());
+            } finally {
+                dockerModel.setBuildImage(buildImage);
+            }
+            if (dataHolder.isJarCache()) {
+                linkCachedJars();
+            }
+            checkImageSize(writeImageSizeReport());
+            if (dataHolder.isReproducible()) {
+                Path dockerfile = dataHolder.getDockerArtifactOutputPath().resolve(DOCKERFILE);
+                Files.write(dockerfile, JarNormalizer.sortCopyInstructions(
+                        Files.readAllLines(dockerfile, StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+                JarNormalizer.setFixedTimes(dataHolder.getDockerArtifactOutputPath());
+                if (buildImage) {
+                    // The image records its own creation time, which the generator does not let us fix.
+                    dataHolder.addDiagnostic(C2CDiagnosticCodes.createDiagnostic(
+                            C2CDiagnosticCodes.REPRODUCIBLE_IMAGE_NOT_BUILT, new NullLocation(),
+                            dataHolder.getDockerArtifactOutputPath(),
+                            JarNormalizer.FIXED_FILE_TIME.toInstant().getEpochSecond()));
+                }
+            } else if (buildImage) {
+                dockerArtifactHandler.buildImage(dockerModel, dataHolder.getDockerArtifactOutputPath());
+            }
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(
+                    C2CDiagnosticCodes.DOCKER_ARTIFACT_GEN_FAILED, new NullLocation(), e.getMessage());
+            throw new KubernetesPluginException(diagnostic);
         } catch (DockerGenException e) {
             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(C2CDiagnosticCodes.DOCKER_FAILED.getCode(),
                     e.getMessage(), DiagnosticSeverity.WARNING);
             Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo, new NullLocation());
             throw new KubernetesPluginException(diagnostic, true);
+        } finally {
+            if (normalizedJarDir != null) {
+                FileUtils.deleteQuietly(normalizedJarDir.toFile());
+            }
+        }
+    }
+
+    /**
+     * Print a summary of the files the Dockerfile copies and write the full report to the build context.
+     *
+     * @return build context size report
+     * @throws IOException if the build context cannot be read or the report cannot be written
+     */
+    private ImageSizeReport writeImageSizeReport() throws IOException {
+        Path dockerOutputPath = dataHolder.getDockerArtifactOutputPath();
+        ImageSizeReport imageSizeReport =
+                ImageSizeReport.from(dockerOutputPath, dataHolder.getDockerModel().getDependencyJarPaths());
+        OUT.println();
+        for (String line : imageSizeReport.format(true).split(System.lineSeparator())) {
+            OUT.println("\t" + line);
+        }
+        Files.write(dockerOutputPath.resolve(ImageSizeReport.REPORT_FILE),
+                imageSizeReport.format(false).getBytes(StandardCharsets.UTF_8));
+        return imageSizeReport;
+    }
+
+    private void checkImageSize(ImageSizeReport imageSizeReport) throws KubernetesPluginException {
+        Long maxSize = dataHolder.getImageMaxSize();
+        if (maxSize == null || imageSizeReport.getTotalSize() <= maxSize) {
+            return;
+        }
+        String offenders = imageSizeReport.getLargestJars(OFFENDER_COUNT).entrySet().stream()
+                .map(jar -> jar.getKey().getFileName() + " (" + ImageSizeReport.formatSize(jar.getValue()) + ")")
+                .collect(Collectors.joining(", "));
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.IMAGE_SIZE_EXCEEDED,
+                new NullLocation(), ImageSizeReport.formatSize(imageSizeReport.getTotalSize()),
+                ImageSizeReport.formatSize(maxSize), offenders);
+        // Not a plugin failure, the build is failed with the diagnostic instead of printing a trace.
+        throw new KubernetesPluginException(diagnostic, true);
+    }
+
+    /**
+     * Replace the dependency jars staged in the build context with links to the shared jar cache.
+     */
+    private void linkCachedJars() {
+        Path stagedJarDir = dataHolder.getDockerArtifactOutputPath().resolve(JARS_DIR);
+        JarCache jarCache = JarCache.getDefault();
+        try {
+            for (Path dependencyJar : dataHolder.getDockerModel().getDependencyJarPaths()) {
+                // Normalized jars are temporary copies, so they are not worth indexing.
+                jarCache.link(stagedJarDir.resolve(String.valueOf(dependencyJar.getFileName())),
+                        dataHolder.isReproducible() ? null : dependencyJar);
+            }
+            jarCache.flush();
+            jarCache.prune();
+        } catch (IOException | RuntimeException e) {
+            // The staged copies are still valid, the cache only saves disk space.
+            printInstruction("\twarning: unable to use the shared jar cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the jars of the docker model with normalized copies.
+     *
+     * @param outputDir directory to write the normalized jars to
+     * @return path of the normalized executable jar
+     * @throws IOException if a jar cannot be normalized
+     */
+    private Path normalizeJars(Path outputDir) throws IOException {
+        DockerModel dockerModel = dataHolder.getDockerModel();
+        Set<Path> dependencyJars = new TreeSet<>();
+        Path executableJarDir = Files.createDirectories(outputDir.resolve("executable"));
+        Path dependencyJarDir = Files.createDirectories(outputDir.resolve("dependencies"));
+        for (Path dependencyJar : dockerModel.getDependencyJarPaths()) {
+            dependencyJars.add(JarNormalizer.normalize(dependencyJar, dependencyJarDir));
         }
+        dockerModel.getDependencyJarPaths().clear();
+        dockerModel.addDependencyJarPaths(dependencyJars);
+        return JarNormalizer.normalize(dataHolder.getJarPath(), executableJarDir);
     }
 }
@@ -22,6 +22,7 @@ import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.PodAutoscalerModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
@@ -39,7 +40,11 @@ import java.io.IOException;
  */
 public class HPAHandler extends AbstractArtifactHandler {
 
-    private void generate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
+    public HPAHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    void generate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
         HorizontalPodAutoscaler horizontalPodAutoscaler = new HorizontalPodAutoscalerBuilder()
                 .withNewMetadata()
                 .withName(podAutoscalerModel.getName())
@@ -59,7 +64,7 @@ public class HPAHandler extends AbstractArtifactHandler {
             if (dataHolder.isSingleYaml()) {
                 outputFileName = horizontalPodAutoscaler.getMetadata().getName() + KubernetesConstants.YAML;
             }
-            KubernetesUtils.writeToFile(hpaContent, outputFileName);
+            KubernetesUtils.writeToFile(dataHolder, hpaContent, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
                     new NullLocation(), "autoscaler" , podAutoscalerModel.getName());
@@ -68,7 +73,7 @@ public class HPAHandler extends AbstractArtifactHandler {
     }
 
 
-    private void resolveToml(PodAutoscalerModel hpa) {
+    void resolveToml(PodAutoscalerModel hpa) {
         Toml ballerinaCloud = dataHolder.getBallerinaCloud();
         if (ballerinaCloud != null) {
             final String autoscaling = "cloud.deployment.autoscaling.";
@@ -85,7 +90,7 @@ public class HPAHandler extends AbstractArtifactHandler {
     public void createArtifacts() throws KubernetesPluginException {
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
         PodAutoscalerModel podAutoscalerModel = deploymentModel.getPodAutoscalerModel();
-        if (!isHPAEnabled(podAutoscalerModel)) {
+        if (!isHPAEnabled(podAutoscalerModel) || dataHolder.isDefaultDeploymentEmpty()) {
             return;
         }
         String balxFileName = dataHolder.getOutputName();
@@ -106,10 +111,13 @@ public class HPAHandler extends AbstractArtifactHandler {
         OUT.print("\t@kubernetes:HPA \t\t\t - complete 1/1");
     }
 
-    private boolean isHPAEnabled(PodAutoscalerModel podAutoscalerModel) {
+    boolean isHPAEnabled(PodAutoscalerModel podAutoscalerModel) {
         if (podAutoscalerModel == null) {
             return false;
         }
+        if (dataHolder.getKedaModel() != null) {
+            return false; //KEDA manages the HPA of the deployment
+        }
         Toml ballerinaCloud = dataHolder.getBallerinaCloud();
         if (ballerinaCloud == null) {
             return true; //since the default is hpa enabled
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates a helm chart from the kubernetes artifacts. The replicas, image and resources of each deployment and the
+ * limits of each autoscaler are moved to {@code values.yaml}, so they can be changed without rebuilding the package.
+ * The values of a resource are kept under the camel case form of its name, e.g. {@code .Values.helloDeployment}.
+ */
+public class HelmChartHandler extends AbstractArtifactHandler {
+
+    public static final String HELM = "helm";
+    public static final String CHART_FILE = "Chart.yaml";
+    public static final String VALUES_FILE = "values.yaml";
+    public static final String TEMPLATES = "templates";
+    private static final String PLACEHOLDER_PREFIX = "c2c-helm-value-";
+    private static final String PLACEHOLDER_SUFFIX = "-end";
+    private static final Pattern TEMPLATE_DELIMITER = Pattern.compile("\\{\\{|}}");
+
+    private final Map<String, String> placeholders = new LinkedHashMap<>();
+
+    public HelmChartHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        if (!dataHolder.isHelm()) {
+            return;
+        }
+        String chartName = KubernetesUtils.getValidName(dataHolder.getOutputName());
+        Path outputDir = dataHolder.getK8sArtifactOutputPath();
+        Path chartDir = outputDir.resolve(HELM).resolve(chartName);
+        try {
+            Map<String, Object> values = new LinkedHashMap<>();
+            StringBuilder template = new StringBuilder();
+            for (Map<String, Object> document : KubernetesUtils.readYamlDocuments(outputDir)) {
+                String kind = String.valueOf(document.get("kind"));
+                String valuesKey = getValuesKey(document);
+                Map<String, Object> resourceValues = new LinkedHashMap<>();
+                if ("Deployment".equals(kind)) {
+                    parameterizeDeployment(document, valuesKey, resourceValues);
+                } else if ("HorizontalPodAutoscaler".equals(kind)) {
+                    parameterizeAutoscaler(document, valuesKey, resourceValues);
+                }
+                if (!resourceValues.isEmpty()) {
+                    values.put(valuesKey, resourceValues);
+                }
+                template.append(Serialization.asYaml(document));
+            }
+            Files.createDirectories(chartDir.resolve(TEMPLATES));
+            Files.write(chartDir.resolve(CHART_FILE), Serialization.asYaml(getChart(chartName, values))
+                    .getBytes(StandardCharsets.UTF_8));
+            Files.write(chartDir.resolve(VALUES_FILE), Serialization.asYaml(values).getBytes(StandardCharsets.UTF_8));
+            Files.write(chartDir.resolve(TEMPLATES).resolve(chartName + KubernetesConstants.YAML),
+                    replacePlaceholders(escapeDelimiters(template.toString())).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "helm chart " + chartName, e.getMessage());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        OUT.println();
+        OUT.print("\t@kubernetes:Helm \t\t\t - complete 1/1");
+    }
+
+    /**
+     * Get the key of the values of a resource. Template field names cannot contain dashes, so the resource name is
+     * converted to camel case.
+     *
+     * @param document kubernetes resource
+     * @return key of the resource in values.yaml
+     */
+    private String getValuesKey(Map<String, Object> document) {
+        Map<String, Object> metadata = getMap(document, "metadata");
+        String name = metadata == null || metadata.get("name") == null ? String.valueOf(document.get("kind")) :
+                String.valueOf(metadata.get("name"));
+        StringBuilder key = new StringBuilder();
+        boolean upperCase = false;
+        for (char c : name.toCharArray()) {
+            if (!Character.isLetterOrDigit(c)) {
+                upperCase = key.length() > 0;
+                continue;
+            }
+            if (key.length() == 0 && Character.isDigit(c)) {
+                key.append('_');
+            }
+            key.append(upperCase ? Character.toUpperCase(c) : c);
+            upperCase = false;
+        }
+        return key.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void parameterizeDeployment(Map<String, Object> deployment, String valuesKey,
+                                        Map<String, Object> values) {
+        Map<String, Object> spec = (Map<String, Object>) deployment.get("spec");
+        if (spec == null) {
+            return;
+        }
+        String valuesPath = ".Values." + valuesKey;
+        if (spec.get("replicas") != null) {
+            values.put("replicaCount", spec.get("replicas"));
+            spec.put("replicas", placeholder("{{ " + valuesPath + ".replicaCount }}"));
+        }
+        Map<String, Object> podSpec = getMap(getMap(spec, "template"), "spec");
+        List<Map<String, Object>> containers = podSpec == null ? null :
+                (List<Map<String, Object>>) podSpec.get("containers");
+        if (containers == null || containers.isEmpty()) {
+            return;
+        }
+        Map<String, Object> container = containers.get(0);
+        String image = (String) container.get("image");
+        if (image != null) {
+            int tagSeparator = image.lastIndexOf(':');
+            boolean hasTag = tagSeparator > image.lastIndexOf('/');
+            Map<String, Object> imageValues = new LinkedHashMap<>();
+            imageValues.put("repository", hasTag ? image.substring(0, tagSeparator) : image);
+            imageValues.put("tag", hasTag ? image.substring(tagSeparator + 1) : "latest");
+            values.put("image", imageValues);
+            container.put("image", placeholder("\"{{ " + valuesPath + ".image.repository }}:{{ " + valuesPath +
+                    ".image.tag }}\""));
+        }
+        Map<String, Object> resources = getMap(container, "resources");
+        if (resources == null) {
+            return;
+        }
+        Map<String, Object> resourceValues = new LinkedHashMap<>();
+        for (String type : new String[]{"requests", "limits"}) {
+            Map<String, Object> quantities = getMap(resources, type);
+            if (quantities == null || quantities.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> quantityValues = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> quantity : quantities.entrySet()) {
+                quantityValues.put(quantity.getKey(), String.valueOf(quantity.getValue()));
+                quantity.setValue(placeholder("{{ " + valuesPath + ".resources." + type + "." +
+                        quantity.getKey() + " | quote }}"));
+            }
+            resourceValues.put(type, quantityValues);
+        }
+        if (!resourceValues.isEmpty()) {
+            values.put("resources", resourceValues);
+        }
+    }
+
+    private void parameterizeAutoscaler(Map<String, Object> autoscaler, String valuesKey,
+                                        Map<String, Object> values) {
+        Map<String, Object> spec = getMap(autoscaler, "spec");
+        if (spec == null) {
+            return;
+        }
+        Map<String, Object> autoscalingValues = new LinkedHashMap<>();
+        for (String key : new String[]{"minReplicas", "maxReplicas", "targetCPUUtilizationPercentage"}) {
+            if (spec.get(key) != null) {
+                autoscalingValues.put(key, spec.get(key));
+                spec.put(key, placeholder("{{ .Values." + valuesKey + ".autoscaling." + key + " }}"));
+            }
+        }
+        if (!autoscalingValues.isEmpty()) {
+            values.put("autoscaling", autoscalingValues);
+        }
+    }
+
+    private Map<String, Object> getChart(String chartName, Map<String, Object> values) {
+        Map<String, Object> chart = new LinkedHashMap<>();
+        chart.put("apiVersion", "v2");
+        chart.put("name", chartName);
+        chart.put("type", "application");
+        chart.put("version", dataHolder.getPackageID().version.value);
+        for (Object resourceValues : values.values()) {
+            Object image = resourceValues instanceof Map ? ((Map<?, ?>) resourceValues).get("image") : null;
+            if (image instanceof Map) {
+                chart.put("appVersion", ((Map<?, ?>) image).get("tag"));
+                break;
+            }
+        }
+        return chart;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getMap(Map<String, Object> parent, String key) {
+        if (parent == null || !(parent.get(key) instanceof Map)) {
+            return null;
+        }
+        return (Map<String, Object>) parent.get(key);
+    }
+
+    /**
+     * Template expressions cannot go through the YAML serializer, which would quote them. A placeholder is written
+     * instead and replaced with the expression afterwards.
+     *
+     * @param expression template expression
+     * @return placeholder of the expression
+     */
+    private String placeholder(String expression) {
+        String placeholder = PLACEHOLDER_PREFIX + placeholders.size() + PLACEHOLDER_SUFFIX;
+        placeholders.put(placeholder, expression);
+        return placeholder;
+    }
+
+    /**
+     * Helm reads any {@code {{ }}} in a template as an action, so literal delimiters in the generated documents, e.g.
+     * in the data of a config map, are written as string actions that render to the delimiter itself. The delimiters
+     * are replaced in a single pass, so the escaped form is not escaped again. This runs before the placeholders are
+     * replaced, so the generated expressions are kept.
+     *
+     * @param template generated documents
+     * @return documents with the literal delimiters escaped
+     */
+    private String escapeDelimiters(String template) {
+        Matcher matcher = TEMPLATE_DELIMITER.matcher(template);
+        StringBuffer escaped = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(escaped, Matcher.quoteReplacement("{{ \"" + matcher.group() + "\" }}"));
+        }
+        matcher.appendTail(escaped);
+        return escaped.toString();
+    }
+
+    private String replacePlaceholders(String template) {
+        for (Map.Entry<String, String> placeholder : placeholders.entrySet()) {
+            template = template.replace("\"" + placeholder.getKey() + "\"", placeholder.getValue())
+                    .replace("'" + placeholder.getKey() + "'", placeholder.getValue())
+                    .replace(placeholder.getKey(), placeholder.getValue());
+        }
+        return template;
+    }
+}
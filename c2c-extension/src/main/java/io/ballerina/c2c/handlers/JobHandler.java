@@ -19,7 +19,6 @@ import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.JobModel;
-import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
@@ -32,6 +31,8 @@ import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJobBuilder;
 import io.fabric8.kubernetes.api.model.batch.v1.Job;
 import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobSpec;
+import io.fabric8.kubernetes.api.model.batch.v1.JobSpecBuilder;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
@@ -48,6 +49,9 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
  */
 public class JobHandler extends AbstractArtifactHandler {
 
+    public JobHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
 
     private void generate(JobModel jobModel) throws KubernetesPluginException {
         try {
@@ -61,7 +65,7 @@ public class JobHandler extends AbstractArtifactHandler {
             if (dataHolder.isSingleYaml()) {
                 outputFileName = getJob(jobModel).getMetadata().getName() + KubernetesConstants.YAML;
             }
-            KubernetesUtils.writeToFile(jobContent, outputFileName);
+            KubernetesUtils.writeToFile(dataHolder, jobContent, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
                     new NullLocation(), "job" , jobModel.getName());
@@ -76,24 +80,38 @@ public class JobHandler extends AbstractArtifactHandler {
                 .withName(jobModel.getName())
                 .withImage(jobModel.getImage())
                 .withEnv(jobModel.getEnvVars())
+                .withVolumeMounts(populateVolumeMounts(jobModel.getSecretModels(), jobModel.getConfigMapModels(),
+                        jobModel.getVolumeClaimModels()))
+                .withResources(jobModel.getResourceRequirements())
                 .build();
     }
 
-    private Job getJob(JobModel jobModel) {
-        JobBuilder jobBuilder = new JobBuilder()
-                .withNewMetadata()
-                .withName(jobModel.getName())
-                .withNamespace(dataHolder.getNamespace())
-                .endMetadata()
-                .withNewSpec()
+    JobSpec getJobSpec(JobModel jobModel) {
+        return new JobSpecBuilder()
+                .withParallelism(jobModel.getParallelism())
+                .withCompletions(jobModel.getCompletions())
+                .withCompletionMode(jobModel.getCompletionMode())
+                .withBackoffLimit(jobModel.getBackoffLimit())
+                .withActiveDeadlineSeconds(jobModel.getActiveDeadlineSeconds())
                 .withNewTemplate()
                 .withNewSpec()
                 .withRestartPolicy(jobModel.getRestartPolicy())
                 .withContainers(generateContainer(jobModel))
                 .withImagePullSecrets(getImagePullSecrets(jobModel))
+                .withVolumes(populateVolume(jobModel.getSecretModels(), jobModel.getConfigMapModels(),
+                        jobModel.getVolumeClaimModels()))
                 .endSpec()
                 .endTemplate()
-                .endSpec();
+                .build();
+    }
+
+    private Job getJob(JobModel jobModel) {
+        JobBuilder jobBuilder = new JobBuilder()
+                .withNewMetadata()
+                .withName(jobModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .endMetadata()
+                .withSpec(getJobSpec(jobModel));
         return jobBuilder.build();
     }
 
@@ -109,18 +127,15 @@ public class JobHandler extends AbstractArtifactHandler {
         return new CronJobBuilder()
                 .withNewMetadata()
                 .withName(jobModel.getName())
+                .withNamespace(dataHolder.getNamespace())
                 .endMetadata()
                 .withNewSpec()
                 .withSchedule(jobModel.getSchedule())
+                .withConcurrencyPolicy(jobModel.getConcurrencyPolicy())
+                .withSuccessfulJobsHistoryLimit(jobModel.getSuccessfulJobsHistoryLimit())
+                .withFailedJobsHistoryLimit(jobModel.getFailedJobsHistoryLimit())
                 .withNewJobTemplate()
-                .withNewSpec()
-                .withNewTemplate()
-                .withNewSpec()
-                .withRestartPolicy(jobModel.getRestartPolicy())
-                .withContainers(generateContainer(jobModel))
-                .endSpec()
-                .endTemplate()
-                .endSpec()
+                .withSpec(getJobSpec(jobModel))
                 .endJobTemplate()
                 .endSpec()
                 .build();
@@ -139,10 +154,16 @@ public class JobHandler extends AbstractArtifactHandler {
                 jobModel.setImage(balxFileName + KubernetesConstants.DOCKER_LATEST_TAG);
             }
             jobModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
-            resolveDockerToml(jobModel);
-            generate(jobModel);
+            jobModel.setSecretModels(dataHolder.getSecretModelSet());
+            jobModel.setConfigMapModels(dataHolder.getConfigMapModelSet());
+            resolveDockerToml(dataHolder, jobModel);
             //generate dockerfile and docker image
             dataHolder.setDockerModel(getDockerModel(jobModel));
+            if (dataHolder.getKedaModel() != null) {
+                // KEDA ScaledJob creates the jobs.
+                return;
+            }
+            generate(jobModel);
             OUT.println();
             OUT.print("\t@kubernetes:Job \t\t\t - complete 1/1");
         } catch (DockerGenException e) {
@@ -153,7 +174,6 @@ public class JobHandler extends AbstractArtifactHandler {
     }
 
     private DockerModel getDockerModel(JobModel jobModel) throws DockerGenException {
-        final KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
         DockerModel dockerModel = dataHolder.getDockerModel();
         String dockerImage = jobModel.getImage();
         String imageTag = dockerImage.substring(dockerImage.lastIndexOf(":") + 1);
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.JobModel;
+import io.ballerina.c2c.models.KedaModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.KEDA_API_VERSION;
+
+/**
+ * Generates KEDA ScaledObject for services and ScaledJob for tasks.
+ */
+public class KedaHandler extends AbstractArtifactHandler {
+
+    public KedaHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    private void generate(KedaModel kedaModel, String kind, Map<String, Object> spec, String filePostfix)
+            throws KubernetesPluginException {
+        // KEDA resources are custom resources, hence there are no fabric8 builders for them.
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("name", kedaModel.getName());
+        if (dataHolder.getNamespace() != null) {
+            metadata.put("namespace", dataHolder.getNamespace());
+        }
+        metadata.put("labels", kedaModel.getLabels());
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("apiVersion", KEDA_API_VERSION);
+        resource.put("kind", kind);
+        resource.put("metadata", metadata);
+        resource.put("spec", spec);
+        try {
+            String kedaContent = Serialization.asYaml(resource);
+            String outputFileName = filePostfix + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = kedaModel.getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(dataHolder, kedaContent, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), kind, kedaModel.getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    private Map<String, Object> getScaledObjectSpec(KedaModel kedaModel) {
+        Map<String, Object> scaleTargetRef = new LinkedHashMap<>();
+        scaleTargetRef.put("name", dataHolder.getDeploymentModel().getName());
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("scaleTargetRef", scaleTargetRef);
+        spec.put("pollingInterval", kedaModel.getPollingInterval());
+        spec.put("cooldownPeriod", kedaModel.getCooldownPeriod());
+        spec.put("minReplicaCount", kedaModel.getMinReplicas());
+        spec.put("maxReplicaCount", kedaModel.getMaxReplicas());
+        spec.put("triggers", getTriggers(kedaModel));
+        return spec;
+    }
+
+    private Map<String, Object> getScaledJobSpec(KedaModel kedaModel, JobModel jobModel) {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("jobTargetRef", new JobHandler(dataHolder).getJobSpec(jobModel));
+        spec.put("pollingInterval", kedaModel.getPollingInterval());
+        spec.put("maxReplicaCount", kedaModel.getMaxReplicas());
+        spec.put("triggers", getTriggers(kedaModel));
+        return spec;
+    }
+
+    private List<Map<String, Object>> getTriggers(KedaModel kedaModel) {
+        List<Map<String, Object>> triggers = new ArrayList<>();
+        for (KedaModel.TriggerModel triggerModel : kedaModel.getTriggers()) {
+            Map<String, Object> trigger = new LinkedHashMap<>();
+            trigger.put("type", triggerModel.getType());
+            trigger.put("metadata", triggerModel.getMetadata());
+            if (!KubernetesUtils.isBlank(triggerModel.getAuthenticationRef())) {
+                Map<String, Object> authenticationRef = new LinkedHashMap<>();
+                authenticationRef.put("name", triggerModel.getAuthenticationRef());
+                trigger.put("authenticationRef", authenticationRef);
+            }
+            triggers.add(trigger);
+        }
+        return triggers;
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        KedaModel kedaModel = dataHolder.getKedaModel();
+        if (kedaModel == null) {
+            return;
+        }
+        String outputName = dataHolder.getOutputName();
+        kedaModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, outputName);
+        JobModel jobModel = dataHolder.getJobModel();
+        if (jobModel != null) {
+            if (!KubernetesUtils.isBlank(jobModel.getSchedule())) {
+                // A ScaledJob has no schedule, it would run the task on events instead.
+                Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.KEDA_SCHEDULED_TASK,
+                        new NullLocation(), jobModel.getSchedule());
+                throw new KubernetesPluginException(diagnostic);
+            }
+            kedaModel.setName(KubernetesUtils.getValidName(outputName) + KubernetesConstants.SCALED_JOB_POSTFIX);
+            generate(kedaModel, "ScaledJob", getScaledJobSpec(kedaModel, jobModel),
+                    KubernetesConstants.SCALED_JOB_FILE_POSTFIX);
+            OUT.println();
+            OUT.print("\t@kubernetes:ScaledJob \t\t\t - complete 1/1");
+            return;
+        }
+        if (!dataHolder.getServiceGroupModels().isEmpty()) {
+            // Every group runs the message broker listeners as well, so scaling one deployment on their events
+            // does not scale the consumers.
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.KEDA_SERVICE_GROUPS,
+                    new NullLocation());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        kedaModel.setName(KubernetesUtils.getValidName(outputName) + KubernetesConstants.SCALED_OBJECT_POSTFIX);
+        generate(kedaModel, "ScaledObject", getScaledObjectSpec(kedaModel),
+                KubernetesConstants.SCALED_OBJECT_FILE_POSTFIX);
+        OUT.println();
+        OUT.print("\t@kubernetes:ScaledObject \t\t - complete 1/1");
+    }
+}
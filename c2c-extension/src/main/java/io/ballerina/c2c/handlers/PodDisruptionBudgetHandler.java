@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KedaModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.PodDisruptionBudgetModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudgetBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+
+/**
+ * Generates kubernetes Pod Disruption Budget for the deployment and the service groups.
+ */
+public class PodDisruptionBudgetHandler extends AbstractArtifactHandler {
+
+    public PodDisruptionBudgetHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    private void generate(PodDisruptionBudgetModel pdbModel) throws KubernetesPluginException {
+        PodDisruptionBudget podDisruptionBudget = new PodDisruptionBudgetBuilder()
+                .withNewMetadata()
+                .withName(pdbModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(pdbModel.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withNewSelector()
+                .withMatchLabels(pdbModel.getLabels())
+                .endSelector()
+                .endSpec()
+                .build();
+        // minAvailable and maxUnavailable are mutually exclusive.
+        if (pdbModel.getMinAvailable() != null) {
+            podDisruptionBudget.getSpec().setMinAvailable(new IntOrString(pdbModel.getMinAvailable()));
+        } else {
+            podDisruptionBudget.getSpec().setMaxUnavailable(new IntOrString(pdbModel.getMaxUnavailable()));
+        }
+        try {
+            String pdbContent = Serialization.asYaml(podDisruptionBudget);
+            String outputFileName = KubernetesConstants.PDB_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = podDisruptionBudget.getMetadata().getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(dataHolder, pdbContent, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "pod disruption budget", pdbModel.getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        PodDisruptionBudgetModel pdbModel = dataHolder.getPodDisruptionBudgetModel();
+        if (pdbModel == null || dataHolder.isDefaultDeploymentEmpty()) {
+            return;
+        }
+        generate(getWorkloadBudget(pdbModel, dataHolder.getOutputName(), getMinReplicas()));
+        OUT.println();
+        OUT.print("\t@kubernetes:PodDisruptionBudget \t - complete 1/1");
+    }
+
+    /**
+     * Generate the pod disruption budget of a workload other than the default deployment, such as a service group.
+     *
+     * @param workloadName name of the workload, which is also the value of its selector label
+     * @param minReplicas  minimum replicas of the workload
+     * @throws KubernetesPluginException if the budget cannot be written
+     */
+    public void generate(String workloadName, int minReplicas) throws KubernetesPluginException {
+        PodDisruptionBudgetModel pdbModel = dataHolder.getPodDisruptionBudgetModel();
+        if (pdbModel != null) {
+            generate(getWorkloadBudget(pdbModel, workloadName, minReplicas));
+        }
+    }
+
+    private PodDisruptionBudgetModel getWorkloadBudget(PodDisruptionBudgetModel pdbModel, String workloadName,
+                                                       int minReplicas) {
+        // The configured budget is shared by the workloads, so it is copied instead of being updated.
+        PodDisruptionBudgetModel workloadBudget = new PodDisruptionBudgetModel();
+        workloadBudget.getLabels().putAll(pdbModel.getLabels());
+        workloadBudget.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, workloadName);
+        workloadBudget.setName(KubernetesUtils.getValidName(workloadName) + KubernetesConstants.PDB_POSTFIX);
+        workloadBudget.setMinAvailable(pdbModel.getMinAvailable());
+        workloadBudget.setMaxUnavailable(pdbModel.getMaxUnavailable());
+        if (pdbModel.getMinAvailable() == null && pdbModel.getMaxUnavailable() == null) {
+            // Keep all but one of the minimum replicas available during voluntary disruptions.
+            if (minReplicas > 1) {
+                workloadBudget.setMinAvailable(minReplicas - 1);
+            } else {
+                workloadBudget.setMaxUnavailable(1);
+            }
+        }
+        return workloadBudget;
+    }
+
+    private int getMinReplicas() {
+        KedaModel kedaModel = dataHolder.getKedaModel();
+        if (kedaModel != null) {
+            return kedaModel.getMinReplicas();
+        }
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        PodAutoscalerModel podAutoscalerModel = deploymentModel.getPodAutoscalerModel();
+        if (podAutoscalerModel != null && podAutoscalerModel.getMinReplicas() > 0) {
+            return podAutoscalerModel.getMinReplicas();
+        }
+        return deploymentModel.getReplicas();
+    }
+}
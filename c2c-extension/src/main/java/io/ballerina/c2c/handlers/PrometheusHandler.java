@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PrometheusModel;
+import io.ballerina.c2c.models.ServiceGroupModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.SERVICE_MONITOR_API_VERSION;
+
+/**
+ * Generates Prometheus Operator ServiceMonitor for the metrics port of the services.
+ */
+public class PrometheusHandler extends AbstractArtifactHandler {
+
+    public PrometheusHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    private void generate(PrometheusModel prometheusModel) throws KubernetesPluginException {
+        // ServiceMonitor is a custom resource, hence there are no fabric8 builders for it.
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("name", prometheusModel.getName());
+        if (dataHolder.getNamespace() != null) {
+            metadata.put("namespace", dataHolder.getNamespace());
+        }
+        metadata.put("labels", prometheusModel.getLabels());
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("apiVersion", SERVICE_MONITOR_API_VERSION);
+        resource.put("kind", "ServiceMonitor");
+        resource.put("metadata", metadata);
+        resource.put("spec", getServiceMonitorSpec(prometheusModel));
+        try {
+            String serviceMonitorContent = Serialization.asYaml(resource);
+            String outputFileName = KubernetesConstants.SERVICE_MONITOR_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = prometheusModel.getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(dataHolder, serviceMonitorContent, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "ServiceMonitor", prometheusModel.getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    private Map<String, Object> getServiceMonitorSpec(PrometheusModel prometheusModel) {
+        // Services of the service groups carry their own app label, so select all of them.
+        List<String> apps = new ArrayList<>();
+        if (!dataHolder.isDefaultDeploymentEmpty()) {
+            apps.add(dataHolder.getOutputName());
+        }
+        for (ServiceGroupModel serviceGroupModel : dataHolder.getServiceGroupModels()) {
+            apps.add(serviceGroupModel.getLabels().get(KubernetesConstants.KUBERNETES_SELECTOR_KEY));
+        }
+        Map<String, Object> matchExpression = new LinkedHashMap<>();
+        matchExpression.put("key", KubernetesConstants.KUBERNETES_SELECTOR_KEY);
+        matchExpression.put("operator", "In");
+        matchExpression.put("values", apps);
+        Map<String, Object> selector = new LinkedHashMap<>();
+        selector.put("matchExpressions", Collections.singletonList(matchExpression));
+
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("port", KubernetesConstants.METRICS_PORT_NAME);
+        endpoint.put("path", prometheusModel.getPath());
+        if (prometheusModel.getScrapeInterval() != null) {
+            endpoint.put("interval", prometheusModel.getScrapeInterval());
+        }
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("selector", selector);
+        spec.put("endpoints", Collections.singletonList(endpoint));
+        return spec;
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        PrometheusModel prometheusModel = dataHolder.getPrometheusModel();
+        if (prometheusModel == null || !prometheusModel.isServiceMonitor()) {
+            return;
+        }
+        String outputName = dataHolder.getOutputName();
+        prometheusModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, outputName);
+        prometheusModel.setName(KubernetesUtils.getValidName(outputName) +
+                KubernetesConstants.SERVICE_MONITOR_POSTFIX);
+        generate(prometheusModel);
+        OUT.println();
+        OUT.print("\t@kubernetes:ServiceMonitor \t\t - complete 1/1");
+    }
+}
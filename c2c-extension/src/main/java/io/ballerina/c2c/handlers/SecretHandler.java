@@ -22,6 +22,7 @@ import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.SecretModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
@@ -38,6 +39,10 @@ import java.util.Collection;
  */
 public class SecretHandler extends AbstractArtifactHandler {
 
+    public SecretHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     private void generate(SecretModel secretModel) throws KubernetesPluginException {
         Secret secret = new SecretBuilder()
                 .withNewMetadata()
@@ -52,7 +57,7 @@ public class SecretHandler extends AbstractArtifactHandler {
             if (dataHolder.isSingleYaml()) {
                 outputFileName = secret.getMetadata().getName() + KubernetesConstants.YAML;
             }
-            KubernetesUtils.writeToFile(secretContent, outputFileName);
+            KubernetesUtils.writeToFile(dataHolder, secretContent, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
                     new NullLocation(), "secret", secretModel.getName());
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.ServiceGroupModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTermBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
+
+/**
+ * Generates a deployment, service, autoscaler and pod disruption budget for each service group.
+ * <p>
+ * Every group runs the same program, which starts all of its listeners. A group only receives the traffic of its
+ * services, so it is sized and scaled for that traffic, but it does not stop the other listeners from starting.
+ */
+public class ServiceGroupHandler extends AbstractArtifactHandler {
+
+    public ServiceGroupHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    private void generate(ServiceGroupModel serviceGroupModel, Deployment baseDeployment)
+            throws KubernetesPluginException {
+        final String workloadName = KubernetesUtils.getValidName(dataHolder.getOutputName()) + "-" +
+                serviceGroupModel.getName();
+        serviceGroupModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, workloadName);
+        final String deploymentName = workloadName + KubernetesConstants.DEPLOYMENT_POSTFIX;
+
+        List<ContainerPort> containerPorts = new ArrayList<>();
+        if (!serviceGroupModel.getServiceModels().isEmpty()) {
+            new ServiceHandler(dataHolder).generate(serviceGroupModel.getServiceModels(),
+                    workloadName + KubernetesConstants.SVC_POSTFIX, workloadName, containerPorts);
+        }
+        // The image is shared, so it has to expose the ports of every group.
+        for (ContainerPort containerPort : containerPorts) {
+            dataHolder.getDockerModel().getPorts().add(containerPort.getContainerPort());
+        }
+
+        Deployment deployment = getDeployment(serviceGroupModel, baseDeployment, deploymentName, containerPorts);
+        try {
+            String deploymentContent = Serialization.asYaml(deployment);
+            String outputFileName = DEPLOYMENT_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = deploymentName + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(dataHolder, deploymentContent, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "deployment", deploymentName);
+            throw new KubernetesPluginException(diagnostic);
+        }
+
+        int minReplicas = serviceGroupModel.getReplicas();
+        HPAHandler hpaHandler = new HPAHandler(dataHolder);
+        if (hpaHandler.isHPAEnabled(dataHolder.getDeploymentModel().getPodAutoscalerModel())) {
+            PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+            podAutoscalerModel.setName(workloadName + KubernetesConstants.HPA_POSTFIX);
+            podAutoscalerModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, workloadName);
+            podAutoscalerModel.setDeployment(deploymentName);
+            podAutoscalerModel.setMinReplicas(serviceGroupModel.getReplicas());
+            podAutoscalerModel.setMaxReplicas(serviceGroupModel.getReplicas() + 1);
+            hpaHandler.resolveToml(podAutoscalerModel);
+            if (serviceGroupModel.getMinReplicas() != null) {
+                podAutoscalerModel.setMinReplicas(serviceGroupModel.getMinReplicas());
+            }
+            if (serviceGroupModel.getMaxReplicas() != null) {
+                podAutoscalerModel.setMaxReplicas(serviceGroupModel.getMaxReplicas());
+            }
+            if (serviceGroupModel.getCpuPercentage() != null) {
+                podAutoscalerModel.setCpuPercentage(serviceGroupModel.getCpuPercentage());
+            }
+            hpaHandler.generate(podAutoscalerModel);
+            minReplicas = podAutoscalerModel.getMinReplicas();
+        }
+        new PodDisruptionBudgetHandler(dataHolder).generate(workloadName, minReplicas);
+    }
+
+    /**
+     * Derive the deployment of a group from the default deployment, so that the image, probes, volumes and
+     * rollout settings stay the same while the pods get their own selector, ports and sizing.
+     */
+    private Deployment getDeployment(ServiceGroupModel serviceGroupModel, Deployment baseDeployment,
+                                     String deploymentName, List<ContainerPort> containerPorts) {
+        Map<String, String> labels = new LinkedHashMap<>(baseDeployment.getMetadata().getLabels());
+        labels.putAll(serviceGroupModel.getLabels());
+        PodSpec basePodSpec = baseDeployment.getSpec().getTemplate().getSpec();
+        Container baseContainer = basePodSpec.getContainers().get(0);
+        // Runtime sizing follows the resources of the group.
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        DeploymentHandler deploymentHandler = new DeploymentHandler(dataHolder);
+        List<EnvVar> runtimeEnv = deploymentHandler.getRuntimeEnv(deploymentModel,
+                serviceGroupModel.getResourceRequirements());
+        // Env vars generated for the resources of the default deployment are replaced by the ones of the group.
+        List<EnvVar> envVars = new ArrayList<>();
+        for (EnvVar envVar : baseContainer.getEnv()) {
+            if (!deploymentModel.getRuntimeEnvVars().contains(envVar)) {
+                envVars.add(envVar);
+            }
+        }
+        envVars.addAll(runtimeEnv);
+        Container container = new ContainerBuilder(baseContainer)
+                .withName(deploymentName)
+                .withPorts(containerPorts)
+                .withResources(serviceGroupModel.getResourceRequirements())
+                .withEnv(envVars)
+                .withLifecycle(deploymentHandler.getLifecycle(deploymentModel, containerPorts))
+                .build();
+        List<TopologySpreadConstraint> topologySpreadConstraints = new ArrayList<>();
+        for (TopologySpreadConstraint constraint : basePodSpec.getTopologySpreadConstraints()) {
+            topologySpreadConstraints.add(new TopologySpreadConstraintBuilder(constraint)
+                    .withNewLabelSelector()
+                    .withMatchLabels(serviceGroupModel.getLabels())
+                    .endLabelSelector()
+                    .build());
+        }
+        return new DeploymentBuilder(baseDeployment)
+                .editMetadata()
+                .withName(deploymentName)
+                .withLabels(labels)
+                .endMetadata()
+                .editSpec()
+                .withReplicas(serviceGroupModel.getReplicas())
+                .withNewSelector()
+                .withMatchLabels(labels)
+                .endSelector()
+                .editTemplate()
+                .editMetadata()
+                .withLabels(labels)
+                .endMetadata()
+                .editSpec()
+                .withContainers(container)
+                .withTopologySpreadConstraints(topologySpreadConstraints)
+                .withAffinity(getAffinity(basePodSpec.getAffinity(), serviceGroupModel.getLabels()))
+                .endSpec()
+                .endTemplate()
+                .endSpec()
+                .build();
+    }
+
+    private Affinity getAffinity(Affinity baseAffinity, Map<String, String> selector) {
+        if (baseAffinity == null || baseAffinity.getPodAntiAffinity() == null ||
+                baseAffinity.getPodAntiAffinity().getPreferredDuringSchedulingIgnoredDuringExecution() == null) {
+            return baseAffinity;
+        }
+        List<WeightedPodAffinityTerm> terms = new ArrayList<>();
+        for (WeightedPodAffinityTerm term :
+                baseAffinity.getPodAntiAffinity().getPreferredDuringSchedulingIgnoredDuringExecution()) {
+            terms.add(new WeightedPodAffinityTermBuilder(term)
+                    .editPodAffinityTerm()
+                    .withNewLabelSelector()
+                    .withMatchLabels(selector)
+                    .endLabelSelector()
+                    .endPodAffinityTerm()
+                    .build());
+        }
+        return new AffinityBuilder(baseAffinity)
+                .editPodAntiAffinity()
+                .withPreferredDuringSchedulingIgnoredDuringExecution(terms)
+                .endPodAntiAffinity()
+                .build();
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        List<ServiceGroupModel> serviceGroupModels = dataHolder.getServiceGroupModels();
+        if (serviceGroupModels.isEmpty()) {
+            return;
+        }
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        Deployment baseDeployment = new DeploymentHandler(dataHolder).getDeployment(deploymentModel);
+        int count = 0;
+        OUT.println();
+        for (ServiceGroupModel serviceGroupModel : serviceGroupModels) {
+            count++;
+            generate(serviceGroupModel, baseDeployment);
+            OUT.print("\t@kubernetes:ServiceGroup \t\t - complete " + count + "/" + serviceGroupModels.size() + "\r");
+        }
+    }
+}
@@ -22,6 +22,8 @@ import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PrometheusModel;
 import io.ballerina.c2c.models.ServiceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
@@ -43,21 +45,41 @@ import java.util.List;
  */
 public class ServiceHandler extends AbstractArtifactHandler {
 
+    public ServiceHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     private void generate(List<ServiceModel> serviceModels) throws KubernetesPluginException {
         if (serviceModels.isEmpty()) {
             return;
         }
-        int count = 0;
-        ServiceModel commonService = new ServiceModel();
-        commonService.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName());
-        commonService.setSelector(dataHolder.getOutputName());
         final DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        String serviceName;
         if (deploymentModel.getInternalDomainName() != null) {
-            commonService.setName(deploymentModel.getInternalDomainName());
+            serviceName = deploymentModel.getInternalDomainName();
         } else {
-            commonService.setName(KubernetesUtils.getValidName(deploymentModel.getName()
-                    .replace(KubernetesConstants.DEPLOYMENT_POSTFIX, "") + KubernetesConstants.SVC_POSTFIX));
+            serviceName = KubernetesUtils.getValidName(deploymentModel.getName()
+                    .replace(KubernetesConstants.DEPLOYMENT_POSTFIX, "") + KubernetesConstants.SVC_POSTFIX);
         }
+        generate(serviceModels, serviceName, dataHolder.getOutputName(), deploymentModel.getPorts());
+    }
+
+    /**
+     * Generate a service for the given service models and collect the matching container ports.
+     *
+     * @param serviceModels  services exposed by the workload
+     * @param serviceName    name of the generated service
+     * @param selector       value of the app label of the workload pods
+     * @param containerPorts list to add the container ports of the workload to
+     * @throws KubernetesPluginException If an error occurs while generating artifact.
+     */
+    void generate(List<ServiceModel> serviceModels, String serviceName, String selector,
+                  List<ContainerPort> containerPorts) throws KubernetesPluginException {
+        int count = 0;
+        ServiceModel commonService = new ServiceModel();
+        commonService.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        commonService.setSelector(selector);
+        commonService.setName(serviceName);
         List<ServicePort> servicePorts = new ArrayList<>();
         for (ServiceModel serviceModel : serviceModels) {
             count++;
@@ -68,6 +90,7 @@ public class ServiceHandler extends AbstractArtifactHandler {
                     .withName(serviceModel.getPortName())
                     .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
                     .withPort(serviceModel.getPort())
+                    .withAppProtocol(serviceModel.getAppProtocol())
                     .withNewTargetPort(serviceModel.getTargetPort());
             servicePorts.add(servicePortBuilder.build());
             ContainerPort containerPort = new ContainerPortBuilder()
@@ -75,10 +98,25 @@ public class ServiceHandler extends AbstractArtifactHandler {
                     .withContainerPort(serviceModel.getTargetPort())
                     .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
                     .build();
-            deploymentModel.addPort(containerPort);
+            containerPorts.add(containerPort);
             OUT.println();
             OUT.print("\t@kubernetes:Service \t\t\t - complete " + count + "/" + serviceModels.size() + "\r");
         }
+        PrometheusModel prometheusModel = dataHolder.getPrometheusModel();
+        if (prometheusModel != null) {
+            servicePorts.add(new ServicePortBuilder()
+                    .withName(KubernetesConstants.METRICS_PORT_NAME)
+                    .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                    .withPort(prometheusModel.getPort())
+                    .withAppProtocol("http")
+                    .withNewTargetPort(prometheusModel.getPort())
+                    .build());
+            containerPorts.add(new ContainerPortBuilder()
+                    .withName(KubernetesConstants.METRICS_PORT_NAME)
+                    .withContainerPort(prometheusModel.getPort())
+                    .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                    .build());
+        }
 
         Service service = new ServiceBuilder()
                 .withNewMetadata()
@@ -93,19 +131,39 @@ public class ServiceHandler extends AbstractArtifactHandler {
                 .withType(commonService.getServiceType())
                 .endSpec()
                 .build();
+        write(service);
+        if (dataHolder.getDeploymentModel().isHeadlessService()) {
+            // Resolves to every ready pod, so HTTP/2 and gRPC clients can balance across pods instead of pinning
+            // long-lived connections to a single one behind the cluster IP.
+            Service headlessService = new ServiceBuilder()
+                    .withNewMetadata()
+                    .withName(commonService.getName() + KubernetesConstants.HEADLESS_SVC_POSTFIX)
+                    .withNamespace(dataHolder.getNamespace())
+                    .addToLabels(commonService.getLabels())
+                    .endMetadata()
+                    .withNewSpec()
+                    .withClusterIP(KubernetesConstants.HEADLESS_CLUSTER_IP)
+                    .withPorts(servicePorts)
+                    .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, commonService.getSelector())
+                    .endSpec()
+                    .build();
+            write(headlessService);
+        }
+    }
+
+    private void write(Service service) throws KubernetesPluginException {
         try {
             String serviceYAML = Serialization.asYaml(service);
             String outputFileName = KubernetesConstants.SVC_FILE_POSTFIX + KubernetesConstants.YAML;
             if (dataHolder.isSingleYaml()) {
                 outputFileName = service.getMetadata().getName() + KubernetesConstants.YAML;
             }
-            KubernetesUtils.writeToFile(serviceYAML, outputFileName);
+            KubernetesUtils.writeToFile(dataHolder, serviceYAML, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
-                    new NullLocation(), "service" , commonService.getName());
+                    new NullLocation(), "service" , service.getMetadata().getName());
             throw new KubernetesPluginException(diagnostic);
         }
-
     }
 
     @Override
@@ -17,19 +17,21 @@
  */
 package io.ballerina.c2c.models;
 
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
 import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -61,30 +63,49 @@ public class DeploymentModel extends KubernetesModel {
     private String commandArgs;
     private String registry;
     private DeploymentStrategy strategy;
+    private Integer minReadySeconds;
+    private Integer preStopDrainSeconds;
+    private Long terminationGracePeriodSeconds;
     private Map<String, String> nodeSelector;
+    private List<TopologySpreadConstraint> topologySpreadConstraints;
+    private Affinity affinity;
     private String dockerConfigPath;
     private ResourceRequirements resourceRequirements;
     private String internalDomainName;
+    private boolean headlessService;
+    private boolean runtimeSizing;
+    private Integer activeProcessorCount;
+    private Integer schedulerPoolSize;
+    private List<String> jvmOptions;
+    private List<EnvVar> runtimeEnvVars;
+    private String resourceProfile;
+    private boolean omitCpuLimit;
+    private String priorityClassName;
+    private WarmupModel warmupModel;
 
     public DeploymentModel() {
         // Initialize with default values.
         this.replicas = 1;
         this.envVars = new ArrayList<>();
         this.buildImage = true;
+        this.runtimeSizing = true;
+        this.jvmOptions = new ArrayList<>();
+        this.runtimeEnvVars = new ArrayList<>();
         this.baseImage = OPENJDK_11_JRE_SLIM_BASE;
         this.labels = new LinkedHashMap<>();
         this.nodeSelector = new LinkedHashMap<>();
+        this.topologySpreadConstraints = new ArrayList<>();
         this.ports = new ArrayList<>();
-        this.secretModels = new HashSet<>();
-        this.configMapModels = new HashSet<>();
-        this.volumeClaimModels = new HashSet<>();
-        this.imagePullSecrets = new HashSet<>();
+        this.secretModels = new LinkedHashSet<>();
+        this.configMapModels = new LinkedHashSet<>();
+        this.volumeClaimModels = new LinkedHashSet<>();
+        this.imagePullSecrets = new LinkedHashSet<>();
         this.commandArgs = "";
         this.registry = "";
-        Map<String, Quantity> limit = new HashMap<>();
+        Map<String, Quantity> limit = new LinkedHashMap<>();
         limit.put("cpu", new Quantity("500m"));
         limit.put("memory", new Quantity("256Mi"));
-        Map<String, Quantity> resource = new HashMap<>();
+        Map<String, Quantity> resource = new LinkedHashMap<>();
         resource.put("cpu", new Quantity("200m"));
         resource.put("memory", new Quantity("100Mi"));
         this.resourceRequirements = new ResourceRequirementsBuilder()
@@ -109,4 +130,8 @@ public class DeploymentModel extends KubernetesModel {
         this.ports.add(port);
     }
 
+    public void addTopologySpreadConstraint(TopologySpreadConstraint topologySpreadConstraint) {
+        this.topologySpreadConstraints.add(topologySpreadConstraint);
+    }
+
 }
@@ -19,13 +19,17 @@
 package io.ballerina.c2c.models;
 
 import io.ballerina.c2c.KubernetesConstants;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.ballerinax.docker.generator.models.CopyFileModel;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.ballerinax.docker.generator.DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE;
@@ -37,9 +41,19 @@ import static org.ballerinax.docker.generator.DockerGenConstants.OPENJDK_11_JRE_
 @Data
 public class JobModel extends KubernetesModel {
     private String restartPolicy;
-    private int backoffLimit;
-    private int activeDeadlineSeconds;
+    private Integer backoffLimit;
+    private Long activeDeadlineSeconds;
+    private Integer parallelism;
+    private Integer completions;
+    private String completionMode;
     private String schedule;
+    private String concurrencyPolicy;
+    private Integer successfulJobsHistoryLimit;
+    private Integer failedJobsHistoryLimit;
+    private ResourceRequirements resourceRequirements;
+    private Set<SecretModel> secretModels;
+    private Set<ConfigMapModel> configMapModels;
+    private Set<PersistentVolumeClaimModel> volumeClaimModels;
     private String image;
     private boolean buildImage;
     private String dockerHost;
@@ -53,14 +67,26 @@ public class JobModel extends KubernetesModel {
     private String dockerConfigPath;
 
     public JobModel() {
-        this.labels = new HashMap<>();
-        this.copyFiles = new HashSet<>();
+        this.labels = new LinkedHashMap<>();
+        this.copyFiles = new LinkedHashSet<>();
         this.restartPolicy = KubernetesConstants.RestartPolicy.OnFailure.name();
         this.setBaseImage(OPENJDK_11_JRE_SLIM_BASE);
         this.buildImage = true;
         this.envVars = new ArrayList<>();
-        this.activeDeadlineSeconds = 20;
-        this.imagePullSecrets = new HashSet<>();
+        this.imagePullSecrets = new LinkedHashSet<>();
+        this.secretModels = new LinkedHashSet<>();
+        this.configMapModels = new LinkedHashSet<>();
+        this.volumeClaimModels = new LinkedHashSet<>();
         this.uberJar = false;
+        Map<String, Quantity> limit = new LinkedHashMap<>();
+        limit.put("cpu", new Quantity("500m"));
+        limit.put("memory", new Quantity("256Mi"));
+        Map<String, Quantity> resource = new LinkedHashMap<>();
+        resource.put("cpu", new Quantity("200m"));
+        resource.put("memory", new Quantity("100Mi"));
+        this.resourceRequirements = new ResourceRequirementsBuilder()
+                .withLimits(limit)
+                .withRequests(resource)
+                .build();
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * KEDA ScaledObject/ScaledJob model class.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class KedaModel extends KubernetesModel {
+    private int pollingInterval;
+    private int cooldownPeriod;
+    private int minReplicas;
+    private int maxReplicas;
+    private List<TriggerModel> triggers;
+
+    public KedaModel() {
+        this.pollingInterval = 30;
+        this.cooldownPeriod = 300;
+        this.minReplicas = 0;
+        this.maxReplicas = 10;
+        this.labels = new LinkedHashMap<>();
+        this.triggers = new ArrayList<>();
+    }
+
+    public void addTrigger(TriggerModel trigger) {
+        this.triggers.add(trigger);
+    }
+
+    /**
+     * KEDA trigger model class.
+     */
+    @Data
+    public static class TriggerModel {
+        private String type;
+        private String authenticationRef;
+        private Map<String, String> metadata;
+
+        public TriggerModel() {
+            this.metadata = new LinkedHashMap<>();
+        }
+    }
+}
@@ -20,37 +20,76 @@ package io.ballerina.c2c.models;
 
 import org.ballerinalang.model.elements.PackageID;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Class to hold Kubernetes data holder against package id.
+ * <p>
+ * Each package being compiled gets its own data holder, so packages compiled in the same JVM do not share models.
  */
 public class KubernetesContext {
-    private static KubernetesContext instance;
-    private KubernetesDataHolder kubernetesDataHolder;
-    private PackageID currentPackage;
+    private static final KubernetesContext INSTANCE = new KubernetesContext();
+    private final Map<PackageID, KubernetesDataHolder> dataHolders = new ConcurrentHashMap<>();
+    private final Map<PackageID, List<String>> generationErrors = new ConcurrentHashMap<>();
 
     private KubernetesContext() {
-        kubernetesDataHolder = new KubernetesDataHolder();
     }
 
     public static KubernetesContext getInstance() {
-        synchronized (KubernetesDataHolder.class) {
-            if (instance == null) {
-                instance = new KubernetesContext();
-            }
-        }
-        return instance;
+        return INSTANCE;
+    }
+
+    /**
+     * Create a new data holder for a package, discarding the models of an earlier compilation of the package.
+     *
+     * @param packageID package id
+     * @return data holder of the package
+     */
+    public KubernetesDataHolder createDataHolder(PackageID packageID) {
+        KubernetesDataHolder dataHolder = newDataHolder(packageID);
+        dataHolders.put(packageID, dataHolder);
+        return dataHolder;
     }
 
-    public PackageID getCurrentPackage() {
-        return this.currentPackage;
+    public KubernetesDataHolder getDataHolder(PackageID packageID) {
+        // The mapping function must not update the map, hence the data holder is only built here.
+        return dataHolders.computeIfAbsent(packageID, KubernetesContext::newDataHolder);
     }
 
-    public void setCurrentPackage(PackageID packageID) {
-        this.currentPackage = packageID;
+    private static KubernetesDataHolder newDataHolder(PackageID packageID) {
+        KubernetesDataHolder dataHolder = new KubernetesDataHolder();
+        dataHolder.setPackageID(packageID);
+        return dataHolder;
     }
 
-    public KubernetesDataHolder getDataHolder() {
-        return this.kubernetesDataHolder;
+    public void removeDataHolder(PackageID packageID) {
+        dataHolders.remove(packageID);
     }
 
+    /**
+     * Record an error that stopped the artifact generation of a package, for callers that build packages through
+     * the project API and only see the compiler diagnostics.
+     *
+     * @param packageID package id
+     * @param message   error message
+     */
+    public void addGenerationError(PackageID packageID, String message) {
+        generationErrors.computeIfAbsent(packageID, id -> new CopyOnWriteArrayList<>()).add(message);
+    }
+
+    /**
+     * Get and clear the artifact generation errors of a package.
+     *
+     * @param packageID package id
+     * @return errors recorded since the last call
+     */
+    public List<String> removeGenerationErrors(PackageID packageID) {
+        List<String> errors = generationErrors.remove(packageID);
+        return errors == null ? Collections.emptyList() : new ArrayList<>(errors);
+    }
 }
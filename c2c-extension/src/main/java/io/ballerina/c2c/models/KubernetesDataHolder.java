@@ -18,18 +18,21 @@
 
 package io.ballerina.c2c.models;
 
+import io.ballerina.c2c.util.ProjectServiceInfo;
 import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import lombok.Data;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.docker.generator.models.DockerModel;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Class to store kubernetes models.
@@ -39,11 +42,16 @@ public class KubernetesDataHolder {
     private DeploymentModel deploymentModel;
     private DockerModel dockerModel;
     private PodAutoscalerModel podAutoscalerModel;
+    private PodDisruptionBudgetModel podDisruptionBudgetModel;
     private List<ServiceModel> serviceModelList;
+    private List<ServiceGroupModel> serviceGroupModels;
     private Map<String, Set<SecretModel>> bListenerToSecretMap;
     private Set<SecretModel> secretModelSet;
     private Set<ConfigMapModel> configMapModelSet;
     private JobModel jobModel;
+    private KedaModel kedaModel;
+    private PrometheusModel prometheusModel;
+    private Set<String> messageBrokers;
     private Path jarPath;
     private Path k8sArtifactOutputPath;
     private Path dockerArtifactOutputPath;
@@ -53,13 +61,23 @@ public class KubernetesDataHolder {
     private PackageID packageID;
     private Toml ballerinaCloud;
     private boolean singleYaml;
+    private boolean reproducible;
+    private boolean jarCache;
+    private boolean helm;
+    private Long imageMaxSize;
     private String outputName;
+    private ProjectServiceInfo projectServiceInfo;
+    private Diagnostic buildFailure;
+    private List<Diagnostic> diagnostics;
 
     KubernetesDataHolder() {
         this.serviceModelList = new ArrayList<>();
-        this.bListenerToSecretMap = new HashMap<>();
-        this.secretModelSet = new HashSet<>();
-        this.configMapModelSet = new HashSet<>();
+        this.serviceGroupModels = new ArrayList<>();
+        this.bListenerToSecretMap = new LinkedHashMap<>();
+        this.secretModelSet = new LinkedHashSet<>();
+        this.configMapModelSet = new LinkedHashSet<>();
+        this.messageBrokers = new LinkedHashSet<>();
+        this.diagnostics = new ArrayList<>();
         this.deploymentModel = new DeploymentModel();
         this.dockerModel = new DockerModel();
         this.ballerinaCloud = null;
@@ -82,4 +100,39 @@ public class KubernetesDataHolder {
         this.serviceModelList.add(serviceModel);
     }
 
+    public void addDiagnostic(Diagnostic diagnostic) {
+        this.diagnostics.add(diagnostic);
+    }
+
+    /**
+     * Check whether every service is moved to a service group, leaving the default deployment nothing to serve.
+     *
+     * @return true if the default deployment is not needed
+     */
+    public boolean isDefaultDeploymentEmpty() {
+        return this.serviceModelList.isEmpty() && !this.serviceGroupModels.isEmpty();
+    }
+
+    /**
+     * Create a data holder for a Cloud.toml profile. The executable, the analysis result and the docker image are
+     * shared with the package, while the kubernetes models are left to be populated from the profile.
+     *
+     * @param profile        name of the profile
+     * @param ballerinaCloud Cloud.toml with the profile applied
+     * @return data holder of the profile
+     */
+    public KubernetesDataHolder createProfile(String profile, Toml ballerinaCloud) {
+        KubernetesDataHolder profileHolder = new KubernetesDataHolder();
+        profileHolder.setPackageID(this.packageID);
+        profileHolder.setOutputName(this.outputName);
+        profileHolder.setSourceRoot(this.sourceRoot);
+        profileHolder.setJarPath(this.jarPath);
+        profileHolder.setProjectServiceInfo(this.projectServiceInfo);
+        profileHolder.setBallerinaCloud(ballerinaCloud);
+        profileHolder.setK8sArtifactOutputPath(this.k8sArtifactOutputPath.resolve(profile));
+        profileHolder.setDockerArtifactOutputPath(this.dockerArtifactOutputPath);
+        profileHolder.getDockerModel().addDependencyJarPaths(new TreeSet<>(this.dockerModel.getDependencyJarPaths()));
+        return profileHolder;
+    }
+
 }
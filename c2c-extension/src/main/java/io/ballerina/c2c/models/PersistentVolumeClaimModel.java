@@ -20,7 +20,7 @@ package io.ballerina.c2c.models;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Model class to hold kubernetes Persistent Volume Claim.
@@ -36,6 +36,6 @@ public class PersistentVolumeClaimModel extends KubernetesModel {
 
     public PersistentVolumeClaimModel() {
         this.accessMode = "ReadWriteOnce";
-        this.setAnnotations(new HashMap<>());
+        this.setAnnotations(new LinkedHashMap<>());
     }
 }
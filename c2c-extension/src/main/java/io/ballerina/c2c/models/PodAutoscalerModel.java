@@ -21,7 +21,7 @@ package io.ballerina.c2c.models;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Kubernetes Pod Autoscaler annotations model class.
@@ -36,7 +36,7 @@ public class PodAutoscalerModel extends KubernetesModel {
 
     public PodAutoscalerModel() {
         this.cpuPercentage = 50;
-        labels = new HashMap<>();
+        labels = new LinkedHashMap<>();
     }
 
     public void addLabel(String key, String value) {
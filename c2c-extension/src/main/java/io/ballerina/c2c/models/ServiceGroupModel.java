@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.models;
+
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Group of services deployed as a separate workload from the same image.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class ServiceGroupModel extends KubernetesModel {
+    private List<String> services;
+    private List<ServiceModel> serviceModels;
+    private int replicas;
+    private ResourceRequirements resourceRequirements;
+    private Integer minReplicas;
+    private Integer maxReplicas;
+    private Integer cpuPercentage;
+
+    public ServiceGroupModel() {
+        this.labels = new LinkedHashMap<>();
+        this.services = new ArrayList<>();
+        this.serviceModels = new ArrayList<>();
+        this.envVars = new ArrayList<>();
+    }
+}
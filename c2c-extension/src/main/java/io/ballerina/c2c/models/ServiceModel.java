@@ -21,7 +21,7 @@ import io.ballerina.c2c.KubernetesConstants;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Kubernetes service annotations model class.
@@ -37,10 +37,12 @@ public class ServiceModel extends KubernetesModel {
     private String sessionAffinity;
     private String portName;
     private String protocol;
+    private String appProtocol;
+    private String servicePath;
 
     public ServiceModel() {
         serviceType = KubernetesConstants.ServiceType.ClusterIP.name();
-        labels = new HashMap<>();
+        labels = new LinkedHashMap<>();
         port = -1;
         targetPort = -1;
         nodePort = -1;
@@ -17,6 +17,7 @@
  */
 package io.ballerina.c2c.tasks;
 
+import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
@@ -24,6 +25,7 @@ import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.PrometheusModel;
 import io.ballerina.c2c.models.SecretModel;
 import io.ballerina.c2c.models.ServiceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
@@ -35,6 +37,7 @@ import io.ballerina.c2c.util.ProjectServiceInfo;
 import io.ballerina.c2c.util.SecureSocketConfig;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.c2c.util.Task;
+import io.ballerina.c2c.utils.BuildTracer;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
@@ -48,12 +51,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static io.ballerina.c2c.KubernetesConstants.BALLERINA_HOME;
 import static io.ballerina.c2c.KubernetesConstants.DOCKER_CERT_PATH;
@@ -76,16 +79,18 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
         if (cloud == null || !KubernetesUtils.isBuildOptionDockerOrK8s(cloud)) {
             return;
         }
-        KubernetesContext.getInstance().setCurrentPackage(KubernetesUtils.getProjectID(currentPackage));
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
-        dataHolder.setPackageID(KubernetesUtils.getProjectID(currentPackage));
+        KubernetesDataHolder dataHolder =
+                KubernetesContext.getInstance().createDataHolder(KubernetesUtils.getProjectID(currentPackage));
+        BuildTracer tracer = BuildTracer.getTracer(dataHolder.getPackageID());
         List<Diagnostic> c2cDiagnostics = new ArrayList<>();
-        ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(currentPackage.project(), c2cDiagnostics);
-        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
-        List<ClientInfo> clientInfoList = projectServiceInfo.getClientList();
+        ProjectServiceInfo projectServiceInfo;
+        try (BuildTracer.Span ignored = tracer.span("ProjectServiceInfo")) {
+            projectServiceInfo = new ProjectServiceInfo(currentPackage.project(), c2cDiagnostics);
+        }
+        // Kept so that the models of Cloud.toml profiles can be populated without analysing the sources again.
+        dataHolder.setProjectServiceInfo(projectServiceInfo);
         try {
-            addServices(serviceList);
-            addClientList(clientInfoList);
+            populateModels(dataHolder, projectServiceInfo, project.buildOptions().observabilityIncluded());
         } catch (KubernetesPluginException e) {
             compilationAnalysisContext.reportDiagnostic(e.getDiagnostic());
         }
@@ -93,12 +98,33 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
         for (Diagnostic diagnostic : c2cDiagnostics) {
             compilationAnalysisContext.reportDiagnostic(diagnostic);
         }
-        addDeployments();
-        addHPA();
-        addJobs(projectServiceInfo);
     }
 
-    private void addJobs(ProjectServiceInfo projectServiceInfo) {
+    /**
+     * Populate the kubernetes models of a data holder from the services and clients found in the package.
+     *
+     * @param dataHolder            data holder to populate
+     * @param projectServiceInfo    services and clients of the package
+     * @param observabilityIncluded whether observability is included in the build
+     * @throws KubernetesPluginException if a secret of a listener or a client cannot be read
+     */
+    void populateModels(KubernetesDataHolder dataHolder, ProjectServiceInfo projectServiceInfo,
+                        boolean observabilityIncluded) throws KubernetesPluginException {
+        dataHolder.setMessageBrokers(projectServiceInfo.getMessageBrokers());
+        if (observabilityIncluded &&
+                projectServiceInfo.getObservabilityImports().contains(KubernetesConstants.PROMETHEUS)) {
+            dataHolder.setPrometheusModel(new PrometheusModel());
+        }
+        addDeployments(dataHolder);
+        addHPA(dataHolder);
+        addJobs(dataHolder, projectServiceInfo);
+        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
+        List<ClientInfo> clientInfoList = projectServiceInfo.getClientList();
+        addServices(dataHolder, serviceList);
+        addClientList(dataHolder, clientInfoList);
+    }
+
+    private void addJobs(KubernetesDataHolder dataHolder, ProjectServiceInfo projectServiceInfo) {
         if (projectServiceInfo.getTask().isPresent()) {
             Task task = projectServiceInfo.getTask().get();
             JobModel jobModel = new JobModel();
@@ -112,18 +138,19 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
             if (!KubernetesUtils.isBlank(dockerCertPath)) {
                 jobModel.setDockerCertPath(dockerCertPath);
             }
-            KubernetesContext.getInstance().getDataHolder().setJobModel(jobModel);
+            dataHolder.setJobModel(jobModel);
         }
     }
 
-    private void addClientList(List<ClientInfo> clientInfoList) throws KubernetesPluginException {
+    private void addClientList(KubernetesDataHolder dataHolder, List<ClientInfo> clientInfoList)
+            throws KubernetesPluginException {
         for (ClientInfo clientInfo : clientInfoList) {
             final Optional<MutualSSLConfig> mutualSSLConfig = clientInfo.getHttpsConfig().getMutualSSLConfig();
             if (mutualSSLConfig.isPresent()) {
                 String sslCertPath = mutualSSLConfig.get().getPath();
                 String sslCertPathContent = readSecretFile(sslCertPath);
                 SecretModel secretModel;
-                Optional<SecretModel> existing = getSecretByMountPathExists(getMountPath(sslCertPath));
+                Optional<SecretModel> existing = getSecretByMountPathExists(dataHolder, getMountPath(sslCertPath));
                 if (existing.isPresent()) {
                     // Same mount path as key config add data to existing secret.
                     secretModel = existing.get();
@@ -133,22 +160,24 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
                     secretModel = new SecretModel();
                     secretModel.setName(getValidName(clientInfo.getName()) + "-mutual-ssl");
                     secretModel.setMountPath(getMountPath(sslCertPath));
-                    Map<String, String> dataMap = new HashMap<>();
+                    Map<String, String> dataMap = new TreeMap<>();
                     dataMap.put(String.valueOf(Paths.get(sslCertPath).getFileName()), sslCertPathContent);
                     secretModel.setData(dataMap);
-                    KubernetesContext.getInstance().getDataHolder().addSecrets(Collections.singleton(secretModel));
+                    dataHolder.addSecrets(Collections.singleton(secretModel));
                 }
             }
         }
     }
 
-    private void addServices(List<ServiceInfo> serviceList) throws KubernetesPluginException {
+    private void addServices(KubernetesDataHolder dataHolder, List<ServiceInfo> serviceList)
+            throws KubernetesPluginException {
         for (ServiceInfo serviceInfo : serviceList) {
             ServiceModel serviceModel = new ServiceModel();
             if (KubernetesUtils.isBlank(serviceModel.getName())) {
                 serviceModel.setName(getValidName(serviceInfo.getServicePath() + SVC_POSTFIX));
             }
 
+            serviceModel.setServicePath(serviceInfo.getServicePath().trim());
             ListenerInfo listener = serviceInfo.getListener();
             int port = listener.getPort();
             if (serviceModel.getPort() == -1) {
@@ -162,21 +191,39 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
 
             if (listener.getConfig().isPresent() && listener.getConfig().get().getSecureSocketConfig().isPresent()) {
                 Set<SecretModel> secretModels = processSecureSocketConfig(listener);
-                KubernetesContext.getInstance().getDataHolder().addListenerSecret(listener.getName(), secretModels);
-                KubernetesContext.getInstance().getDataHolder().addSecrets(secretModels);
+                dataHolder.addListenerSecret(listener.getName(), secretModels);
+                dataHolder.addSecrets(secretModels);
                 serviceModel.setProtocol("https");
             }
+            serviceModel.setAppProtocol(getAppProtocol(listener.getProtocol(), serviceModel.getProtocol()));
 
-            KubernetesContext.getInstance().getDataHolder().addServiceModel(serviceModel);
+            dataHolder.addServiceModel(serviceModel);
+        }
+    }
+
+    private String getAppProtocol(String listenerProtocol, String scheme) {
+        if (listenerProtocol == null) {
+            return null;
+        }
+        boolean secured = "https".equals(scheme);
+        switch (listenerProtocol) {
+            case ListenerInfo.GRPC:
+                return ListenerInfo.GRPC;
+            case ListenerInfo.HTTP2:
+                return secured ? scheme : KubernetesConstants.H2C_APP_PROTOCOL;
+            case ListenerInfo.WEBSOCKET:
+                return secured ? KubernetesConstants.WSS_APP_PROTOCOL : KubernetesConstants.WS_APP_PROTOCOL;
+            default:
+                return scheme;
         }
     }
 
-    private void addHPA() {
+    private void addHPA(KubernetesDataHolder dataHolder) {
         PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
-        KubernetesContext.getInstance().getDataHolder().setPodAutoscalerModel(podAutoscalerModel);
+        dataHolder.setPodAutoscalerModel(podAutoscalerModel);
     }
 
-    private void addDeployments() {
+    private void addDeployments(KubernetesDataHolder dataHolder) {
         DeploymentModel deploymentModel = new DeploymentModel();
 
         String dockerHost = System.getenv(DOCKER_HOST);
@@ -187,7 +234,7 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
         if (!KubernetesUtils.isBlank(dockerCertPath)) {
             deploymentModel.setDockerCertPath(dockerCertPath);
         }
-        KubernetesContext.getInstance().getDataHolder().setDeploymentModel(deploymentModel);
+        dataHolder.setDeploymentModel(deploymentModel);
     }
 
     /**
@@ -197,7 +244,7 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
      * @return List of @{@link SecretModel} objects
      */
     private Set<SecretModel> processSecureSocketConfig(ListenerInfo listenerInfo) throws KubernetesPluginException {
-        Set<SecretModel> secrets = new HashSet<>();
+        Set<SecretModel> secrets = new LinkedHashSet<>();
 
         Optional<HttpsConfig> config = listenerInfo.getConfig();
         if (config.isEmpty()) {
@@ -214,7 +261,7 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
                 String keyStoreContent = readSecretFile(path);
                 secretModel.setName(validName + "-secure-socket");
                 secretModel.setMountPath(getMountPath(path));
-                Map<String, String> dataMap = new HashMap<>();
+                Map<String, String> dataMap = new TreeMap<>();
                 dataMap.put(String.valueOf(Paths.get(path).getFileName()), keyStoreContent);
                 secretModel.setData(dataMap);
                 secrets.add(secretModel);
@@ -227,7 +274,7 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
                     // key and cert mount to same path
                     secretModel.setName(validName + "-secure-socket");
                     secretModel.setMountPath(getMountPath(certFile));
-                    Map<String, String> dataMap = new HashMap<>();
+                    Map<String, String> dataMap = new TreeMap<>();
                     dataMap.put(String.valueOf(Paths.get(keyFile).getFileName()), keyFileContent);
                     dataMap.put(String.valueOf(Paths.get(certFile).getFileName()), certFileContent);
                     secretModel.setData(dataMap);
@@ -236,14 +283,14 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
                     // key and cert mount different paths
                     secretModel.setName(validName + "-secure-cert");
                     secretModel.setMountPath(getMountPath(certFile));
-                    Map<String, String> dataMap = new HashMap<>();
+                    Map<String, String> dataMap = new TreeMap<>();
                     dataMap.put(String.valueOf(Paths.get(certFile).getFileName()), certFileContent);
                     secretModel.setData(dataMap);
 
                     SecretModel secretModelKeyFile = new SecretModel();
                     secretModelKeyFile.setName(validName + "-secure-key");
                     secretModelKeyFile.setMountPath(getMountPath(keyFile));
-                    Map<String, String> dataMapKey = new HashMap<>();
+                    Map<String, String> dataMapKey = new TreeMap<>();
                     dataMapKey.put(String.valueOf(Paths.get(keyFile).getFileName()), keyFileContent);
                     secretModel.setData(dataMapKey);
 
@@ -261,7 +308,7 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
                 SecretModel sslSecretModel = new SecretModel();
                 sslSecretModel.setName(getValidName(listenerInfo.getName()) + "-mutual-ssl");
                 sslSecretModel.setMountPath(getMountPath(sslCertPath));
-                Map<String, String> dataMap = new HashMap<>();
+                Map<String, String> dataMap = new TreeMap<>();
                 dataMap.put(String.valueOf(Paths.get(sslCertPath).getFileName()), sslCertPathContent);
                 sslSecretModel.setData(dataMap);
                 secrets.add(sslSecretModel);
@@ -270,8 +317,8 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
         return secrets;
     }
 
-    private Optional<SecretModel> getSecretByMountPathExists(String path) {
-        for (SecretModel secretModel : KubernetesContext.getInstance().getDataHolder().getSecretModelSet()) {
+    private Optional<SecretModel> getSecretByMountPathExists(KubernetesDataHolder dataHolder, String path) {
+        for (SecretModel secretModel : dataHolder.getSecretModelSet()) {
             if (secretModel.getMountPath().equals(path)) {
                 return Optional.of(secretModel);
             }
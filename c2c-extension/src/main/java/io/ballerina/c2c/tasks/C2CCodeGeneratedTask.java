@@ -17,27 +17,32 @@
 package io.ballerina.c2c.tasks;
 
 import io.ballerina.c2c.ArtifactManager;
+import io.ballerina.c2c.CloudTomlProfiles;
+import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.ArtifactChangeSet;
+import io.ballerina.c2c.utils.BuildTracer;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.projects.CloudToml;
-import io.ballerina.projects.JBallerinaBackend;
-import io.ballerina.projects.JarLibrary;
-import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.CompilerLifecycleEventContext;
 import io.ballerina.projects.plugins.CompilerLifecycleTask;
 import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.model.elements.PackageID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
 
 import static io.ballerina.c2c.KubernetesConstants.DOCKER;
 import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
@@ -56,7 +61,6 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
 public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifecycleEventContext> {
 
     private static final Logger pluginLog = LoggerFactory.getLogger(C2CCodeGeneratedTask.class);
-    private final KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
 
     @Override
     public void perform(CompilerLifecycleEventContext compilerLifecycleEventContext) {
@@ -66,7 +70,9 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
             return;
         }
         Optional<Path> executablePath = compilerLifecycleEventContext.getGeneratedArtifactPath();
-        final PackageID currentPackage = KubernetesContext.getInstance().getCurrentPackage();
+        final PackageID currentPackage = KubernetesUtils.getProjectID(compilerLifecycleEventContext.currentPackage());
+        final KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder(currentPackage);
+        final BuildTracer tracer = BuildTracer.getTracer(currentPackage);
         executablePath.ifPresent(path -> {
             String executableJarName = "$anon".equals(currentPackage.orgName.value) ? path.getFileName().toString() :
                     currentPackage.orgName.value + "-" + currentPackage.name.value +
@@ -74,18 +80,29 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
             String outputName = "$anon".equals(currentPackage.orgName.value) ? extractJarName(path.getFileName()) :
                     currentPackage.name.value;
             dataHolder.setOutputName(outputName);
-            addDependencyJars(compilerLifecycleEventContext.compilation(), executableJarName);
+            try (BuildTracer.Span ignored = tracer.span("dependency jar resolution")) {
+                addDependencyJars(dataHolder, compilerLifecycleEventContext.compilation(), executableJarName);
+            }
             dataHolder.setSourceRoot(executablePath.get().getParent()
                     .getParent().getParent());
-            codeGeneratedInternal(currentPackage,
+            codeGeneratedInternal(dataHolder, currentPackage,
                     path, compilerLifecycleEventContext.currentPackage().cloudToml(),
-                    compilerLifecycleEventContext.currentPackage().project().buildOptions().cloud());
+                    compilerLifecycleEventContext.currentPackage().project().buildOptions().cloud(),
+                    project.buildOptions().observabilityIncluded());
         });
+        dataHolder.getDiagnostics().forEach(compilerLifecycleEventContext::reportDiagnostic);
+        if (dataHolder.getBuildFailure() != null) {
+            compilerLifecycleEventContext.reportDiagnostic(dataHolder.getBuildFailure());
+        }
+        writeTrace(tracer, dataHolder.getK8sArtifactOutputPath());
+        // Models are not needed once the artifacts are generated.
+        KubernetesContext.getInstance().removeDataHolder(currentPackage);
+        BuildTracer.removeTracer(currentPackage);
     }
 
-    public void codeGeneratedInternal(PackageID packageId, Path executableJarFile, Optional<CloudToml> cloudToml,
-                                      String buildType) {
-        KubernetesContext.getInstance().setCurrentPackage(packageId);
+    public void codeGeneratedInternal(KubernetesDataHolder dataHolder, PackageID packageId, Path executableJarFile,
+                                      Optional<CloudToml> cloudToml, String buildType,
+                                      boolean observabilityIncluded) {
         dataHolder.setPackageID(packageId);
         executableJarFile = executableJarFile.toAbsolutePath();
         if (null != executableJarFile.getParent() && Files.exists(executableJarFile.getParent())) {
@@ -110,14 +127,25 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
             }
             dataHolder.setK8sArtifactOutputPath(kubernetesOutputPath);
             dataHolder.setDockerArtifactOutputPath(dockerOutputPath);
-            ArtifactManager artifactManager = new ArtifactManager();
-            try {
+            ArtifactManager artifactManager = new ArtifactManager(dataHolder);
+            try (BuildTracer.Span ignored = BuildTracer.getTracer(packageId).span("artifact generation")) {
+                ArtifactChangeSet previousArtifacts = readPreviousArtifacts(kubernetesOutputPath);
                 KubernetesUtils.deleteDirectory(kubernetesOutputPath);
                 artifactManager.populateDeploymentModel();
                 artifactManager.createArtifacts(buildType);
+                if ("k8s".equals(buildType)) {
+                    if (cloudToml.isPresent()) {
+                        createProfileArtifacts(dataHolder, cloudToml.get(), observabilityIncluded);
+                    }
+                    writeChangeSet(previousArtifacts, kubernetesOutputPath);
+                }
             } catch (KubernetesPluginException e) {
                 String errorMessage = "module [" + packageId + "] " + e.getMessage();
                 printError(errorMessage);
+                KubernetesContext.getInstance().addGenerationError(packageId, errorMessage);
+                if (isBuildFailure(e.getDiagnostic())) {
+                    dataHolder.setBuildFailure(e.getDiagnostic());
+                }
                 if (!e.isSkipPrintTrace()) {
                     pluginLog.error(errorMessage, e);
                 }
@@ -133,20 +161,100 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
         }
     }
 
-    private void addDependencyJars(PackageCompilation compilation, String executableFatJar) {
-        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation,
-                JvmTarget.JAVA_11);
-        io.ballerina.projects.JarResolver jarResolver = jBallerinaBackend.jarResolver();
+    /**
+     * Check whether a generation failure should fail the build instead of only dropping the artifacts.
+     *
+     * @param diagnostic diagnostic of the failure
+     * @return true if the diagnostic should be reported to the compiler
+     */
+    private boolean isBuildFailure(Diagnostic diagnostic) {
+        return C2CDiagnosticCodes.IMAGE_SIZE_EXCEEDED.getCode().equals(diagnostic.diagnosticInfo().code());
+    }
+
+    private void createProfileArtifacts(KubernetesDataHolder dataHolder, CloudToml cloudToml,
+                                        boolean observabilityIncluded) throws KubernetesPluginException {
+        if (dataHolder.getProjectServiceInfo() == null) {
+            return;
+        }
+        for (Map.Entry<String, Toml> profile : CloudTomlProfiles.resolve(cloudToml.tomlDocument()).entrySet()) {
+            // Models of a profile are populated from the analysis of the package instead of analysing it again.
+            KubernetesDataHolder profileHolder = dataHolder.createProfile(profile.getKey(), profile.getValue());
+            new C2CAnalysisTask().populateModels(profileHolder, dataHolder.getProjectServiceInfo(),
+                    observabilityIncluded);
+            ArtifactManager artifactManager = new ArtifactManager(profileHolder);
+            try (BuildTracer.Span ignored = BuildTracer.getTracer(dataHolder.getPackageID())
+                    .span("profile " + profile.getKey())) {
+                artifactManager.populateDeploymentModel();
+                artifactManager.createProfileArtifacts(profile.getKey());
+            }
+        }
+    }
+
+    private ArtifactChangeSet readPreviousArtifacts(Path kubernetesOutputPath) {
+        try {
+            return ArtifactChangeSet.read(kubernetesOutputPath);
+        } catch (IOException e) {
+            // Artifacts of the previous build are not readable, every resource is considered as changed.
+            pluginLog.debug("unable to read the previous kubernetes artifacts", e);
+            return ArtifactChangeSet.empty();
+        }
+    }
+
+    private void writeChangeSet(ArtifactChangeSet previousArtifacts, Path kubernetesOutputPath)
+            throws KubernetesPluginException {
+        try {
+            ArtifactChangeSet.read(kubernetesOutputPath).write(previousArtifacts, kubernetesOutputPath);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), ArtifactChangeSet.CHANGES, kubernetesOutputPath);
+            throw new KubernetesPluginException(diagnostic);
+        }
+        Path changesPath = kubernetesOutputPath.resolve(ArtifactChangeSet.CHANGES).toAbsolutePath();
+        Path changedFile = changesPath.resolve(ArtifactChangeSet.CHANGED_FILE);
+        Path prunedFile = changesPath.resolve(ArtifactChangeSet.PRUNED_FILE);
+        boolean changed = isNotEmpty(changedFile);
+        boolean pruned = isNotEmpty(prunedFile);
+        if (!changed && !pruned) {
+            return;
+        }
+        // The change set is relative to the previous build, which is assumed to be the one applied to the cluster.
+        if (changed) {
+            KubernetesUtils.printInstruction("\tExecute the below command to apply only the resources changed " +
+                    "since the previous build, if the previous build was applied: ");
+            KubernetesUtils.printInstruction("\tkubectl apply -f " + changedFile);
+        }
+        if (pruned) {
+            KubernetesUtils.printInstruction("\tResources removed since the previous build are listed in " +
+                    prunedFile);
+        }
+        KubernetesUtils.printInstruction("");
+    }
+
+    private boolean isNotEmpty(Path file) {
+        try {
+            return Files.size(file) > 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void writeTrace(BuildTracer tracer, Path outputPath) {
+        if (!tracer.isEnabled() || outputPath == null) {
+            return;
+        }
+        try {
+            tracer.write(outputPath);
+        } catch (IOException e) {
+            printError("unable to write the build trace: " + e.getMessage());
+        }
+    }
+
+    private void addDependencyJars(KubernetesDataHolder dataHolder, PackageCompilation compilation,
+                                   String executableFatJar) {
+        DependencyJarResolver.ResolvedJars resolvedJars = DependencyJarResolver.resolve(compilation);
 
         // Add dependency jar files to docker model.
-        dataHolder.getDockerModel().addDependencyJarPaths(
-                jarResolver.getJarFilePathsRequiredForExecution().stream()
-                        .map(JarLibrary::path)
-                        .collect(Collectors.toSet()));
-        jarResolver.getJarFilePathsRequiredForExecution()
-                .stream()
-                .filter(jarLibrary -> jarLibrary.path().getFileName().toString().endsWith(executableFatJar))
-                .findFirst()
-                .ifPresent(jarLibrary -> dataHolder.setJarPath(jarLibrary.path()));
+        dataHolder.getDockerModel().addDependencyJarPaths(new TreeSet<>(resolvedJars.getJarPaths()));
+        resolvedJars.getExecutableJar(executableFatJar).ifPresent(dataHolder::setJarPath);
     }
 }
@@ -58,9 +58,8 @@ public class ChoreoAnalysisTask implements AnalysisTask<CompilationAnalysisConte
         if (cloud == null || !cloud.equals("choreo")) {
             return;
         }
-        KubernetesContext.getInstance().setCurrentPackage(KubernetesUtils.getProjectID(currentPackage));
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
-        dataHolder.setPackageID(KubernetesUtils.getProjectID(currentPackage));
+        KubernetesDataHolder dataHolder =
+                KubernetesContext.getInstance().createDataHolder(KubernetesUtils.getProjectID(currentPackage));
 
         Optional<CloudToml> cloudToml = currentPackage.cloudToml();
         if (cloudToml.isPresent()) {
@@ -73,14 +72,14 @@ public class ChoreoAnalysisTask implements AnalysisTask<CompilationAnalysisConte
         List<Diagnostic> c2cDiagnostics = new ArrayList<>();
         ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(currentPackage.project(), c2cDiagnostics);
         List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
-        addServices(serviceList);
-        addDeployments();
+        addServices(dataHolder, serviceList);
+        addDeployments(dataHolder);
         for (Diagnostic diagnostic : c2cDiagnostics) {
             compilationAnalysisContext.reportDiagnostic(diagnostic);
         }
     }
 
-    private void addServices(List<ServiceInfo> serviceList) {
+    private void addServices(KubernetesDataHolder dataHolder, List<ServiceInfo> serviceList) {
         for (ServiceInfo choreoServiceInfo : serviceList) {
             ServiceModel serviceModel = new ServiceModel();
             if (KubernetesUtils.isBlank(serviceModel.getName())) {
@@ -97,11 +96,11 @@ public class ChoreoAnalysisTask implements AnalysisTask<CompilationAnalysisConte
             }
 
             serviceModel.setProtocol("http");
-            KubernetesContext.getInstance().getDataHolder().addServiceModel(serviceModel);
+            dataHolder.addServiceModel(serviceModel);
         }
     }
 
-    private void addDeployments() {
+    private void addDeployments(KubernetesDataHolder dataHolder) {
         DeploymentModel deploymentModel = new DeploymentModel();
 
         String dockerHost = System.getenv(DOCKER_HOST);
@@ -112,6 +111,6 @@ public class ChoreoAnalysisTask implements AnalysisTask<CompilationAnalysisConte
         if (!KubernetesUtils.isBlank(dockerCertPath)) {
             deploymentModel.setDockerCertPath(dockerCertPath);
         }
-        KubernetesContext.getInstance().getDataHolder().setDeploymentModel(deploymentModel);
+        dataHolder.setDeploymentModel(deploymentModel);
     }
 }
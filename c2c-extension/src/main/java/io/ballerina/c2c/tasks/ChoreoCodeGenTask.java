@@ -21,9 +21,6 @@ import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.utils.KubernetesUtils;
-import io.ballerina.projects.JBallerinaBackend;
-import io.ballerina.projects.JarLibrary;
-import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.CompilerLifecycleEventContext;
@@ -35,7 +32,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
 
 import static io.ballerina.c2c.KubernetesConstants.CHOREO;
 import static io.ballerina.c2c.KubernetesConstants.DOCKER;
@@ -50,7 +47,6 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
 public class ChoreoCodeGenTask implements CompilerLifecycleTask<CompilerLifecycleEventContext> {
 
     private static final Logger pluginLog = LoggerFactory.getLogger(C2CCodeGeneratedTask.class);
-    private final KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
 
     @Override
     public void perform(CompilerLifecycleEventContext compilerLifecycleEventContext) {
@@ -60,7 +56,8 @@ public class ChoreoCodeGenTask implements CompilerLifecycleTask<CompilerLifecycl
             return;
         }
         Optional<Path> executablePath = compilerLifecycleEventContext.getGeneratedArtifactPath();
-        final PackageID currentPackage = KubernetesContext.getInstance().getCurrentPackage();
+        final PackageID currentPackage = KubernetesUtils.getProjectID(compilerLifecycleEventContext.currentPackage());
+        final KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder(currentPackage);
         executablePath.ifPresent(path -> {
             String executableJarName = "$anon".equals(currentPackage.orgName.value) ? path.getFileName().toString() :
                     currentPackage.orgName.value + "-" + currentPackage.name.value +
@@ -68,14 +65,16 @@ public class ChoreoCodeGenTask implements CompilerLifecycleTask<CompilerLifecycl
             String outputName = "$anon".equals(currentPackage.orgName.value) ? extractJarName(path.getFileName()) :
                     currentPackage.name.value;
             dataHolder.setOutputName(outputName);
-            addDependencyJars(compilerLifecycleEventContext.compilation(), executableJarName);
+            addDependencyJars(dataHolder, compilerLifecycleEventContext.compilation(), executableJarName);
             dataHolder.setSourceRoot(executablePath.get().getParent().getParent().getParent());
-            codeGeneratedInternal(currentPackage, path, project.buildOptions().cloud());
+            codeGeneratedInternal(dataHolder, currentPackage, path, project.buildOptions().cloud());
         });
+        // Models are not needed once the artifacts are generated.
+        KubernetesContext.getInstance().removeDataHolder(currentPackage);
     }
 
-    public void codeGeneratedInternal(PackageID packageId, Path executableJarFile, String buildType) {
-        KubernetesContext.getInstance().setCurrentPackage(packageId);
+    public void codeGeneratedInternal(KubernetesDataHolder dataHolder, PackageID packageId, Path executableJarFile,
+                                      String buildType) {
         dataHolder.setPackageID(packageId);
         executableJarFile = executableJarFile.toAbsolutePath();
         if (null != executableJarFile.getParent() && Files.exists(executableJarFile.getParent())) {
@@ -97,7 +96,7 @@ public class ChoreoCodeGenTask implements CompilerLifecycleTask<CompilerLifecycl
             }
             dataHolder.setChoreoArtifactOutputPath(choreoOutputPath);
             dataHolder.setDockerArtifactOutputPath(dockerOutputPath);
-            ArtifactManager artifactManager = new ArtifactManager();
+            ArtifactManager artifactManager = new ArtifactManager(dataHolder);
             try {
                 KubernetesUtils.deleteDirectory(choreoOutputPath);
                 artifactManager.populateDeploymentModel();
@@ -118,19 +117,12 @@ public class ChoreoCodeGenTask implements CompilerLifecycleTask<CompilerLifecycl
         }
     }
 
-    private void addDependencyJars(PackageCompilation compilation, String executableFatJar) {
-        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
-        io.ballerina.projects.JarResolver jarResolver = jBallerinaBackend.jarResolver();
+    private void addDependencyJars(KubernetesDataHolder dataHolder, PackageCompilation compilation,
+                                   String executableFatJar) {
+        DependencyJarResolver.ResolvedJars resolvedJars = DependencyJarResolver.resolve(compilation);
 
         // Add dependency jar files to docker model.
-        dataHolder.getDockerModel().addDependencyJarPaths(
-                jarResolver.getJarFilePathsRequiredForExecution().stream()
-                        .map(JarLibrary::path)
-                        .collect(Collectors.toSet()));
-        jarResolver.getJarFilePathsRequiredForExecution()
-                .stream()
-                .filter(jarLibrary -> jarLibrary.path().getFileName().toString().endsWith(executableFatJar))
-                .findFirst()
-                .ifPresent(jarLibrary -> dataHolder.setJarPath(jarLibrary.path()));
+        dataHolder.getDockerModel().addDependencyJarPaths(new TreeSet<>(resolvedJars.getJarPaths()));
+        resolvedJars.getExecutableJar(executableFatJar).ifPresent(dataHolder::setJarPath);
     }
 }
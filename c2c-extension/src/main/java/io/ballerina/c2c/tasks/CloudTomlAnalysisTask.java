@@ -17,26 +17,39 @@
  */
 package io.ballerina.c2c.tasks;
 
+import io.ballerina.c2c.CloudTomlProfiles;
 import io.ballerina.c2c.diagnostics.TomlDiagnosticChecker;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.BuildTracer;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.TomlDocument;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.CompilationAnalysisContext;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.validator.TomlValidator;
 import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.Location;
 import org.apache.commons.io.IOUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 
 /**
  * An {@code AnalysisTask} that is triggered for Cloud.toml validation.
@@ -45,6 +58,13 @@ import java.util.Optional;
  */
 public class CloudTomlAnalysisTask implements AnalysisTask<CompilationAnalysisContext> {
 
+    private static Schema schema;
+
+    // Schema diagnostics of the last validated Cloud.toml content of each project. The language server compiles
+    // the project on every edit of a source file, which leaves Cloud.toml untouched most of the time.
+    private static final Map<Project, SchemaValidation> SCHEMA_VALIDATIONS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     @Override
     public void perform(CompilationAnalysisContext compilationAnalysisContext) {
         final Project project = compilationAnalysisContext.currentPackage().project();
@@ -57,19 +77,77 @@ public class CloudTomlAnalysisTask implements AnalysisTask<CompilationAnalysisCo
         if (cloudToml.isEmpty()) {
             return;
         }
+        BuildTracer tracer = BuildTracer.getTracer(KubernetesUtils.getProjectID(project.currentPackage()));
         Toml toml = TomlHelper.createK8sTomlFromProject(cloudToml.get().tomlDocument());
-        TomlValidator validator = new TomlValidator(Schema.from(getValidationSchema()));
-        validator.validate(toml);
-        List<Diagnostic> diagnostics = toml.diagnostics();
+        List<Diagnostic> diagnostics;
+        try (BuildTracer.Span ignored = tracer.span("Cloud.toml schema validation")) {
+            diagnostics = validateSchema(project, cloudToml.get().tomlDocument(), toml);
+        }
 
-        diagnostics.addAll(tomlDiagnosticChecker.validateTomlWithSource(toml));
+        try (BuildTracer.Span ignored = tracer.span("Cloud.toml source validation")) {
+            diagnostics.addAll(tomlDiagnosticChecker.validateTomlWithSource(toml));
+        }
         diagnostics.forEach(compilationAnalysisContext::reportDiagnostic);
     }
 
-    private String getValidationSchema() {
+    private List<Diagnostic> validateSchema(Project project, TomlDocument cloudToml, Toml toml) {
+        String content = cloudToml.syntaxTree().toSourceCode();
+        SchemaValidation previous = SCHEMA_VALIDATIONS.get(project);
+        if (previous != null && previous.content.equals(content)) {
+            return new ArrayList<>(previous.diagnostics);
+        }
+        TomlValidator validator = new TomlValidator(getSchema());
+        validator.validate(toml);
+        List<Diagnostic> diagnostics = new ArrayList<>(toml.diagnostics());
+        diagnostics.addAll(validateProfiles(cloudToml, diagnostics));
+        SCHEMA_VALIDATIONS.put(project, new SchemaValidation(content, new ArrayList<>(diagnostics)));
+        return diagnostics;
+    }
+
+    /**
+     * Validate the names of the profiles and the Cloud.toml of each profile against the schema.
+     *
+     * @param cloudToml       Cloud.toml of the package
+     * @param baseDiagnostics schema diagnostics of the base configuration
+     * @return diagnostics of the profiles
+     */
+    private List<Diagnostic> validateProfiles(TomlDocument cloudToml, List<Diagnostic> baseDiagnostics) {
+        List<Diagnostic> diagnostics = CloudTomlProfiles.validateNames(cloudToml);
+        Map<String, Toml> profiles = CloudTomlProfiles.resolve(cloudToml);
+        if (profiles.isEmpty()) {
+            return diagnostics;
+        }
+        Set<String> baseMessages = baseDiagnostics.stream().map(Diagnostic::message).collect(Collectors.toSet());
+        Map<String, Location> locations = CloudTomlProfiles.getLocations(cloudToml);
+        for (Map.Entry<String, Toml> profile : profiles.entrySet()) {
+            Toml profileToml = profile.getValue();
+            new TomlValidator(getSchema()).validate(profileToml);
+            for (Diagnostic diagnostic : profileToml.diagnostics()) {
+                // The base configuration is part of every profile, so its diagnostics are only reported once.
+                if (baseMessages.contains(diagnostic.message())) {
+                    continue;
+                }
+                DiagnosticInfo diagnosticInfo = new DiagnosticInfo(C2CDiagnosticCodes.INVALID_PROFILE.getCode(),
+                        String.format(C2CDiagnosticCodes.INVALID_PROFILE.getMessage(), profile.getKey(),
+                                diagnostic.message()), diagnostic.diagnosticInfo().severity());
+                diagnostics.add(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                        locations.get(profile.getKey())));
+            }
+        }
+        return diagnostics;
+    }
+
+    private static synchronized Schema getSchema() {
+        if (schema == null) {
+            schema = Schema.from(getValidationSchema());
+        }
+        return schema;
+    }
+
+    private static String getValidationSchema() {
         try {
             InputStream inputStream =
-                    getClass().getClassLoader().getResourceAsStream("c2c-schema.json");
+                    CloudTomlAnalysisTask.class.getClassLoader().getResourceAsStream("c2c-schema.json");
             if (inputStream == null) {
                 throw new MissingResourceException("Schema Not found", "c2c-schema.json", "");
             }
@@ -80,4 +158,18 @@ public class CloudTomlAnalysisTask implements AnalysisTask<CompilationAnalysisCo
             throw new MissingResourceException("Schema Not found", "c2c-schema.json", "");
         }
     }
+
+    /**
+     * Schema diagnostics of a Cloud.toml content.
+     */
+    private static class SchemaValidation {
+
+        private final String content;
+        private final List<Diagnostic> diagnostics;
+
+        SchemaValidation(String content, List<Diagnostic> diagnostics) {
+            this.content = content;
+            this.diagnostics = diagnostics;
+        }
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tasks;
+
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JarLibrary;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.PackageCompilation;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+/**
+ * Resolves the jars required to execute a compiled package once per compilation.
+ *
+ * @since 1.0.0
+ */
+public class DependencyJarResolver {
+
+    private static final Map<PackageCompilation, ResolvedJars> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DependencyJarResolver() {
+    }
+
+    /**
+     * Get the jars required for execution of the given compilation.
+     * <p>
+     * {@link JBallerinaBackend#from(PackageCompilation, JvmTarget)} returns the backend already built for the
+     * compilation, so the jar resolver is reused and the jar list is only walked once.
+     *
+     * @param compilation package compilation
+     * @return resolved jars
+     */
+    public static ResolvedJars resolve(PackageCompilation compilation) {
+        return CACHE.computeIfAbsent(compilation, DependencyJarResolver::collect);
+    }
+
+    private static ResolvedJars collect(PackageCompilation compilation) {
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        SortedSet<Path> jarPaths = new TreeSet<>();
+        for (JarLibrary jarLibrary : jBallerinaBackend.jarResolver().getJarFilePathsRequiredForExecution()) {
+            jarPaths.add(jarLibrary.path());
+        }
+        return new ResolvedJars(Collections.unmodifiableSortedSet(jarPaths));
+    }
+
+    /**
+     * Jars resolved for a compilation.
+     */
+    public static class ResolvedJars {
+
+        private final SortedSet<Path> jarPaths;
+
+        private ResolvedJars(SortedSet<Path> jarPaths) {
+            this.jarPaths = jarPaths;
+        }
+
+        public SortedSet<Path> getJarPaths() {
+            return jarPaths;
+        }
+
+        public Optional<Path> getExecutableJar(String executableFatJar) {
+            return jarPaths.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(executableFatJar))
+                    .findFirst();
+        }
+    }
+}
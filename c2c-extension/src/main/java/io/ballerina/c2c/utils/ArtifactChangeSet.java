@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.ballerina.c2c.handlers.HelmChartHandler;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Kubernetes resources of an artifact directory, identified by kind and name along with a hash of their content.
+ * <p>
+ * Comparing the resources of a build with the ones of the previous build gives {@code changes/changed.yaml} with
+ * the added and changed resources and {@code changes/pruned.txt} with the removed ones, so that only the difference
+ * is applied to the cluster. Artifacts of the profiles, which are in the sub directories, are compared separately.
+ * <p>
+ * The baseline is the previous build in the same output directory, not what was applied to the cluster. If a build
+ * is not applied, its changes are not part of the change set of the next build, and the full artifacts should be
+ * applied instead.
+ *
+ * @since 2.0.0
+ */
+public class ArtifactChangeSet {
+
+    public static final String CHANGES = "changes";
+    public static final String CHANGED_FILE = "changed.yaml";
+    public static final String PRUNED_FILE = "pruned.txt";
+
+    // Resources of each directory relative to the artifact directory, the artifact directory itself is "".
+    private final Map<String, Map<String, Resource>> directories;
+
+    private ArtifactChangeSet(Map<String, Map<String, Resource>> directories) {
+        this.directories = directories;
+    }
+
+    /**
+     * Get an empty change set, used when there is no previous build to compare with.
+     *
+     * @return empty change set
+     */
+    public static ArtifactChangeSet empty() {
+        return new ArtifactChangeSet(Collections.emptyMap());
+    }
+
+    /**
+     * Read the resources of an artifact directory and of its profile directories.
+     *
+     * @param outputDir artifact directory
+     * @return resources of the directory
+     * @throws IOException if an error occurs while reading the artifacts
+     */
+    public static ArtifactChangeSet read(Path outputDir) throws IOException {
+        Map<String, Map<String, Resource>> directories = new LinkedHashMap<>();
+        if (!Files.isDirectory(outputDir)) {
+            return new ArtifactChangeSet(directories);
+        }
+        directories.put("", readResources(outputDir));
+        List<Path> subDirectories;
+        try (Stream<Path> files = Files.list(outputDir)) {
+            subDirectories = files.filter(Files::isDirectory)
+                    .filter(dir -> !dir.getFileName().toString().equals(CHANGES) &&
+                            !dir.getFileName().toString().equals(HelmChartHandler.HELM))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path subDirectory : subDirectories) {
+            directories.put(subDirectory.getFileName().toString(), readResources(subDirectory));
+        }
+        return new ArtifactChangeSet(directories);
+    }
+
+    private static Map<String, Resource> readResources(Path dir) throws IOException {
+        Map<String, Resource> resources = new LinkedHashMap<>();
+        for (Map<String, Object> document : KubernetesUtils.readYamlDocuments(dir)) {
+            Object metadata = document.get("metadata");
+            Object name = metadata instanceof Map ? ((Map<?, ?>) metadata).get("name") : null;
+            String key = document.get("kind") + "/" + name;
+            // Keys are sorted so that the hash does not depend on the order the fields are written.
+            byte[] canonical = Serialization.jsonMapper().writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(document);
+            resources.put(key, new Resource(KubernetesUtils.sha256(canonical), document));
+        }
+        return resources;
+    }
+
+    /**
+     * Write the resources added or changed since the previous build and the resources removed since then.
+     *
+     * @param previous  resources of the previous build
+     * @param outputDir artifact directory
+     * @throws IOException if an error occurs while writing the change set
+     */
+    public void write(ArtifactChangeSet previous, Path outputDir) throws IOException {
+        for (Map.Entry<String, Map<String, Resource>> directory : directories.entrySet()) {
+            Map<String, Resource> previousResources =
+                    previous.directories.getOrDefault(directory.getKey(), Collections.emptyMap());
+            StringBuilder changed = new StringBuilder();
+            for (Map.Entry<String, Resource> resource : directory.getValue().entrySet()) {
+                Resource previousResource = previousResources.get(resource.getKey());
+                if (previousResource == null || !previousResource.hash.equals(resource.getValue().hash)) {
+                    changed.append(Serialization.asYaml(resource.getValue().content));
+                }
+            }
+            StringBuilder pruned = new StringBuilder();
+            for (String key : previousResources.keySet()) {
+                if (!directory.getValue().containsKey(key)) {
+                    pruned.append(key).append("\n");
+                }
+            }
+            Path changesDir = outputDir.resolve(directory.getKey()).resolve(CHANGES);
+            Files.createDirectories(changesDir);
+            Files.write(changesDir.resolve(CHANGED_FILE), changed.toString().getBytes(StandardCharsets.UTF_8));
+            Files.write(changesDir.resolve(PRUNED_FILE), pruned.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * A kubernetes resource along with the hash of its content.
+     */
+    private static class Resource {
+
+        private final String hash;
+        private final Map<String, Object> content;
+
+        Resource(String hash, Map<String, Object> content) {
+            this.hash = hash;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.ballerinalang.model.elements.PackageID;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.c2c.KubernetesConstants.C2C_TRACE;
+
+/**
+ * Records the time spent in each phase of a c2c build.
+ * <p>
+ * Tracing is enabled with the {@code BAL_C2C_TRACE=true} environment variable. The spans of a package are written
+ * as a Chrome trace ({@code c2c-trace.json}, viewable in chrome://tracing or Perfetto) and a summary table
+ * ({@code c2c-trace.txt}). When tracing is disabled a shared no-op span is returned and nothing is recorded.
+ *
+ * @since 2.0.0
+ */
+public class BuildTracer {
+
+    public static final String TRACE_FILE = "c2c-trace.json";
+    public static final String SUMMARY_FILE = "c2c-trace.txt";
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getenv(C2C_TRACE));
+    private static final BuildTracer DISABLED = new BuildTracer(false);
+    private static final Map<PackageID, BuildTracer> TRACERS = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final Span noopSpan;
+    private final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+
+    BuildTracer(boolean enabled) {
+        this.enabled = enabled;
+        this.noopSpan = new Span(this, null, 0);
+    }
+
+    /**
+     * Get the tracer of a package.
+     *
+     * @param packageID package id
+     * @return tracer of the package, or a disabled tracer if tracing is not enabled
+     */
+    public static BuildTracer getTracer(PackageID packageID) {
+        if (!ENABLED || packageID == null) {
+            return DISABLED;
+        }
+        return TRACERS.computeIfAbsent(packageID, id -> new BuildTracer(true));
+    }
+
+    public static void removeTracer(PackageID packageID) {
+        if (packageID != null) {
+            TRACERS.remove(packageID);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start a span, to be closed when the phase completes.
+     *
+     * @param name name of the phase
+     * @return started span
+     */
+    public Span span(String name) {
+        if (!enabled) {
+            return noopSpan;
+        }
+        return new Span(this, name, System.nanoTime());
+    }
+
+    /**
+     * Write the recorded spans as a Chrome trace and a summary table.
+     *
+     * @param outputDir directory to write the trace files to
+     * @throws IOException if the files cannot be written
+     */
+    public void write(Path outputDir) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        List<Event> recorded;
+        synchronized (events) {
+            recorded = new ArrayList<>(events);
+        }
+        long origin = recorded.stream().mapToLong(event -> event.start).min().orElse(0);
+        List<Map<String, Object>> traceEvents = new ArrayList<>();
+        Map<String, long[]> summary = new LinkedHashMap<>();
+        for (Event event : recorded) {
+            Map<String, Object> traceEvent = new LinkedHashMap<>();
+            traceEvent.put("name", event.name);
+            traceEvent.put("cat", "c2c");
+            traceEvent.put("ph", "X");
+            traceEvent.put("ts", (event.start - origin) / 1000);
+            traceEvent.put("dur", event.duration / 1000);
+            traceEvent.put("pid", 1);
+            traceEvent.put("tid", event.threadId);
+            traceEvents.add(traceEvent);
+            long[] total = summary.computeIfAbsent(event.name, name -> new long[2]);
+            total[0]++;
+            total[1] += event.duration;
+        }
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", traceEvents);
+        trace.put("displayTimeUnit", "ms");
+        Files.createDirectories(outputDir);
+        Files.write(outputDir.resolve(TRACE_FILE), Serialization.asJson(trace).getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder table = new StringBuilder(String.format("%-40s %8s %12s%n", "phase", "count", "total (ms)"));
+        summary.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1])
+                        .reversed())
+                .forEach(entry -> table.append(String.format("%-40s %8d %12.2f%n", entry.getKey(),
+                        entry.getValue()[0], entry.getValue()[1] / 1_000_000.0)));
+        Files.write(outputDir.resolve(SUMMARY_FILE), table.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void record(String name, long start, long duration) {
+        events.add(new Event(name, start, duration, Thread.currentThread().getId()));
+    }
+
+    /**
+     * A timed phase of the build.
+     */
+    public static class Span implements AutoCloseable {
+
+        private final BuildTracer tracer;
+        private final String name;
+        private final long start;
+
+        private Span(BuildTracer tracer, String name, long start) {
+            this.tracer = tracer;
+            this.name = name;
+            this.start = start;
+        }
+
+        @Override
+        public void close() {
+            if (name != null) {
+                tracer.record(name, start, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static class Event {
+
+        private final String name;
+        private final long start;
+        private final long duration;
+        private final long threadId;
+
+        private Event(String name, long start, long duration, long threadId) {
+            this.name = name;
+            this.start = start;
+            this.duration = duration;
+            this.threadId = threadId;
+        }
+    }
+}
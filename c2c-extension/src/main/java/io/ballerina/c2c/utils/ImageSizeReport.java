@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Breakdown of the build context files a generated Dockerfile copies on top of its base image.
+ * <p>
+ * Each {@code COPY} or {@code ADD} instruction is listed by its position in the Dockerfile, sized from the files it
+ * copies out of the build context. The sizes are not read from the layers of a built image, and the base image is
+ * not included as it is not necessarily available locally.
+ *
+ * @since 2.0.0
+ */
+public class ImageSizeReport {
+
+    public static final String REPORT_FILE = "image-report.txt";
+    private static final String DOCKERFILE = "Dockerfile";
+    private static final int SUMMARY_LIMIT = 5;
+
+    private final List<Instruction> instructions;
+    private final Map<Path, Long> jars;
+
+    private ImageSizeReport(List<Instruction> instructions, Map<Path, Long> jars) {
+        this.instructions = instructions;
+        this.jars = jars;
+    }
+
+    /**
+     * Create the report of a docker build context.
+     *
+     * @param contextDir     directory with the generated Dockerfile
+     * @param dependencyJars dependency jars of the image
+     * @return build context size report
+     * @throws IOException if the Dockerfile or the copied files cannot be read
+     */
+    public static ImageSizeReport from(Path contextDir, Collection<Path> dependencyJars) throws IOException {
+        List<Instruction> instructions = new ArrayList<>();
+        List<String> lines = Files.readAllLines(contextDir.resolve(DOCKERFILE), StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String instruction = lines.get(i).trim();
+            String[] tokens = instruction.split("\\s+");
+            if (tokens.length < 3 || !("COPY".equalsIgnoreCase(tokens[0]) || "ADD".equalsIgnoreCase(tokens[0]))) {
+                continue;
+            }
+            long size = 0;
+            // The last token is the destination, flags such as --chown do not refer to files.
+            for (int j = 1; j < tokens.length - 1; j++) {
+                if (!tokens[j].startsWith("--")) {
+                    size += sizeOf(contextDir.resolve(tokens[j]));
+                }
+            }
+            // Identical instructions are separate layers, so they are kept apart by their line.
+            instructions.add(new Instruction(i + 1, instruction, size));
+        }
+        Map<Path, Long> jars = new LinkedHashMap<>();
+        for (Path jar : dependencyJars) {
+            if (Files.isRegularFile(jar)) {
+                jars.put(jar, Files.size(jar));
+            }
+        }
+        return new ImageSizeReport(instructions, jars);
+    }
+
+    public long getTotalSize() {
+        return instructions.stream().mapToLong(Instruction::getSize).sum();
+    }
+
+    public List<Instruction> getInstructions() {
+        return instructions;
+    }
+
+    /**
+     * Get the largest dependency jars, largest first.
+     *
+     * @param limit maximum number of jars
+     * @return jar paths against their sizes
+     */
+    public Map<Path, Long> getLargestJars(int limit) {
+        return jars.entrySet().stream()
+                .sorted(Map.Entry.<Path, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Format the report. The summary only lists the largest instructions and jars.
+     *
+     * @param summary whether to limit the instructions and jars listed
+     * @return formatted report
+     */
+    public String format(boolean summary) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("build context copied into the image (excluding base image): %s%n",
+                formatSize(getTotalSize())));
+        report.append(String.format("build context by Dockerfile line:%n"));
+        instructions.stream()
+                .sorted(Comparator.comparingLong(Instruction::getSize).reversed()
+                        .thenComparingInt(Instruction::getLine))
+                .limit(summary ? SUMMARY_LIMIT : instructions.size())
+                .forEach(instruction -> report.append(String.format("  %12s  %4d  %s%n",
+                        formatSize(instruction.getSize()), instruction.getLine(), instruction.getInstruction())));
+        report.append(String.format("largest jars:%n"));
+        getLargestJars(summary ? SUMMARY_LIMIT : jars.size())
+                .forEach((jar, size) -> report.append(String.format("  %12s  %s%n", formatSize(size),
+                        jar.getFileName())));
+        return report.toString();
+    }
+
+    public static String formatSize(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KiB", "MiB", "GiB"};
+        double size = bytes;
+        int unit = -1;
+        while (size >= 1024 && unit < units.length - 1) {
+            size /= 1024;
+            unit++;
+        }
+        return String.format(Locale.ROOT, "%.2f %s", size, units[unit]);
+    }
+
+    /**
+     * A {@code COPY} or {@code ADD} instruction of the Dockerfile with the size of the files it copies.
+     */
+    public static class Instruction {
+
+        private final int line;
+        private final String instruction;
+        private final long size;
+
+        Instruction(int line, String instruction, long size) {
+            this.line = line;
+            this.instruction = instruction;
+            this.size = size;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getInstruction() {
+            return instruction;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    private static long sizeOf(Path path) throws IOException {
+        String fileName = String.valueOf(path.getFileName());
+        if ((fileName.contains("*") || fileName.contains("?")) && path.getParent() != null &&
+                Files.isDirectory(path.getParent())) {
+            long size = 0;
+            try (DirectoryStream<Path> matches = Files.newDirectoryStream(path.getParent(), fileName)) {
+                for (Path match : matches) {
+                    size += sizeOf(match);
+                }
+            }
+            return size;
+        }
+        if (Files.isRegularFile(path)) {
+            return Files.size(path);
+        }
+        if (!Files.isDirectory(path)) {
+            // Remote sources are not resolved.
+            return 0;
+        }
+        long size = 0;
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                size += Files.size(file);
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Machine wide, content addressed store of dependency jars.
+ * <p>
+ * Jars are stored once under {@code <ballerina-home>/c2c/jar-cache/sha256/<digest>.jar} and the copies staged in
+ * docker build contexts are replaced with hard links to the stored jar. An index maps source jar paths to digests,
+ * so unchanged jars are not hashed again.
+ * <p>
+ * A stored jar is the first staged copy itself, linked into the cache, so storing a jar does not copy it again.
+ * Stored jars are read-only and are verified against their digest before they are reused. A stored jar which is no
+ * longer linked from any build context is removed by {@link #prune()}.
+ *
+ * @since 2.0.0
+ */
+public class JarCache {
+
+    private static final String HOME_DIR_ENV = "BALLERINA_HOME_DIR";
+    private static final String HOME_DIR_NAME = ".ballerina";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String INDEX_FILE = "index.properties";
+    private static final String LOCK_FILE = "index.lock";
+    // File locks are held by the JVM, so builds running in the same JVM are serialized here instead.
+    private static final Object FLUSH_LOCK = new Object();
+
+    private final Path blobDir;
+    private final Path indexFile;
+    private final Path lockFile;
+    private final Map<String, String> pendingIndex = new TreeMap<>();
+    private final Set<String> verifiedDigests = new HashSet<>();
+    private Properties index;
+
+    public JarCache(Path cacheDir) {
+        this.blobDir = cacheDir.resolve("sha256");
+        this.indexFile = cacheDir.resolve(INDEX_FILE);
+        this.lockFile = cacheDir.resolve(LOCK_FILE);
+    }
+
+    /**
+     * Get the cache located in the Ballerina user home.
+     *
+     * @return jar cache
+     */
+    public static JarCache getDefault() {
+        String homeDir = System.getenv(HOME_DIR_ENV);
+        Path ballerinaHome = homeDir == null || homeDir.isEmpty() ?
+                Paths.get(System.getProperty("user.home"), HOME_DIR_NAME) : Paths.get(homeDir);
+        return new JarCache(ballerinaHome.resolve("c2c").resolve("jar-cache"));
+    }
+
+    /**
+     * Replace a jar staged in a build context with a hard link to the cached copy.
+     * <p>
+     * The staged jar is left untouched if the file system does not support hard links between the cache and the
+     * build context.
+     *
+     * @param stagedJar jar copied into the build context
+     * @param sourceJar jar the staged copy was made from, used as the index key. Pass {@code null} for temporary
+     *                  jars, which are hashed without being indexed.
+     * @return true if the staged jar is now linked to the cache
+     * @throws IOException if the jar cannot be hashed or stored
+     */
+    public boolean link(Path stagedJar, Path sourceJar) throws IOException {
+        if (!Files.isRegularFile(stagedJar) || Files.size(stagedJar) == 0) {
+            return false;
+        }
+        String digest = sourceJar == null ? digest(stagedJar) : getDigest(sourceJar, stagedJar);
+        Path cachedJar = blobDir.resolve(digest + ".jar");
+        if (Files.exists(cachedJar) && Files.isSameFile(cachedJar, stagedJar)) {
+            return true;
+        }
+        if (!isValid(cachedJar, digest)) {
+            return store(stagedJar, cachedJar, digest);
+        }
+        Path link = stagedJar.resolveSibling(stagedJar.getFileName() + ".link");
+        try {
+            Files.deleteIfExists(link);
+            Files.createLink(link, cachedJar);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Different file stores, keep the staged copy.
+            Files.deleteIfExists(link);
+            return false;
+        }
+        Files.move(link, stagedJar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    /**
+     * Persist digests computed since the last flush into the index.
+     *
+     * @throws IOException if the index cannot be written
+     */
+    public void flush() throws IOException {
+        if (pendingIndex.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(indexFile.getParent());
+        synchronized (FLUSH_LOCK) {
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                // Merge with entries written by concurrent builds.
+                Properties current = readIndex();
+                current.putAll(pendingIndex);
+                Path tempIndex = Files.createTempFile(indexFile.getParent(), INDEX_FILE, ".tmp");
+                try (OutputStream outputStream = Files.newOutputStream(tempIndex)) {
+                    current.store(outputStream, null);
+                }
+                Files.move(tempIndex, indexFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                index = current;
+                pendingIndex.clear();
+            }
+        }
+    }
+
+    private String getDigest(Path sourceJar, Path stagedJar) throws IOException {
+        if (index == null) {
+            index = readIndex();
+        }
+        String key = sourceJar.toAbsolutePath().normalize().toString();
+        String fingerprint = Files.size(sourceJar) + ":" + Files.getLastModifiedTime(sourceJar).toMillis();
+        String entry = index.getProperty(key);
+        if (entry != null && entry.startsWith(fingerprint + ":") &&
+                Files.exists(blobDir.resolve(entry.substring(fingerprint.length() + 1) + ".jar"))) {
+            return entry.substring(fingerprint.length() + 1);
+        }
+        String digest = digest(stagedJar);
+        index.setProperty(key, fingerprint + ":" + digest);
+        pendingIndex.put(key, fingerprint + ":" + digest);
+        return digest;
+    }
+
+    /**
+     * Remove the stored jars which are no longer linked from a build context. Nothing is removed if the file system
+     * does not report the link count of a file.
+     *
+     * @throws IOException if the stored jars cannot be listed or removed
+     */
+    public void prune() throws IOException {
+        if (!Files.isDirectory(blobDir) || !supportsLinkCount(blobDir)) {
+            return;
+        }
+        List<Path> cachedJars;
+        try (Stream<Path> files = Files.list(blobDir)) {
+            cachedJars = files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .collect(Collectors.toList());
+        }
+        for (Path cachedJar : cachedJars) {
+            Object linkCount;
+            try {
+                linkCount = Files.getAttribute(cachedJar, "unix:nlink");
+            } catch (NoSuchFileException e) {
+                continue;
+            }
+            if (linkCount instanceof Integer && (Integer) linkCount <= 1) {
+                Files.deleteIfExists(cachedJar);
+            }
+        }
+    }
+
+    /**
+     * Check whether the file store reports the link count of a file, which is only available through the unix
+     * attribute view, e.g. not on Windows.
+     *
+     * @param dir directory in the file store
+     * @return true if the link count can be read
+     * @throws IOException if the file store cannot be read
+     */
+    private static boolean supportsLinkCount(Path dir) throws IOException {
+        return Files.getFileStore(dir).supportsFileAttributeView("unix");
+    }
+
+    /**
+     * Check whether a stored jar exists and still has the content of its digest.
+     *
+     * @param cachedJar stored jar
+     * @param digest    digest of the jar
+     * @return true if the stored jar can be reused
+     * @throws IOException if the stored jar cannot be read
+     */
+    private boolean isValid(Path cachedJar, String digest) throws IOException {
+        if (!Files.exists(cachedJar)) {
+            return false;
+        }
+        if (verifiedDigests.contains(digest) || digest.equals(digest(cachedJar))) {
+            verifiedDigests.add(digest);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Store a staged jar by linking it into the cache, replacing a missing or corrupted stored jar.
+     *
+     * @param stagedJar jar copied into the build context
+     * @param cachedJar path of the stored jar
+     * @param digest    digest of the jar
+     * @return true if the staged jar is now linked to the cache
+     * @throws IOException if the jar cannot be stored
+     */
+    private boolean store(Path stagedJar, Path cachedJar, String digest) throws IOException {
+        Files.createDirectories(blobDir);
+        Path tempJar = blobDir.resolve(digest + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createLink(tempJar, stagedJar);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Different file stores, keep the staged copy.
+            return false;
+        }
+        try {
+            setReadOnly(tempJar);
+            Files.move(tempJar, cachedJar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempJar);
+        }
+        verifiedDigests.add(digest);
+        return true;
+    }
+
+    private static void setReadOnly(Path jar) throws IOException {
+        // Build contexts share the stored jar, writing to a linked copy would change every other copy.
+        if (Files.getFileStore(jar).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(jar, PosixFilePermissions.fromString("r--r--r--"));
+        }
+    }
+
+    private Properties readIndex() throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(indexFile)) {
+            try (InputStream inputStream = Files.newInputStream(indexFile)) {
+                properties.load(inputStream);
+            }
+        }
+        return properties;
+    }
+
+    private static String digest(Path jar) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(jar)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Rewrites jar files and the build context so that identical contents give identical bytes, hence identical image
+ * layers.
+ *
+ * @since 2.0.0
+ */
+public class JarNormalizer {
+
+    // DOS dates cannot represent times before 1980.
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+    public static final FileTime FIXED_FILE_TIME = FileTime.from(FIXED_TIME.toInstant(ZoneOffset.UTC));
+    private static final String MANIFEST_DIR = "META-INF/";
+    private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+    private JarNormalizer() {
+    }
+
+    /**
+     * Write a copy of the jar with sorted entries, fixed entry times and no extra fields.
+     *
+     * @param jar       jar to normalize
+     * @param outputDir directory to write the normalized jar to
+     * @return path of the normalized jar, which has the same file name as the original
+     * @throws IOException if the jar cannot be read or written
+     */
+    public static Path normalize(Path jar, Path outputDir) throws IOException {
+        Path normalizedJar = outputDir.resolve(String.valueOf(jar.getFileName()));
+        try (ZipFile zipFile = new ZipFile(jar.toFile());
+             OutputStream outputStream = Files.newOutputStream(normalizedJar);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            List<ZipEntry> entries = new ArrayList<>();
+            Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+            while (zipEntries.hasMoreElements()) {
+                entries.add(zipEntries.nextElement());
+            }
+            entries.sort(Comparator.comparing(JarNormalizer::getSortKey));
+            for (ZipEntry entry : entries) {
+                ZipEntry normalizedEntry = new ZipEntry(entry.getName());
+                normalizedEntry.setTimeLocal(FIXED_TIME);
+                zipOutputStream.putNextEntry(normalizedEntry);
+                if (!entry.isDirectory()) {
+                    try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                        inputStream.transferTo(zipOutputStream);
+                    }
+                }
+                zipOutputStream.closeEntry();
+            }
+        }
+        Files.setLastModifiedTime(normalizedJar, FIXED_FILE_TIME);
+        return normalizedJar;
+    }
+
+    /**
+     * Set the modification time of every file in the directory, as image layers record it.
+     *
+     * @param directory directory to update
+     * @throws IOException if the times cannot be updated
+     */
+    public static void setFixedTimes(Path directory) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.collect(Collectors.toList());
+        }
+        // Children first, so that updating a file does not touch the time of its directory again.
+        Collections.reverse(paths);
+        for (Path path : paths) {
+            Files.setLastModifiedTime(path, FIXED_FILE_TIME);
+        }
+    }
+
+    /**
+     * Sort each run of consecutive {@code COPY} instructions with the same destination by their sources, so that the
+     * layer order does not depend on the order the dependency jars were collected in.
+     *
+     * @param dockerfile lines of the Dockerfile
+     * @return lines of the Dockerfile with the copy instructions sorted
+     */
+    public static List<String> sortCopyInstructions(List<String> dockerfile) {
+        List<String> sorted = new ArrayList<>(dockerfile.size());
+        List<String> run = new ArrayList<>();
+        String runDestination = null;
+        for (String line : dockerfile) {
+            String destination = getCopyDestination(line);
+            if (destination == null || !destination.equals(runDestination)) {
+                run.sort(Comparator.naturalOrder());
+                sorted.addAll(run);
+                run.clear();
+            }
+            runDestination = destination;
+            if (destination == null) {
+                sorted.add(line);
+            } else {
+                run.add(line);
+            }
+        }
+        run.sort(Comparator.naturalOrder());
+        sorted.addAll(run);
+        return sorted;
+    }
+
+    private static String getCopyDestination(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        // Continued instructions are kept as they are.
+        if (tokens.length < 3 || !"COPY".equalsIgnoreCase(tokens[0]) || line.trim().endsWith("\\")) {
+            return null;
+        }
+        return tokens[tokens.length - 1];
+    }
+
+    private static String getSortKey(ZipEntry entry) {
+        // The manifest has to stay first for JarInputStream to find it.
+        String name = entry.getName();
+        if (MANIFEST_DIR.equals(name)) {
+            return "0";
+        }
+        if (MANIFEST.equals(name)) {
+            return "1";
+        }
+        return "2" + name;
+    }
+}
@@ -22,7 +22,6 @@ import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.JobModel;
-import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.KubernetesModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
@@ -33,6 +32,8 @@ import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.CopyFileModel;
@@ -46,11 +47,18 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.EXECUTABLE_JAR;
@@ -65,29 +73,32 @@ public class KubernetesUtils {
 
     private static final PrintStream ERR = System.err;
     private static final PrintStream OUT = System.out;
+    private static final String YAML_DOCUMENT_SEPARATOR = "---";
 
     /**
      * Write content to a File. Create the required directories if they don't not exists.
      *
+     * @param dataHolder     data holder of the package
      * @param context        context of the file
      * @param outputFileName target file path
      * @throws IOException If an error occurs when writing to a file
      */
-    public static void writeToFile(String context, String outputFileName) throws IOException {
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
-        writeToFile(dataHolder.getK8sArtifactOutputPath(), context, outputFileName);
+    public static void writeToFile(KubernetesDataHolder dataHolder, String context, String outputFileName)
+            throws IOException {
+        writeToFile(dataHolder, dataHolder.getK8sArtifactOutputPath(), context, outputFileName);
     }
 
     /**
      * Write content to a File. Create the required directories if they don't not exists.
      *
+     * @param dataHolder Data holder of the package.
      * @param outputDir  Artifact output path.
      * @param context    Context of the file
      * @param fileSuffix Suffix for artifact.
      * @throws IOException If an error occurs when writing to a file
      */
-    public static void writeToFile(Path outputDir, String context, String fileSuffix) throws IOException {
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+    public static void writeToFile(KubernetesDataHolder dataHolder, Path outputDir, String context,
+                                   String fileSuffix) throws IOException {
         final String outputName = dataHolder.getOutputName();
         Path artifactFileName = outputDir.resolve(outputName + fileSuffix);
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
@@ -231,8 +242,8 @@ public class KubernetesUtils {
                 new Name(currentPackage.packageVersion().value().toString()));
     }
 
-    public static void resolveDockerToml(KubernetesModel model) throws KubernetesPluginException {
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+    public static void resolveDockerToml(KubernetesDataHolder dataHolder, KubernetesModel model)
+            throws KubernetesPluginException {
         final String containerImage = "container.image";
         Toml toml = dataHolder.getBallerinaCloud();
         if (toml != null) {
@@ -241,6 +252,17 @@ public class KubernetesUtils {
                     .setRegistry(TomlHelper.getString(toml, containerImage + ".repository", null));
             dockerModel.setTag(TomlHelper.getString(toml, containerImage + ".tag", dockerModel.getTag()));
             dockerModel.setBaseImage(TomlHelper.getString(toml, containerImage + ".base", dockerModel.getBaseImage()));
+            String baseDigest = TomlHelper.getString(toml, containerImage + ".base_digest");
+            if (baseDigest != null && !dockerModel.getBaseImage().contains("@")) {
+                // Pin the base image, a tag can move to a new image between builds.
+                dockerModel.setBaseImage(dockerModel.getBaseImage() + "@" + baseDigest);
+            }
+            String maxSize = TomlHelper.getString(toml, containerImage + ".max_size");
+            if (maxSize != null) {
+                dataHolder.setImageMaxSize(Quantity.getAmountInBytes(new Quantity(maxSize)).longValue());
+            }
+            dataHolder.setReproducible(TomlHelper.getBoolean(toml, "settings.reproducible", false));
+            dataHolder.setJarCache(TomlHelper.getBoolean(toml, "settings.jarCache", false));
             dockerModel.setJarFileName(extractJarName(dataHolder.getJarPath()) + EXECUTABLE_JAR);
             dockerModel.setCmd(TomlHelper.getString(toml, containerImage + ".cmd", dockerModel.getCmd()));
             if (model instanceof DeploymentModel) {
@@ -260,7 +282,7 @@ public class KubernetesUtils {
                 ((JobModel) model).setImage(imageName);
             }
             dockerModel.setBuildImage(TomlHelper.getBoolean(toml, "settings.buildImage", true));
-            Set<CopyFileModel> copyFiles = new HashSet<>();
+            Set<CopyFileModel> copyFiles = new LinkedHashSet<>();
             for (Toml entry : toml.getTables("container.copy.files")) {
                 CopyFileModel copyFileModel = new CopyFileModel();
                 copyFileModel.setSource(TomlHelper.getString(entry, "sourceFile"));
@@ -281,10 +303,10 @@ public class KubernetesUtils {
     /**
      * Creates docker model from Deployment Model object.
      *
+     * @param dataHolder      Data holder of the package
      * @param deploymentModel Deployment model
      */
-    public static DockerModel getDockerModel(DeploymentModel deploymentModel) {
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+    public static DockerModel getDockerModel(KubernetesDataHolder dataHolder, DeploymentModel deploymentModel) {
         DockerModel dockerModel = dataHolder.getDockerModel();
         String dockerImage = deploymentModel.getImage();
         String imageTag = "latest";
@@ -300,7 +322,7 @@ public class KubernetesUtils {
         dockerModel.setDockerConfig(deploymentModel.getDockerConfigPath());
         dockerModel.setPorts(deploymentModel.getPorts().stream()
                 .map(ContainerPort::getContainerPort)
-                .collect(Collectors.toSet()));
+                .collect(Collectors.toCollection(TreeSet::new)));
         dockerModel.setService(true);
         dockerModel.setDockerHost(deploymentModel.getDockerHost());
         dockerModel.setDockerCertPath(deploymentModel.getDockerCertPath());
@@ -308,6 +330,66 @@ public class KubernetesUtils {
         return dockerModel;
     }
 
+    /**
+     * Read the kubernetes resources of the yaml files in a directory. Sub directories are not read.
+     *
+     * @param outputDir artifact output directory
+     * @return resources in the order of the file names
+     * @throws IOException if an error occurs while reading the files
+     */
+    public static List<Map<String, Object>> readYamlDocuments(Path outputDir) throws IOException {
+        List<Path> artifacts;
+        try (Stream<Path> files = Files.list(outputDir)) {
+            artifacts = files.filter(file -> file.getFileName().toString().endsWith(YAML))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        List<Map<String, Object>> documents = new ArrayList<>();
+        for (Path artifact : artifacts) {
+            String content = new String(Files.readAllBytes(artifact), StandardCharsets.UTF_8);
+            StringBuilder document = new StringBuilder();
+            for (String line : content.split("\\R")) {
+                if (line.trim().equals(YAML_DOCUMENT_SEPARATOR)) {
+                    addYamlDocument(documents, document.toString());
+                    document.setLength(0);
+                } else {
+                    document.append(line).append("\n");
+                }
+            }
+            addYamlDocument(documents, document.toString());
+        }
+        return documents;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addYamlDocument(List<Map<String, Object>> documents, String document) throws IOException {
+        if (document.trim().isEmpty()) {
+            return;
+        }
+        documents.add(Serialization.yamlMapper().readValue(document, Map.class));
+    }
+
+    /**
+     * Get the SHA-256 digest of a content as a hex string.
+     *
+     * @param content content to digest
+     * @return hex encoded digest
+     */
+    public static String sha256(byte[] content) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : messageDigest.digest(content)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
     public static boolean isBuildOptionDockerOrK8s(String buildOption) {
         switch (buildOption) {
             case "k8s":
@@ -21,17 +21,25 @@ package io.ballerina.c2c.utils;
 import io.ballerina.projects.TomlDocument;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.TomlType;
+import io.ballerina.toml.semantic.ast.TomlArrayValueNode;
+import io.ballerina.toml.semantic.ast.TomlBasicValueNode;
 import io.ballerina.toml.semantic.ast.TomlBooleanValueNode;
+import io.ballerina.toml.semantic.ast.TomlKeyValueNode;
 import io.ballerina.toml.semantic.ast.TomlLongValueNode;
 import io.ballerina.toml.semantic.ast.TomlStringValueNode;
 import io.ballerina.toml.semantic.ast.TomlTableNode;
 import io.ballerina.toml.semantic.ast.TomlValueNode;
+import io.ballerina.toml.semantic.ast.TopLevelNode;
 import io.ballerina.toml.semantic.diagnostics.DiagnosticComparator;
 import io.ballerina.toml.semantic.diagnostics.TomlDiagnostic;
 import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
 import io.ballerina.toml.syntax.tree.SyntaxTree;
 import io.ballerina.tools.diagnostics.Diagnostic;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -95,6 +103,40 @@ public class TomlHelper {
         return defaultValue;
     }
 
+    public static List<String> getStringArray(Toml toml, String key) {
+        List<String> values = new ArrayList<>();
+        Optional<TomlValueNode> valueNode = toml.get(key);
+        if (valueNode.isEmpty() || valueNode.get().kind() != TomlType.ARRAY) {
+            return values;
+        }
+        for (TomlValueNode element : ((TomlArrayValueNode) valueNode.get()).elements()) {
+            if (element.kind() == TomlType.STRING) {
+                values.add(((TomlStringValueNode) element).getValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Get the key value pairs of a free form table such as {@code metadata = { topic = "orders" }} as strings.
+     *
+     * @param toml table to read
+     * @return key value pairs in the declared order
+     */
+    public static Map<String, String> getStringMap(Toml toml) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Map.Entry<String, TopLevelNode> entry : toml.rootNode().entries().entrySet()) {
+            if (entry.getValue().kind() != TomlType.KEY_VALUE) {
+                continue;
+            }
+            TomlValueNode value = ((TomlKeyValueNode) entry.getValue()).value();
+            if (value instanceof TomlBasicValueNode) {
+                values.put(entry.getKey(), String.valueOf(((TomlBasicValueNode<?>) value).getValue()));
+            }
+        }
+        return values;
+    }
+
     public static Toml createK8sTomlFromProject(TomlDocument tomlDocument) {
         TomlTableNode astNode = tomlDocument.toml().rootNode();
         astNode.clearDiagnostics();
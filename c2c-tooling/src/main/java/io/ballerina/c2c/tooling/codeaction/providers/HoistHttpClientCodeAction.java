@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.tooling.codeaction.providers;
+
+import io.ballerina.c2c.tooling.toml.CommonUtil;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.CodeActionContext;
+import org.ballerinalang.langserver.commons.codeaction.CodeActionNodeType;
+import org.ballerinalang.langserver.commons.codeaction.spi.DiagBasedPositionDetails;
+import org.ballerinalang.langserver.commons.codeaction.spi.LSCodeActionProvider;
+import org.ballerinalang.langserver.commons.codeaction.spi.NodeBasedPositionDetails;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Code Action for moving an {@code http:Client} created in a resource or remote function to the module level.
+ *
+ * @since 2.0.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.codeaction.spi.LSCodeActionProvider")
+public class HoistHttpClientCodeAction implements LSCodeActionProvider {
+
+    @Override
+    public List<CodeAction> getDiagBasedCodeActions(Diagnostic diagnostic,
+                                                    DiagBasedPositionDetails diagBasedPositionDetails,
+                                                    CodeActionContext codeActionContext) {
+        if (!C2CDiagnosticCodes.HTTP_CLIENT_IN_FUNCTION.getCode().equals(diagnostic.diagnosticInfo().code())) {
+            return Collections.emptyList();
+        }
+        Optional<SyntaxTree> syntaxTree = codeActionContext.currentSyntaxTree();
+        if (syntaxTree.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ModulePartNode modulePartNode = syntaxTree.get().rootNode();
+        Optional<VariableDeclarationNode> variableNode =
+                getVariableDeclaration(modulePartNode.findNode(diagnostic.location().textRange(), true));
+        if (variableNode.isEmpty() || variableNode.get().initializer().isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<Node> moduleMember = getModuleMember(variableNode.get());
+        Optional<Node> function = getEnclosingFunction(variableNode.get());
+        TypedBindingPatternNode typedBindingPattern = variableNode.get().typedBindingPattern();
+        if (moduleMember.isEmpty() || function.isEmpty() ||
+                typedBindingPattern.bindingPattern().kind() != SyntaxKind.CAPTURE_BINDING_PATTERN) {
+            return Collections.emptyList();
+        }
+
+        VariableDeclarationNode variableDeclarationNode = variableNode.get();
+        ExpressionNode initializer = variableDeclarationNode.initializer().get();
+        String localName = ((CaptureBindingPatternNode) typedBindingPattern.bindingPattern()).variableName().text();
+        String moduleName = getModuleVariableName(localName, syntaxTree.get(), function.get(),
+                getModuleSymbolNames(codeActionContext));
+        String moduleVariable = "final " + typedBindingPattern.typeDescriptor().toSourceCode().trim() + " " +
+                moduleName + " = " + initializer.toSourceCode().trim() + ";" + CommonUtil.LINE_SEPARATOR +
+                CommonUtil.LINE_SEPARATOR;
+        Position memberStart = new Position(moduleMember.get().lineRange().startLine().line(), 0);
+        TextEdit addModuleVariable = new TextEdit(new Range(memberStart, memberStart), moduleVariable);
+
+        // Remove the whole statement line(s) including the indentation.
+        LineRange statementRange = variableDeclarationNode.lineRange();
+        TextEdit removeLocalVariable = new TextEdit(new Range(new Position(statementRange.startLine().line(), 0),
+                new Position(statementRange.endLine().line() + 1, 0)), "");
+
+        List<TextEdit> edits = new ArrayList<>();
+        edits.add(addModuleVariable);
+        edits.add(removeLocalVariable);
+        if (!moduleName.equals(localName)) {
+            for (SimpleNameReferenceNode reference : getReferences(function.get(), localName)) {
+                LineRange nameRange = reference.name().lineRange();
+                edits.add(new TextEdit(new Range(
+                        new Position(nameRange.startLine().line(), nameRange.startLine().offset()),
+                        new Position(nameRange.endLine().line(), nameRange.endLine().offset())), moduleName));
+            }
+        }
+
+        CodeAction action = CommonUtil.createQuickFixCodeAction("Move client to a final module level variable",
+                edits, codeActionContext.fileUri());
+        return Collections.singletonList(action);
+    }
+
+    @Override
+    public boolean isNodeBasedSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isDiagBasedSupported() {
+        return true;
+    }
+
+    @Override
+    public List<CodeActionNodeType> getCodeActionNodeTypes() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String getName() {
+        return "Hoist Http Client Code Action";
+    }
+
+    @Override
+    public List<CodeAction> getNodeBasedCodeActions(CodeActionContext context,
+                                                    NodeBasedPositionDetails positionDetails) {
+        throw new UnsupportedOperationException("Not supported");
+    }
+
+    private Optional<VariableDeclarationNode> getVariableDeclaration(NonTerminalNode node) {
+        Node current = node;
+        while (current != null && current.kind() != SyntaxKind.LOCAL_VAR_DECL) {
+            current = current.parent();
+        }
+        return Optional.ofNullable((VariableDeclarationNode) current);
+    }
+
+    private Optional<Node> getEnclosingFunction(Node node) {
+        Node current = node.parent();
+        while (current != null && current.kind() != SyntaxKind.RESOURCE_ACCESSOR_DEFINITION &&
+                current.kind() != SyntaxKind.OBJECT_METHOD_DEFINITION) {
+            current = current.parent();
+        }
+        return Optional.ofNullable(current);
+    }
+
+    private Set<String> getModuleSymbolNames(CodeActionContext context) {
+        Set<String> names = new HashSet<>();
+        context.currentSemanticModel().ifPresent(semanticModel -> semanticModel.moduleSymbols()
+                .forEach(symbol -> symbol.getName().ifPresent(names::add)));
+        return names;
+    }
+
+    private String getModuleVariableName(String localName, SyntaxTree syntaxTree, Node function,
+                                         Set<String> moduleNames) {
+        // The name should not clash with a module level name or with a name used outside the function, such as the
+        // same client created in another resource which may be hoisted later.
+        String source = syntaxTree.toSourceCode();
+        TextRange functionRange = function.textRange();
+        String outsideFunction = source.substring(0, functionRange.startOffset()) +
+                source.substring(functionRange.endOffset());
+        if (!moduleNames.contains(localName) && !isUsed(outsideFunction, localName)) {
+            return localName;
+        }
+        int suffix = 1;
+        while (moduleNames.contains(localName + suffix) || isUsed(source, localName + suffix)) {
+            suffix++;
+        }
+        return localName + suffix;
+    }
+
+    private boolean isUsed(String source, String name) {
+        return Pattern.compile("\\b" + Pattern.quote(name) + "\\b").matcher(source).find();
+    }
+
+    private List<SimpleNameReferenceNode> getReferences(Node function, String name) {
+        List<SimpleNameReferenceNode> references = new ArrayList<>();
+        function.accept(new NodeVisitor() {
+            @Override
+            public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+                if (name.equals(simpleNameReferenceNode.name().text())) {
+                    references.add(simpleNameReferenceNode);
+                }
+            }
+        });
+        return references;
+    }
+
+    private Optional<Node> getModuleMember(Node node) {
+        Node current = node;
+        while (current.parent() != null && current.parent().kind() != SyntaxKind.MODULE_PART) {
+            current = current.parent();
+        }
+        return current.parent() == null ? Optional.empty() : Optional.of(current);
+    }
+}
@@ -20,14 +20,11 @@ package io.ballerina.c2c.tooling.completion;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
 import io.ballerina.toml.syntax.tree.NonTerminalNode;
-import io.ballerina.tools.text.LinePosition;
 import org.ballerinalang.langserver.commons.CompletionContext;
 import org.ballerinalang.langserver.commons.LSOperation;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
@@ -40,20 +37,15 @@ import org.eclipse.lsp4j.jsonrpc.validation.NonNull;
 
 import java.nio.file.Path;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Cloud toml completion context.
  */
 public class CloudTomlCompletionContext implements TomlCompletionContext {
 
-    private List<Symbol> visibleSymbols;
-    private List<ImportDeclarationNode> currentDocImports;
-    private Map<ImportDeclarationNode, ModuleSymbol> currentDocImportsMap;
     private LanguageServerContext languageServerContext;
     private CompletionCapabilities capabilities;
     private Position cursorPosition;
@@ -80,57 +72,34 @@ public class CloudTomlCompletionContext implements TomlCompletionContext {
 
     @Override
     public List<Symbol> visibleSymbols(Position position) {
-        if (this.visibleSymbols == null) {
-            Optional<SemanticModel> semanticModel = this.workspace().semanticModel(this.filePath());
-            Optional<Document> srcFile = this.workspace().document(this.filePath());
-
-            if (semanticModel.isEmpty() || srcFile.isEmpty()) {
-                return Collections.emptyList();
-            }
-
-            visibleSymbols = semanticModel.get().visibleSymbols(srcFile.get(),
-                    LinePosition.from(position.getLine(),
-                            position.getCharacter()));
+        Optional<Document> srcFile = this.workspace().document(this.filePath());
+        if (srcFile.isEmpty()) {
+            return Collections.emptyList();
         }
-        return visibleSymbols;
+        return getDocumentSymbols(srcFile.get()).visibleSymbols(this::currentSemanticModel, srcFile.get(), position);
     }
 
     @Override
     public List<ImportDeclarationNode> currentDocImports() {
-        if (this.currentDocImports == null) {
-            Optional<Document> document = this.workspace().document(this.filePath());
-            if (document.isEmpty()) {
-                throw new RuntimeException("Cannot find a valid document");
-            }
-            this.currentDocImports = ((ModulePartNode) document.get().syntaxTree().rootNode()).imports().stream()
-                    .collect(Collectors.toList());
+        Optional<Document> document = this.workspace().document(this.filePath());
+        if (document.isEmpty()) {
+            throw new RuntimeException("Cannot find a valid document");
         }
-
-        return this.currentDocImports;
+        return getDocumentSymbols(document.get()).imports();
     }
 
     @Override
     public Map<ImportDeclarationNode, ModuleSymbol> currentDocImportsMap() {
-        Optional<SemanticModel> semanticModel = this.workspace().semanticModel(this.filePath());
-        if (semanticModel.isEmpty()) {
-            throw new RuntimeException("Semantic Model Cannot be Empty");
+        Optional<Document> document = this.workspace().document(this.filePath());
+        if (document.isEmpty()) {
+            throw new RuntimeException("Cannot find a valid document");
         }
-        if (this.currentDocImportsMap == null) {
-            this.currentDocImportsMap = new LinkedHashMap<>();
-            Optional<Document> document = this.workspace().document(this.filePath());
-            if (document.isEmpty()) {
-                throw new RuntimeException("Cannot find a valid document");
-            }
-            ModulePartNode modulePartNode = document.get().syntaxTree().rootNode();
-            for (ImportDeclarationNode importDeclaration : modulePartNode.imports()) {
-                Optional<Symbol> symbol = semanticModel.get().symbol(importDeclaration);
-                if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.MODULE) {
-                    continue;
-                }
-                currentDocImportsMap.put(importDeclaration, (ModuleSymbol) symbol.get());
-            }
-        }
-        return this.currentDocImportsMap;
+        return getDocumentSymbols(document.get()).importsMap(this::currentSemanticModel)
+                .orElseThrow(() -> new RuntimeException("Semantic Model Cannot be Empty"));
+    }
+
+    private CompletionSymbolCache.DocumentSymbols getDocumentSymbols(Document document) {
+        return CompletionSymbolCache.getInstance(this.languageServerContext).get(this.filePath(), document);
     }
 
     @Override
@@ -15,9 +15,14 @@
  */
 package io.ballerina.c2c.tooling.completion;
 
+import io.ballerina.c2c.tooling.toml.TomlSyntaxTreeUtil;
 import io.ballerina.toml.syntax.tree.DocumentNode;
+import io.ballerina.toml.syntax.tree.KeyNode;
+import io.ballerina.toml.syntax.tree.KeyValueNode;
 import io.ballerina.toml.syntax.tree.Node;
+import io.ballerina.toml.syntax.tree.NodeList;
 import io.ballerina.toml.syntax.tree.NonTerminalNode;
+import io.ballerina.toml.syntax.tree.SyntaxKind;
 import io.ballerina.toml.syntax.tree.TableArrayNode;
 import io.ballerina.toml.syntax.tree.TableNode;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
@@ -30,9 +35,11 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Responsible for providing completion items based on the context.
@@ -69,20 +76,31 @@ public class CloudTomlCompletionUtil {
 
         //Get possible completions based on schema
         Map<String, CompletionItem> completions;
-        Map<TomlNode, Map<String, CompletionItem>> snippets =
-                CloudTomlSnippetManager.getInstance(serverContext).getCompletionProposals();
+        CloudTomlSnippetManager snippetManager = CloudTomlSnippetManager.getInstance(serverContext);
+        Map<TomlNode, Map<String, CompletionItem>> snippets = snippetManager.getCompletionProposals();
 
         //Filter proposed snippets based on the reference node.
         while (reference != null) {
             switch (reference.kind()) {
                 case TABLE:
-                    completions =
-                            TomlCompletionUtil.getFilteredCompletions(Either.forLeft((TableNode) reference), snippets);
+                    TableNode tableNode = (TableNode) reference;
+                    Optional<Map<String, CompletionItem>> tableCompletions =
+                            getIndexedCompletions(snippetManager, tableNode.identifier(), false);
+                    if (tableCompletions.isPresent()) {
+                        return filterExistingKeys(tableCompletions.get(), tableNode.fields(), tableNode);
+                    }
+                    completions = TomlCompletionUtil.getFilteredCompletions(Either.forLeft(tableNode), snippets);
                     return new ArrayList<>(completions.values());
                 case TABLE_ARRAY:
+                    TableArrayNode tableArrayNode = (TableArrayNode) reference;
+                    Optional<Map<String, CompletionItem>> tableArrayCompletions =
+                            getIndexedCompletions(snippetManager, tableArrayNode.identifier(), true);
+                    if (tableArrayCompletions.isPresent()) {
+                        return filterExistingKeys(tableArrayCompletions.get(), tableArrayNode.fields(),
+                                tableArrayNode);
+                    }
                     completions =
-                            TomlCompletionUtil.getFilteredCompletions(Either.forRight((TableArrayNode) reference),
-                                    snippets);
+                            TomlCompletionUtil.getFilteredCompletions(Either.forRight(tableArrayNode), snippets);
                     return new ArrayList<>(completions.values());
                 case MODULE_PART:
                     completions = new HashMap<>();
@@ -97,4 +115,38 @@ public class CloudTomlCompletionUtil {
         }
         return Collections.emptyList();
     }
+
+    private static Optional<Map<String, CompletionItem>> getIndexedCompletions(CloudTomlSnippetManager snippetManager,
+                                                                               KeyNode identifier,
+                                                                               boolean tableArray) {
+        if (identifier.isMissing() || identifier.value().isEmpty()) {
+            return Optional.empty();
+        }
+        return snippetManager.getTableCompletions(TomlSyntaxTreeUtil.toDottedString(identifier.value()), tableArray);
+    }
+
+    private static List<CompletionItem> filterExistingKeys(Map<String, CompletionItem> tableCompletions,
+                                                           NodeList<KeyValueNode> fields, Node table) {
+        Map<String, CompletionItem> completions = new HashMap<>(tableCompletions);
+        Node documentNode = table.parent();
+        while (documentNode != null && documentNode.kind() != SyntaxKind.MODULE_PART) {
+            documentNode = documentNode.parent();
+        }
+        if (documentNode != null) {
+            TomlCompletionUtil.removeExistingTableKeys(completions, (DocumentNode) documentNode);
+        }
+        Set<String> existingKeys = new HashSet<>();
+        for (KeyValueNode field : fields) {
+            if (!field.identifier().isMissing()) {
+                existingKeys.add(TomlSyntaxTreeUtil.toDottedString(field.identifier().value()));
+            }
+        }
+        List<CompletionItem> completionItems = new ArrayList<>();
+        for (CompletionItem completionItem : completions.values()) {
+            if (!existingKeys.contains(completionItem.getLabel())) {
+                completionItems.add(completionItem);
+            }
+        }
+        return completionItems;
+    }
 }
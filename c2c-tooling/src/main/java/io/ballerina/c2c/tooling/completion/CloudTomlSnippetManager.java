@@ -18,12 +18,25 @@
 
 package io.ballerina.c2c.tooling.completion;
 
+import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
+import io.ballerina.toml.syntax.tree.SyntaxKind;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.toml.syntax.tree.TableArrayNode;
+import io.ballerina.toml.syntax.tree.TableNode;
+import io.ballerina.tools.text.TextDocuments;
 import org.apache.commons.io.IOUtils;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.toml.AbstractTomlSnippetManager;
+import org.ballerinalang.langserver.commons.toml.common.completion.TomlCompletionUtil;
+import org.ballerinalang.langserver.commons.toml.visitor.TomlNode;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Maintains all the supported snippets for Cloud Toml.
@@ -35,8 +48,11 @@ public class CloudTomlSnippetManager extends AbstractTomlSnippetManager {
     private static final LanguageServerContext.Key<CloudTomlSnippetManager> CLOUD_TOML_SNIPPET_MANAGER_KEY =
             new LanguageServerContext.Key<>();
 
+    private final TomlPathTrie completionIndex;
+
     private CloudTomlSnippetManager(LanguageServerContext context) {
         context.put(CLOUD_TOML_SNIPPET_MANAGER_KEY, this);
+        this.completionIndex = buildCompletionIndex();
     }
 
     /**
@@ -52,6 +68,43 @@ public class CloudTomlSnippetManager extends AbstractTomlSnippetManager {
         return snippetManager;
     }
 
+    /**
+     * Returns the completion items of a table defined in the schema, before removing the keys and tables which
+     * already exist in the document.
+     *
+     * @param path       dotted path of the table
+     * @param tableArray whether the table is a table array
+     * @return completion items of the table
+     */
+    public Optional<Map<String, CompletionItem>> getTableCompletions(String path, boolean tableArray) {
+        return completionIndex.get(path, tableArray);
+    }
+
+    private TomlPathTrie buildCompletionIndex() {
+        Map<TomlNode, Map<String, CompletionItem>> snippets = getCompletionProposals();
+        Map<String, CompletionItem> tables = new HashMap<>();
+        TomlCompletionUtil.addTopLevelNodeCompletions(snippets.keySet(), tables);
+
+        // Completions of each table are resolved once against a document that only contains the table itself.
+        TomlPathTrie trie = new TomlPathTrie();
+        for (CompletionItem table : tables.values()) {
+            String path = table.getLabel();
+            boolean tableArray = table.getInsertText().startsWith("[[");
+            String header = tableArray ? "[[" + path + "]]" : "[" + path + "]";
+            SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(header));
+            for (DocumentMemberDeclarationNode member : syntaxTree.rootNode().members()) {
+                if (member.kind() == SyntaxKind.TABLE) {
+                    trie.put(path, false, new HashMap<>(TomlCompletionUtil.getFilteredCompletions(
+                            Either.forLeft((TableNode) member), snippets)));
+                } else if (member.kind() == SyntaxKind.TABLE_ARRAY) {
+                    trie.put(path, true, new HashMap<>(TomlCompletionUtil.getFilteredCompletions(
+                            Either.forRight((TableArrayNode) member), snippets)));
+                }
+            }
+        }
+        return trie;
+    }
+
     @Override
     public String getValidationSchema() {
         try {
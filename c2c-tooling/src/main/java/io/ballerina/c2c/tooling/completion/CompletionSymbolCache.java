@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.tooling.completion;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.eclipse.lsp4j.Position;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the imports and visible symbols of documents across completion requests.
+ * <p>
+ * Cached values are reused while the document and the sources of its package are unchanged, i.e. while the syntax
+ * trees of the Ballerina documents, Ballerina.toml and Dependencies.toml are the same instances. Edits of Cloud.toml
+ * leave them untouched. The semantic model is only fetched when the cached values are computed, and only the most
+ * recently used documents are kept.
+ *
+ * @since 2.0.0
+ */
+public class CompletionSymbolCache {
+
+    private static final LanguageServerContext.Key<CompletionSymbolCache> COMPLETION_SYMBOL_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+    private static final int MAX_DOCUMENTS = 16;
+
+    private final Map<Path, DocumentSymbols> documentSymbols = new LinkedHashMap<>(MAX_DOCUMENTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, DocumentSymbols> eldest) {
+            return size() > MAX_DOCUMENTS;
+        }
+    };
+
+    private CompletionSymbolCache(LanguageServerContext context) {
+        context.put(COMPLETION_SYMBOL_CACHE_KEY, this);
+    }
+
+    /**
+     * Returns a single instance of the cache for the language server.
+     *
+     * @param context language server context
+     * @return {@link CompletionSymbolCache}
+     */
+    public static synchronized CompletionSymbolCache getInstance(LanguageServerContext context) {
+        CompletionSymbolCache symbolCache = context.get(COMPLETION_SYMBOL_CACHE_KEY);
+        if (symbolCache == null) {
+            symbolCache = new CompletionSymbolCache(context);
+        }
+        return symbolCache;
+    }
+
+    /**
+     * Get the cached symbols of the current version of a document.
+     *
+     * @param filePath path of the document
+     * @param document current version of the document
+     * @return cached symbols of the document
+     */
+    public synchronized DocumentSymbols get(Path filePath, Document document) {
+        List<Object> sourceVersion = getSourceVersion(document);
+        DocumentSymbols cached = documentSymbols.get(filePath);
+        if (cached == null || !isSameVersion(cached.sourceVersion, sourceVersion)) {
+            cached = new DocumentSymbols(document.syntaxTree(), sourceVersion);
+            documentSymbols.put(filePath, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Drop the cached symbols of a document, e.g. once it is closed.
+     *
+     * @param filePath path of the document
+     */
+    public synchronized void remove(Path filePath) {
+        documentSymbols.remove(filePath);
+    }
+
+    private static List<Object> getSourceVersion(Document document) {
+        Package currentPackage = document.module().packageInstance();
+        List<Object> sourceVersion = new ArrayList<>();
+        sourceVersion.add(document.syntaxTree());
+        for (Module module : currentPackage.modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                sourceVersion.add(module.document(documentId).syntaxTree());
+            }
+        }
+        currentPackage.ballerinaToml().ifPresent(toml -> sourceVersion.add(toml.tomlDocument().syntaxTree()));
+        currentPackage.dependenciesToml().ifPresent(toml -> sourceVersion.add(toml.tomlDocument().syntaxTree()));
+        return sourceVersion;
+    }
+
+    private static boolean isSameVersion(List<Object> cached, List<Object> current) {
+        if (cached.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < cached.size(); i++) {
+            if (cached.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Imports and visible symbols of a version of a document.
+     */
+    public static class DocumentSymbols {
+
+        private final SyntaxTree syntaxTree;
+        private final List<Object> sourceVersion;
+        private List<ImportDeclarationNode> imports;
+        private SemanticModel semanticModel;
+        private Map<ImportDeclarationNode, ModuleSymbol> importsMap;
+        private final Map<Position, List<Symbol>> visibleSymbols = new HashMap<>();
+
+        private DocumentSymbols(SyntaxTree syntaxTree, List<Object> sourceVersion) {
+            this.syntaxTree = syntaxTree;
+            this.sourceVersion = sourceVersion;
+        }
+
+        /**
+         * Get the import declarations of the document.
+         *
+         * @return import declarations
+         */
+        public synchronized List<ImportDeclarationNode> imports() {
+            if (imports == null) {
+                imports = Collections.unmodifiableList(((ModulePartNode) syntaxTree.rootNode()).imports().stream()
+                        .collect(Collectors.toList()));
+            }
+            return imports;
+        }
+
+        /**
+         * Get the module symbols of the import declarations of the document.
+         *
+         * @param semanticModelSupplier supplier of the semantic model, called only if the symbols are not cached
+         * @return module symbols by import declaration, or empty if the semantic model is not available
+         */
+        public synchronized Optional<Map<ImportDeclarationNode, ModuleSymbol>> importsMap(
+                Supplier<Optional<SemanticModel>> semanticModelSupplier) {
+            if (importsMap == null) {
+                if (getSemanticModel(semanticModelSupplier).isEmpty()) {
+                    return Optional.empty();
+                }
+                Map<ImportDeclarationNode, ModuleSymbol> modules = new LinkedHashMap<>();
+                for (ImportDeclarationNode importDeclaration : imports()) {
+                    Optional<Symbol> symbol = semanticModel.symbol(importDeclaration);
+                    if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.MODULE) {
+                        continue;
+                    }
+                    modules.put(importDeclaration, (ModuleSymbol) symbol.get());
+                }
+                importsMap = Collections.unmodifiableMap(modules);
+            }
+            return Optional.of(importsMap);
+        }
+
+        /**
+         * Get the symbols visible at a position of the document.
+         *
+         * @param semanticModelSupplier supplier of the semantic model, called only if the symbols are not cached
+         * @param document              current version of the document
+         * @param position              cursor position
+         * @return visible symbols, or an empty list if the semantic model is not available
+         */
+        public synchronized List<Symbol> visibleSymbols(Supplier<Optional<SemanticModel>> semanticModelSupplier,
+                                                        Document document, Position position) {
+            Position key = new Position(position.getLine(), position.getCharacter());
+            List<Symbol> symbols = visibleSymbols.get(key);
+            if (symbols == null) {
+                if (getSemanticModel(semanticModelSupplier).isEmpty()) {
+                    return Collections.emptyList();
+                }
+                symbols = semanticModel.visibleSymbols(document, LinePosition.from(key.getLine(),
+                        key.getCharacter()));
+                visibleSymbols.put(key, symbols);
+            }
+            return symbols;
+        }
+
+        private Optional<SemanticModel> getSemanticModel(Supplier<Optional<SemanticModel>> semanticModelSupplier) {
+            if (semanticModel == null) {
+                semanticModel = semanticModelSupplier.get().orElse(null);
+            }
+            return Optional.ofNullable(semanticModel);
+        }
+    }
+}
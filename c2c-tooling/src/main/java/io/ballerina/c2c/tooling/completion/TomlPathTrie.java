@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.tooling.completion;
+
+import org.eclipse.lsp4j.CompletionItem;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of the completion items of Cloud.toml tables, keyed by the segments of the dotted table path.
+ *
+ * @since 2.0.0
+ */
+class TomlPathTrie {
+
+    private final Map<String, TomlPathTrie> children = new HashMap<>();
+    private Map<String, CompletionItem> tableCompletions;
+    private Map<String, CompletionItem> tableArrayCompletions;
+
+    /**
+     * Add the completion items of a table.
+     *
+     * @param path        dotted path of the table
+     * @param tableArray  whether the table is a table array
+     * @param completions completion items of the table
+     */
+    void put(String path, boolean tableArray, Map<String, CompletionItem> completions) {
+        TomlPathTrie node = this;
+        for (String segment : path.split("\\.")) {
+            node = node.children.computeIfAbsent(segment, key -> new TomlPathTrie());
+        }
+        if (tableArray) {
+            node.tableArrayCompletions = Collections.unmodifiableMap(completions);
+        } else {
+            node.tableCompletions = Collections.unmodifiableMap(completions);
+        }
+    }
+
+    /**
+     * Get the completion items of a table.
+     *
+     * @param path       dotted path of the table
+     * @param tableArray whether the table is a table array
+     * @return completion items of the table if the schema defines it
+     */
+    Optional<Map<String, CompletionItem>> get(String path, boolean tableArray) {
+        TomlPathTrie node = this;
+        for (String segment : path.split("\\.")) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(tableArray ? node.tableArrayCompletions : node.tableCompletions);
+    }
+}
@@ -51,6 +51,32 @@ public enum C2CDiagnosticCodes {
     EMPTY_PATH_CLOUD("C2C_015", "Cloud.toml error invalid path without file name `%s`", ERROR),
     PATH_CONTENT_READ_FAILED_WARN("C2C_006", "unable to read contents of the file `%s`", WARNING),
     FAILED_VARIABLE_RETRIEVAL("C2C_016", "unable to retrieve the value of variable `%s`", WARNING),
+    KEDA_TRIGGER_NOT_FOUND("C2C_017", "Cloud.toml error KEDA is enabled but `cloud.keda.triggers` is empty", ERROR),
+    KEDA_TRIGGER_TYPE_NOT_FOUND("C2C_018", "Cloud.toml error unable to infer the KEDA trigger type. " +
+            "Please specify the `type` of the trigger", ERROR),
+    SERVICE_GROUP_SERVICE_NOT_FOUND("C2C_019", "Cloud.toml error service `%s` of the group `%s` is not found",
+            ERROR),
+    INVALID_RESOURCE_PROFILE("C2C_020", "Cloud.toml error invalid resource profile `%s`. " +
+            "Supported profiles are `latency`, `throughput` and `batch`", ERROR),
+    IMAGE_SIZE_EXCEEDED("C2C_021", "build context size `%s` copied into the image exceeds the " +
+            "`container.image.max_size` budget of `%s`. Largest jars: %s", ERROR),
+    HTTP_CLIENT_IN_FUNCTION("C2C_022", "`http:Client` `%s` is created on every call of `%s`. Declare it as a " +
+            "`final` module level variable to reuse its connections", WARNING),
+    BATCH_GENERATION_FAILED("C2C_023", "batch artifact generation failed: %s", ERROR),
+    INVALID_PROFILE_NAME("C2C_024", "Cloud.toml error invalid profile name `%s`. Profile names should only " +
+            "contain lowercase alphanumeric characters and `-`, and cannot be `helm` or `changes`", ERROR),
+    INVALID_PROFILE("C2C_025", "Cloud.toml error in profile `%s`: %s", ERROR),
+    DOCKER_ARTIFACT_GEN_FAILED("C2C_026", "error while generating docker artifacts: `%s`", WARNING),
+    SERVICE_GROUP_DUPLICATE_SERVICE("C2C_027", "Cloud.toml error service `%s` is listed in both the `%s` and `%s` " +
+            "groups", ERROR),
+    DISRUPTION_BUDGET_CONFLICT("C2C_028", "Cloud.toml error `min_available` and `max_unavailable` of " +
+            "`cloud.deployment.disruption_budget` cannot be used together", ERROR),
+    KEDA_SCHEDULED_TASK("C2C_029", "Cloud.toml error KEDA cannot scale a task with the schedule `%s`. Remove the " +
+            "schedule or disable `cloud.keda`", ERROR),
+    REPRODUCIBLE_IMAGE_NOT_BUILT("C2C_030", "docker image is not built with `settings.reproducible`. Build it " +
+            "from `%s` with `DOCKER_BUILDKIT=1 docker build --build-arg SOURCE_DATE_EPOCH=%d`", WARNING),
+    KEDA_SERVICE_GROUPS("C2C_031", "Cloud.toml error `cloud.keda` cannot be used with " +
+            "`cloud.deployment.groups`", ERROR),
     ;
 
     private final String code;
@@ -39,6 +39,8 @@ import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ImportOrgNameNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingFieldNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
@@ -65,10 +67,12 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Visitor for validation related to code to cloud.
@@ -81,6 +85,8 @@ public class C2CVisitor extends NodeVisitor {
 
     private final List<ServiceInfo> services = new ArrayList<>();
     private final List<ClientInfo> clientInfos = new ArrayList<>();
+    private final Set<String> messageBrokers = new LinkedHashSet<>();
+    private final Set<String> observabilityImports = new LinkedHashSet<>();
     private final Map<String, Node> moduleLevelVariables;
     private final SemanticModel semanticModel;
     private final List<Diagnostic> diagnostics;
@@ -93,6 +99,28 @@ public class C2CVisitor extends NodeVisitor {
         this.diagnostics = diagnostics;
     }
 
+    @Override
+    public void visit(ImportDeclarationNode importDeclarationNode) {
+        // import ballerinax/prometheus as _;
+        Optional<ImportOrgNameNode> orgName = importDeclarationNode.orgName();
+        if (orgName.isEmpty() || !"ballerinax".equals(orgName.get().orgName().text())) {
+            return;
+        }
+        SeparatedNodeList<IdentifierToken> moduleName = importDeclarationNode.moduleName();
+        if (moduleName.size() != 1) {
+            return;
+        }
+        switch (moduleName.get(0).text()) {
+            case "prometheus":
+            case "jaeger":
+            case "zipkin":
+                observabilityImports.add(moduleName.get(0).text());
+                break;
+            default:
+                break;
+        }
+    }
+
     @Override
     public void visit(ModuleVariableDeclarationNode moduleVariableDeclarationNode) {
         // To Parse http:Client Config
@@ -125,6 +153,78 @@ public class C2CVisitor extends NodeVisitor {
             return;
         }
         extractHttpClientConfig(variableDeclarationNode.typedBindingPattern(), initializer.get());
+        checkClientCreatedPerCall(variableDeclarationNode, initializer.get());
+    }
+
+    private void checkClientCreatedPerCall(VariableDeclarationNode variableDeclarationNode,
+                                           ExpressionNode initializer) {
+        // A client created in a resource or remote function opens a new connection pool for every request.
+        TypedBindingPatternNode typedBindingPatternNode = variableDeclarationNode.typedBindingPattern();
+        if (typedBindingPatternNode.bindingPattern().kind() != SyntaxKind.CAPTURE_BINDING_PATTERN ||
+                !isSupportedClientVariable(typedBindingPatternNode.typeDescriptor())) {
+            return;
+        }
+        ExpressionNode expression = initializer.kind() == SyntaxKind.CHECK_EXPRESSION ?
+                ((CheckExpressionNode) initializer).expression() : initializer;
+        if (expression.kind() != SyntaxKind.IMPLICIT_NEW_EXPRESSION &&
+                expression.kind() != SyntaxKind.EXPLICIT_NEW_EXPRESSION) {
+            return;
+        }
+        Optional<String> functionName = getEnclosingServiceFunctionName(variableDeclarationNode);
+        if (functionName.isEmpty() || referencesLocalVariable(expression)) {
+            // A client that depends on request data cannot be moved to the module level.
+            return;
+        }
+        String variableName = ((CaptureBindingPatternNode) typedBindingPatternNode.bindingPattern())
+                .variableName().text();
+        diagnostics.add(C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.HTTP_CLIENT_IN_FUNCTION,
+                variableDeclarationNode.location(), variableName, functionName.get()));
+    }
+
+    private Optional<String> getEnclosingServiceFunctionName(Node node) {
+        Node parent = node.parent();
+        while (parent != null && parent.kind() != SyntaxKind.RESOURCE_ACCESSOR_DEFINITION &&
+                parent.kind() != SyntaxKind.OBJECT_METHOD_DEFINITION &&
+                parent.kind() != SyntaxKind.FUNCTION_DEFINITION) {
+            parent = parent.parent();
+        }
+        if (parent == null || parent.kind() == SyntaxKind.FUNCTION_DEFINITION) {
+            return Optional.empty();
+        }
+        FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) parent;
+        String functionName = functionDefinitionNode.functionName().text();
+        if (parent.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+            return Optional.of("resource function " + functionName + " " +
+                    toAbsoluteServicePath(functionDefinitionNode.relativeResourcePath()));
+        }
+        for (Token qualifier : functionDefinitionNode.qualifierList()) {
+            if (qualifier.kind() == SyntaxKind.REMOTE_KEYWORD) {
+                return Optional.of("remote function " + functionName);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean referencesLocalVariable(ExpressionNode expression) {
+        List<SimpleNameReferenceNode> references = new ArrayList<>();
+        expression.accept(new NodeVisitor() {
+            @Override
+            public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+                references.add(simpleNameReferenceNode);
+            }
+        });
+        for (SimpleNameReferenceNode reference : references) {
+            Optional<Symbol> symbol = semanticModel.symbol(reference);
+            if (symbol.isEmpty()) {
+                continue;
+            }
+            SymbolKind kind = symbol.get().kind();
+            if ((kind == SymbolKind.VARIABLE || kind == SymbolKind.PARAMETER) &&
+                    !moduleLevelVariables.containsKey(reference.name().text())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void extractHttpClientConfig(TypedBindingPatternNode typedBindingPatternNode, ExpressionNode initializer) {
@@ -216,6 +316,8 @@ public class C2CVisitor extends NodeVisitor {
             String modulePrefix = node1.modulePrefix().text();
             String name = node1.identifier().text();
             if (modulePrefix.equals("cloud") && name.equals("Task")) {
+                // The schedule is optional, a task without one runs once as a job.
+                this.task = new Task(null, null, null, null, null);
                 processTaskAnnotationValue(annotationNode);
             }
         }
@@ -302,6 +404,7 @@ public class C2CVisitor extends NodeVisitor {
         }
         String servicePath = toAbsoluteServicePath(serviceDeclarationNode.absoluteResourcePath());
         TypeSymbol typeSymbol = typeSymbols.get(0);
+        getMessageBrokerModule(typeSymbol).ifPresent(messageBrokers::add);
         if (!isC2CNativelySupportedListener(typeSymbol)) {
             processCustomExposedAnnotatedListeners(typeSymbol, servicePath, serviceDeclarationNode);
             return;
@@ -341,6 +444,7 @@ public class C2CVisitor extends NodeVisitor {
                 config.ifPresent(listenerInfo::setConfig);
             }
         }
+        listenerInfo.setProtocol(getListenerProtocol(typeSymbol, expressionNode));
         ServiceInfo
                 serviceInfo = new ServiceInfo(listenerInfo, serviceDeclarationNode, servicePath);
         NodeList<Node> function = serviceDeclarationNode.members();
@@ -661,6 +765,125 @@ public class C2CVisitor extends NodeVisitor {
         return false;
     }
 
+    private String getListenerProtocol(TypeSymbol typeSymbol, ExpressionNode listenerExpression) {
+        Optional<ModuleID> moduleId = getListenerModule(typeSymbol);
+        if (moduleId.isEmpty() || !"ballerina".equals(moduleId.get().orgName())) {
+            return null;
+        }
+        switch (moduleId.get().moduleName()) {
+            case "http":
+                return isHttp2Listener(listenerExpression) ? ListenerInfo.HTTP2 : ListenerInfo.HTTP;
+            case "grpc":
+                return ListenerInfo.GRPC;
+            case "websocket":
+                return ListenerInfo.WEBSOCKET;
+            default:
+                return null;
+        }
+    }
+
+    private Optional<ModuleID> getListenerModule(TypeSymbol typeSymbol) {
+        // Listener|error resolves to the module of the listener.
+        if (typeSymbol.typeKind() == TypeDescKind.UNION) {
+            UnionTypeSymbol unionTypeSymbol = (UnionTypeSymbol) typeSymbol;
+            for (TypeSymbol symbol : unionTypeSymbol.memberTypeDescriptors()) {
+                if (symbol.typeKind() != TypeDescKind.ERROR) {
+                    return getListenerModule(symbol);
+                }
+            }
+        }
+        if (typeSymbol.typeKind() != TypeDescKind.TYPE_REFERENCE) {
+            return Optional.empty();
+        }
+        return typeSymbol.getModule().map(ModuleSymbol::id);
+    }
+
+    private boolean isHttp2Listener(ExpressionNode listenerExpression) {
+        // on helloEP or on new http:Listener(9090, {httpVersion: "2.0"})
+        Node listenerNode = listenerExpression;
+        if (listenerExpression.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
+            listenerNode = this.moduleLevelVariables.get(((SimpleNameReferenceNode) listenerExpression).name().text());
+        }
+        if (listenerNode == null) {
+            return false;
+        }
+        SeparatedNodeList<FunctionArgumentNode> arguments;
+        if (listenerNode.kind() == SyntaxKind.EXPLICIT_NEW_EXPRESSION) {
+            arguments = ((ExplicitNewExpressionNode) listenerNode).parenthesizedArgList().arguments();
+        } else if (listenerNode.kind() == SyntaxKind.IMPLICIT_NEW_EXPRESSION &&
+                ((ImplicitNewExpressionNode) listenerNode).parenthesizedArgList().isPresent()) {
+            arguments = ((ImplicitNewExpressionNode) listenerNode).parenthesizedArgList().get().arguments();
+        } else {
+            return false;
+        }
+        for (int i = 1; i < arguments.size(); i++) {
+            FunctionArgumentNode argument = arguments.get(i);
+            ExpressionNode configExpression;
+            if (argument.kind() == SyntaxKind.POSITIONAL_ARG) {
+                configExpression = ((PositionalArgumentNode) argument).expression();
+            } else if (argument.kind() == SyntaxKind.NAMED_ARG) {
+                NamedArgumentNode namedArgumentNode = (NamedArgumentNode) argument;
+                if ("httpVersion".equals(namedArgumentNode.argumentName().name().text())) {
+                    // new http:Listener(9090, httpVersion = http:HTTP_2_0)
+                    return isHttp2Version(namedArgumentNode.expression());
+                }
+                configExpression = namedArgumentNode.expression();
+            } else {
+                continue;
+            }
+            Node configNode = configExpression;
+            if (configExpression.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
+                configNode = this.moduleLevelVariables.get(((SimpleNameReferenceNode) configExpression).name().text());
+            }
+            if (configNode != null && configNode.kind() == SyntaxKind.MAPPING_CONSTRUCTOR &&
+                    isHttp2Config((MappingConstructorExpressionNode) configNode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isHttp2Config(MappingConstructorExpressionNode mapping) {
+        for (MappingFieldNode mappingFieldNode : mapping.fields()) {
+            if (mappingFieldNode.kind() != SyntaxKind.SPECIFIC_FIELD) {
+                continue;
+            }
+            SpecificFieldNode specificFieldNode = (SpecificFieldNode) mappingFieldNode;
+            if ("httpVersion".equals(getNameOfIdentifier(specificFieldNode.fieldName())) &&
+                    specificFieldNode.valueExpr().isPresent()) {
+                return isHttp2Version(specificFieldNode.valueExpr().get());
+            }
+        }
+        return false;
+    }
+
+    private boolean isHttp2Version(ExpressionNode expressionNode) {
+        if (expressionNode.kind() == SyntaxKind.STRING_LITERAL) {
+            String text = ((BasicLiteralNode) expressionNode).literalToken().text();
+            return "2.0".equals(text.substring(1, text.length() - 1));
+        }
+        if (expressionNode.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE) {
+            return "HTTP_2_0".equals(((QualifiedNameReferenceNode) expressionNode).identifier().text());
+        }
+        return false;
+    }
+
+    private Optional<String> getMessageBrokerModule(TypeSymbol typeSymbol) {
+        Optional<ModuleID> module = getListenerModule(typeSymbol);
+        if (module.isEmpty() || !"ballerinax".equals(module.get().orgName())) {
+            return Optional.empty();
+        }
+        ModuleID moduleId = module.get();
+        switch (moduleId.moduleName()) {
+            case "kafka":
+            case "rabbitmq":
+            case "nats":
+                return Optional.of(moduleId.moduleName());
+            default:
+                return Optional.empty();
+        }
+    }
+
     private String toAbsoluteServicePath(NodeList<Node> servicePathNodes) {
         StringBuilder absoluteServicePath = new StringBuilder();
         for (Node serviceNode : servicePathNodes) {
@@ -671,6 +894,10 @@ public class C2CVisitor extends NodeVisitor {
             } else if (serviceNode.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
                 IdentifierToken token = (IdentifierToken) serviceNode;
                 absoluteServicePath.append(token.text());
+            } else if (serviceNode.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM ||
+                    serviceNode.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                // Path parameters are kept as written, e.g. [int id], so that they can be matched as wildcards.
+                absoluteServicePath.append(serviceNode.toSourceCode().trim());
             }
         }
         return absoluteServicePath.toString();
@@ -30,9 +30,15 @@ import java.util.Optional;
 @Getter
 @Setter
 public class ListenerInfo {
+    public static final String HTTP = "http";
+    public static final String HTTP2 = "http2";
+    public static final String GRPC = "grpc";
+    public static final String WEBSOCKET = "websocket";
+
     private String name;
     private int port;
     private HttpsConfig config;
+    private String protocol;
 
     public ListenerInfo(String name, int port) {
         this.name = name;
@@ -26,11 +26,13 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import lombok.Getter;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Represents service related data of a Project after parsed from Syntax trees.
@@ -42,6 +44,8 @@ public class ProjectServiceInfo {
 
     private final List<ServiceInfo> serviceList;
     private final List<ClientInfo> clientList;
+    private final Set<String> messageBrokers;
+    private final Set<String> observabilityImports;
     private Task task = null;
 
     public ProjectServiceInfo(Project project) {
@@ -51,10 +55,11 @@ public class ProjectServiceInfo {
     public ProjectServiceInfo(Project project, List<Diagnostic> diagnostics) {
         this.serviceList = new ArrayList<>();
         this.clientList = new ArrayList<>();
+        this.messageBrokers = new LinkedHashSet<>();
+        this.observabilityImports = new LinkedHashSet<>();
         Package currentPackage = project.currentPackage();
-        Iterable<Module> modules = currentPackage.modules();
-        for (Module module : modules) {
-            Collection<DocumentId> documentIds = module.documentIds();
+        for (Module module : getSortedModules(currentPackage)) {
+            List<DocumentId> documentIds = getSortedDocumentIds(module);
             //Retrieve Module level variables and store in hashmap
             Map<String, Node> moduleLevelVariables = new HashMap<>();
             SemanticModel semanticModel = module.getCompilation().getSemanticModel();
@@ -75,11 +80,40 @@ public class ProjectServiceInfo {
                 node.accept(visitor);
                 serviceList.addAll(visitor.getServices());
                 clientList.addAll(visitor.getClientInfos());
-                this.task = visitor.getTask();
+                messageBrokers.addAll(visitor.getMessageBrokers());
+                observabilityImports.addAll(visitor.getObservabilityImports());
+                if (visitor.getTask() != null) {
+                    this.task = visitor.getTask();
+                }
             }
         }
     }
 
+    /**
+     * Get the modules of the package ordered by name, so that the artifacts do not depend on iteration order.
+     *
+     * @param currentPackage package
+     * @return modules ordered by name
+     */
+    public static List<Module> getSortedModules(Package currentPackage) {
+        List<Module> modules = new ArrayList<>();
+        currentPackage.modules().forEach(modules::add);
+        modules.sort(Comparator.comparing(module -> module.moduleName().toString()));
+        return modules;
+    }
+
+    /**
+     * Get the documents of the module ordered by file name.
+     *
+     * @param module module
+     * @return document ids ordered by file name
+     */
+    public static List<DocumentId> getSortedDocumentIds(Module module) {
+        List<DocumentId> documentIds = new ArrayList<>(module.documentIds());
+        documentIds.sort(Comparator.comparing(documentId -> module.document(documentId).name()));
+        return documentIds;
+    }
+
     public Optional<Task> getTask() {
         return Optional.ofNullable(task);
     }
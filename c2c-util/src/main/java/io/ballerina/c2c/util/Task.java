@@ -58,6 +58,10 @@ public class Task {
     }
 
     public String getSchedule () {
+        if (minutes == null) {
+            // Task without a schedule.
+            return null;
+        }
         return minutes + " " + hours + " " + dayOfMonth + " "
                 + monthOfYear + " " + daysOfWeek;
     }